@@ -0,0 +1,189 @@
+package com.project.news_app.adapters;
+
+import android.app.Instrumentation;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.util.Log;
+import android.view.FrameMetrics;
+import android.view.Window;
+
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.project.news_app.activities.CategoryActivity;
+import com.project.news_app.constants.CategoryActivityConstants;
+import com.project.news_app.data.News;
+import com.project.news_app.utils.CommonUtils;
+import com.project.news_app.utils.TextLayouts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts janky frames while scrolling a 100-item category with long headlines, with and without
+ * precomputed text layouts.
+ * <ul>
+ *     <li>warm - layouts were computed in the background, binds attach them.</li>
+ *     <li>cold - layouts were dropped, binds lay out texts on the main thread.</li>
+ * </ul>
+ * Both scroll the list once beforehand, so views are inflated and every text style is known.
+ * Results are logged and reported as instrumentation status, e.g.
+ * "./gradlew :app:connectedAndroidTest".
+ */
+@RunWith(AndroidJUnit4.class)
+public class TextLayoutJankBenchmark implements CategoryActivityConstants {
+    private static final String TAG = "TextLayoutJankBenchmark";
+
+    // Number of news items in the category.
+    private static final int SIZE = 100;
+
+    // Pixels scrolled per frame.
+    private static final int SCROLL_STEP = 80;
+
+    // Frames taking longer than this (in nanoseconds) miss a 60Hz vsync.
+    private static final long FRAME_DEADLINE = TimeUnit.MILLISECONDS.toNanos(16);
+
+    // Time left to the background layouts before measuring, in milliseconds.
+    private static final long SETTLE = 1000;
+
+    private final Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+
+    private final Context context = instrumentation.getTargetContext();
+
+    // Receives the frame metrics of the Activity's window.
+    private final HandlerThread metricsThread = new HandlerThread(TAG);
+
+    private ActivityScenario<CategoryActivity> scenario;
+
+    private RecyclerView recyclerView;
+
+    @Before
+    public void setUp() throws Exception {
+        metricsThread.start();
+
+        Intent intent = new Intent(context, CategoryActivity.class)
+                .putExtra(EXTRA_PATH, "world")
+                .putExtra(EXTRA_TITLE, "World");
+        scenario = ActivityScenario.launch(intent);
+
+        // Replacing the downloaded category with the benchmark's items.
+        scenario.onActivity(activity -> {
+            recyclerView = new RecyclerView(activity);
+            CommonUtils.setupRecyclerView(activity, recyclerView,
+                    new NewsAdapter(activity, getNews()), LinearLayoutManager.VERTICAL);
+            activity.setContentView(recyclerView);
+        });
+        instrumentation.waitForIdleSync();
+
+        // Binding every view type once, then going back to the top.
+        scrollToEnd();
+        instrumentation.runOnMainSync(() -> recyclerView.scrollToPosition(0));
+        instrumentation.waitForIdleSync();
+        Thread.sleep(SETTLE);
+    }
+
+    @After
+    public void tearDown() {
+        scenario.close();
+        metricsThread.quitSafely();
+    }
+
+    @Test
+    public void scrollCategory_warm() {
+        report("warm", measure());
+    }
+
+    @Test
+    public void scrollCategory_cold() {
+        TextLayouts.clear();
+        report("cold", measure());
+    }
+
+    /**
+     * Scrolls to the end of the list while counting frames.
+     *
+     * @return Number of frames and number of janky frames.
+     */
+    private int[] measure() {
+        AtomicInteger frames = new AtomicInteger();
+        AtomicInteger janky = new AtomicInteger();
+
+        Window.OnFrameMetricsAvailableListener listener = (window, metrics, dropped) -> {
+            frames.incrementAndGet();
+            if (metrics.getMetric(FrameMetrics.TOTAL_DURATION) > FRAME_DEADLINE) {
+                janky.incrementAndGet();
+            }
+        };
+
+        scenario.onActivity(activity -> activity.getWindow().addOnFrameMetricsAvailableListener(
+                listener, new Handler(metricsThread.getLooper())));
+        scrollToEnd();
+        scenario.onActivity(activity ->
+                activity.getWindow().removeOnFrameMetricsAvailableListener(listener));
+
+        return new int[]{frames.get(), janky.get()};
+    }
+
+    /**
+     * Scrolls the list by {@link #SCROLL_STEP} per frame until the last item is shown.
+     */
+    private void scrollToEnd() {
+        boolean scrolled = true;
+        while (scrolled) {
+            boolean[] moved = new boolean[1];
+            instrumentation.runOnMainSync(() -> {
+                moved[0] = recyclerView.canScrollVertically(1);
+                recyclerView.scrollBy(0, SCROLL_STEP);
+            });
+            scrolled = moved[0];
+            instrumentation.waitForIdleSync();
+        }
+    }
+
+    /**
+     * Logs and reports "result" of the run named "name".
+     */
+    private void report(String name, int[] result) {
+        Bundle results = new Bundle();
+        results.putInt(name + "_frames", result[0]);
+        results.putInt(name + "_janky_frames", result[1]);
+        instrumentation.sendStatus(0, results);
+
+        Log.i(TAG, name + " - frames: " + result[0] + ", janky frames: " + result[1]);
+    }
+
+    /**
+     * @return News items of a category with long headlines, view types following the patterns
+     * of CategoryActivity.
+     */
+    private static ArrayList<News> getNews() {
+        int[][] patterns = {PATTERN_ONE, PATTERN_TWO, PATTERN_THREE, PATTERN_FOUR, PATTERN_FIVE,
+                PATTERN_SIX};
+
+        ArrayList<News> newsList = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            News news = new News();
+            news.setHeadline("Headline " + i + " - ministers face growing pressure over the"
+                    + " handling of the crisis as opposition parties demand an inquiry into"
+                    + " what was known and when");
+            news.setSectionName("World news");
+            news.setByLine("Correspondent " + i + " in Brussels and Diplomatic editor " + i);
+            news.setArticleURL("https://www.theguardian.com/world/" + i);
+            news.setViewType(patterns[i / 10 % patterns.length][i % 10]);
+            newsList.add(news);
+        }
+        return newsList;
+    }
+}
@@ -0,0 +1,264 @@
+package com.project.news_app.adapters;
+
+import android.app.Instrumentation;
+import android.content.Context;
+import android.content.Intent;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.net.Uri;
+import android.os.Bundle;
+import android.os.Debug;
+import android.os.SystemClock;
+import android.util.Log;
+import android.util.Size;
+
+import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.request.RequestOptions;
+import com.project.news_app.activities.CategoryActivity;
+import com.project.news_app.constants.CategoryActivityConstants;
+import com.project.news_app.data.News;
+import com.project.news_app.utils.CommonUtils;
+import com.project.news_app.utils.ImageUtils;
+import com.project.news_app.viewmodels.CategoryViewModel;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * Measures the heap used while scrolling a 100-item category, with the thumbnail options of
+ * {@link com.project.news_app.utils.NewsGlideModule} and with Glide's default options in the same
+ * run.
+ * <ul>
+ *     <li>tuned - thumbnails are decoded as RGB_565.</li>
+ *     <li>default - thumbnails are decoded as ARGB_8888. Hardware Bitmaps stay disallowed, their
+ *     pixels are not part of the measured heaps.</li>
+ * </ul>
+ * Both runs decode thumbnails at the size of their layout's ImageView and share the memory
+ * cache and Bitmap pool sizes of the app. Thumbnails are JPEGs
+ * written to the cache directory, and the category's own download is over before measuring, so
+ * the network doesn't take part in the measurement.
+ * <p>
+ * Results are logged and reported as instrumentation status, e.g.
+ * "./gradlew :app:connectedAndroidTest".
+ */
+@RunWith(AndroidJUnit4.class)
+public class ThumbnailHeapBenchmark implements CategoryActivityConstants {
+    private static final String TAG = "ThumbnailHeapBenchmark";
+
+    // Number of news items in the category.
+    private static final int SIZE = 100;
+
+    // Size of the thumbnails, larger than any thumbnail View.
+    private static final int SOURCE_WIDTH = 1000;
+    private static final int SOURCE_HEIGHT = 600;
+
+    // Pixels scrolled per frame.
+    private static final int SCROLL_STEP = 60;
+
+    // Time left to Glide between two scroll steps, in milliseconds.
+    private static final int FRAME = 16;
+
+    // Time the category's own download may take, in milliseconds.
+    private static final long TIMEOUT_LOAD = 60000;
+
+    private final Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+
+    private final Context context = instrumentation.getTargetContext();
+
+    // Links to the thumbnails.
+    private final ArrayList<String> thumbnails = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        File directory = new File(context.getCacheDir(), TAG);
+        assertTrue(directory.isDirectory() || directory.mkdirs());
+
+        Bitmap bitmap = Bitmap.createBitmap(SOURCE_WIDTH, SOURCE_HEIGHT, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        for (int i = 0; i < SIZE; i++) {
+            // Distinct images, so every item is decoded.
+            canvas.drawColor(Color.rgb(i * 2, 255 - i * 2, i));
+
+            File file = new File(directory, i + ".jpg");
+            try (OutputStream out = new FileOutputStream(file)) {
+                bitmap.compress(Bitmap.CompressFormat.JPEG, 90, out);
+            }
+            thumbnails.add(Uri.fromFile(file).toString());
+        }
+        bitmap.recycle();
+    }
+
+    @Test
+    public void decode_usesThumbnailSizeAndRgb565() throws Exception {
+        Size size = ImageUtils.getThumbnailSize(context, TYPE_FOUR);
+        assertNotNull(size);
+
+        Bitmap bitmap = Glide.with(context)
+                .asBitmap()
+                .load(thumbnails.get(0))
+                .override(size.getWidth(), size.getHeight())
+                .submit()
+                .get();
+
+        assertEquals(Bitmap.Config.RGB_565, bitmap.getConfig());
+        assertTrue(bitmap.getWidth() < SOURCE_WIDTH);
+        assertTrue(bitmap.getHeight() < SOURCE_HEIGHT);
+    }
+
+    @Test
+    public void scrollCategory_heapUsage() throws Exception {
+        long[] defaults = scrollCategory(true);
+        long[] tuned = scrollCategory(false);
+
+        Bundle results = new Bundle();
+        report(results, "default", defaults);
+        report(results, "tuned", tuned);
+        instrumentation.sendStatus(0, results);
+    }
+
+    /**
+     * Scrolls the benchmark's items once, starting with empty Glide caches.
+     *
+     * @param defaultOptions True to load thumbnails with Glide's default options.
+     * @return Heap usage (in bytes) before scrolling and at its peak.
+     */
+    private long[] scrollCategory(boolean defaultOptions) throws Exception {
+        Glide.get(context).clearDiskCache();
+        instrumentation.runOnMainSync(() -> Glide.get(context).clearMemory());
+        Runtime.getRuntime().gc();
+
+        Intent intent = new Intent(context, CategoryActivity.class)
+                .putExtra(EXTRA_PATH, "world")
+                .putExtra(EXTRA_TITLE, "World");
+
+        try (ActivityScenario<CategoryActivity> scenario = ActivityScenario.launch(intent)) {
+            // Category's own download must not overlap the measurement.
+            CategoryViewModel[] viewModel = new CategoryViewModel[1];
+            scenario.onActivity(activity ->
+                    viewModel[0] = new ViewModelProvider(activity).get(CategoryViewModel.class));
+            waitForLoad(viewModel[0]);
+
+            RecyclerView[] recyclerView = new RecyclerView[1];
+
+            // Replacing the downloaded category with the benchmark's items.
+            scenario.onActivity(activity -> {
+                if (defaultOptions) {
+                    // Drops the options of NewsGlideModule for the loads of this Activity.
+                    Glide.with(activity).setDefaultRequestOptions(
+                            new RequestOptions().disallowHardwareConfig());
+                }
+
+                recyclerView[0] = new RecyclerView(activity);
+                CommonUtils.setupRecyclerView(activity, recyclerView[0],
+                        new NewsAdapter(activity, getNews()), LinearLayoutManager.VERTICAL);
+                activity.setContentView(recyclerView[0]);
+            });
+            instrumentation.waitForIdleSync();
+
+            long baseline = getHeapUsage();
+            long peak = baseline;
+
+            // Scrolling until the last item is shown.
+            boolean scrolled = true;
+            while (scrolled) {
+                boolean[] moved = new boolean[1];
+                instrumentation.runOnMainSync(() -> {
+                    moved[0] = recyclerView[0].canScrollVertically(1);
+                    recyclerView[0].scrollBy(0, SCROLL_STEP);
+                });
+                scrolled = moved[0];
+
+                instrumentation.waitForIdleSync();
+                sleep();
+                peak = Math.max(peak, getHeapUsage());
+            }
+            return new long[]{baseline, peak};
+        }
+    }
+
+    /**
+     * Waits until "viewModel" delivered the category, downloaded or not.
+     */
+    private void waitForLoad(CategoryViewModel viewModel) {
+        long deadline = SystemClock.uptimeMillis() + TIMEOUT_LOAD;
+        boolean[] loaded = new boolean[1];
+        while (!loaded[0]) {
+            assertTrue("Category didn't load", SystemClock.uptimeMillis() < deadline);
+            sleep();
+            instrumentation.runOnMainSync(() ->
+                    loaded[0] = viewModel.getNews().getValue() != null);
+        }
+    }
+
+    /**
+     * Logs "result" of the run named "name" and adds it to "results".
+     */
+    private static void report(Bundle results, String name, long[] result) {
+        long baseline = result[0];
+        long peak = result[1];
+
+        results.putLong(name + "_baseline_bytes", baseline);
+        results.putLong(name + "_peak_bytes", peak);
+        results.putLong(name + "_growth_bytes", peak - baseline);
+
+        Log.i(TAG, name + " - heap while scrolling " + SIZE + " items - baseline: " + baseline
+                + " bytes, peak: " + peak + " bytes, growth: " + (peak - baseline) + " bytes");
+    }
+
+    /**
+     * @return News items of a category, view types following the patterns of CategoryActivity.
+     */
+    private ArrayList<News> getNews() {
+        int[][] patterns = {PATTERN_ONE, PATTERN_TWO, PATTERN_THREE, PATTERN_FOUR, PATTERN_FIVE,
+                PATTERN_SIX};
+
+        ArrayList<News> newsList = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            News news = new News();
+            news.setHeadline("Headline " + i);
+            news.setSectionName("World news");
+            news.setByLine("Byline " + i);
+            news.setArticleURL("https://www.theguardian.com/world/" + i);
+            news.setThumbnailUrl(thumbnails.get(i));
+            news.setViewType(patterns[i / 10 % patterns.length][i % 10]);
+            newsList.add(news);
+        }
+        return newsList;
+    }
+
+    /**
+     * @return Bytes in use by the Java heap and the native heap, Bitmap pixels live in the
+     * latter.
+     */
+    private static long getHeapUsage() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory() + Debug.getNativeHeapAllocatedSize();
+    }
+
+    /**
+     * Lets Glide decode the thumbnails bound in the last frame.
+     */
+    private static void sleep() {
+        try {
+            Thread.sleep(FRAME);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.news_app;
+
+import android.app.Application;
+
+import com.project.news_app.utils.NetworkClient;
+import com.project.news_app.utils.TextLayouts;
+
+/**
+ * Sets up app-wide components before any Activity is created.
+ */
+public class NewsApp extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        // Stores responses from "The Guardian" API on disk.
+        NetworkClient.init(this);
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+
+        // App is in the background, text layouts are computed again when needed.
+        if (level >= TRIM_MEMORY_BACKGROUND) {
+            TextLayouts.clear();
+        }
+    }
+}
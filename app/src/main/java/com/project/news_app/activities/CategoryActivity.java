@@ -1,12 +1,9 @@
 package com.project.news_app.activities;
 
 import androidx.annotation.NonNull;
-import androidx.annotation.Nullable;
 import androidx.appcompat.app.ActionBar;
 import androidx.appcompat.app.AppCompatActivity;
-import androidx.loader.app.LoaderManager;
-import androidx.loader.content.AsyncTaskLoader;
-import androidx.loader.content.Loader;
+import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
 import android.content.Context;
@@ -21,20 +18,18 @@ import com.google.android.material.snackbar.Snackbar;
 import com.project.news_app.R;
 import com.project.news_app.adapters.NewsAdapter;
 import com.project.news_app.constants.CategoryActivityConstants;
-import com.project.news_app.constants.NetworkUtilsConstants;
 import com.project.news_app.data.News;
 import com.project.news_app.databinding.BasicRecyclerViewBinding;
 import com.project.news_app.utils.CommonUtils;
-import com.project.news_app.utils.JsonUtils;
-import com.project.news_app.utils.NetworkUtils;
+import com.project.news_app.utils.ThumbnailPreloader;
+import com.project.news_app.viewmodels.CategoryViewModel;
 
 import java.util.ArrayList;
 
 /**
  * Shows a list of {@link News} in RecyclerView in a VERTICAL orientation.
  */
-public class CategoryActivity extends AppCompatActivity implements
-        LoaderManager.LoaderCallbacks<ArrayList<News>>, CategoryActivityConstants {
+public class CategoryActivity extends AppCompatActivity implements CategoryActivityConstants {
     /**
      * Stores the path that locates the clicked News category/title in "The Guardian" API.
      */
@@ -50,6 +45,11 @@ public class CategoryActivity extends AppCompatActivity implements
      */
     private NewsAdapter adapter;
 
+    /**
+     * Downloads the clicked news category and keeps it across configuration changes.
+     */
+    private CategoryViewModel viewModel;
+
     /**
      * Performs View Binding.
      */
@@ -116,12 +116,11 @@ public class CategoryActivity extends AppCompatActivity implements
         // Initializing SwipeRefreshLayout.
         CommonUtils.setRefreshLayoutColors(binding.swipeToRefresh);
 
-        // Initializing LoaderManager.
-        LoaderManager loaderManager = LoaderManager.getInstance(this);
+        // Initializing ViewModel.
+        viewModel = new ViewModelProvider(this).get(CategoryViewModel.class);
 
         // Attaching listener.
-        binding.swipeToRefresh.setOnRefreshListener(() ->
-                loaderManager.restartLoader(LOADER_ID, null, this));
+        binding.swipeToRefresh.setOnRefreshListener(() -> viewModel.load(true));
 
         // Initializing ConnectivityManager.
         connectivityManager = (ConnectivityManager) getSystemService(Context.CONNECTIVITY_SERVICE);
@@ -149,8 +148,18 @@ public class CategoryActivity extends AppCompatActivity implements
         CommonUtils.setupRecyclerView(this, binding.recyclerViewDark, adapter,
                 LinearLayoutManager.VERTICAL);
 
+        // Downloading the following pages as the user scrolls.
+        CommonUtils.setupPaging(binding.recyclerViewDark, viewModel.getPager());
+
+        // Preloading thumbnails of the items about to be scrolled into view.
+        binding.recyclerViewDark.addOnScrollListener(new ThumbnailPreloader(this, adapter));
+
+        // Showing the stored feed until the fresh one is downloaded.
+        viewModel.getStoredNews().observe(this, this::onStoredNewsLoaded);
+        viewModel.getNews().observe(this, this::onNewsLoaded);
+
         // Downloading clicked news category data in a background Thread.
-        loaderManager.initLoader(LOADER_ID, null, this);
+        viewModel.loadIfNeeded(path);
     }
 
     @Override
@@ -204,118 +213,38 @@ public class CategoryActivity extends AppCompatActivity implements
         return super.onOptionsItemSelected(item);
     }
 
-    @NonNull
-    @Override
-    public Loader<ArrayList<News>> onCreateLoader(int id, @Nullable Bundle args) {
-        return new AsyncTaskLoader<ArrayList<News>>(this) {
-
-            // Stores the downloaded clicked news category's feed.
-            private ArrayList<News> news;
-
-            @Override
-            protected void onStartLoading() {
-                // Checks if cached (previously downloaded) news feed is available.
-                if (news != null && news.size() > 0) {
-                    // Use cached result.
-                    deliverResult(news);
-                } else {
-                    // Starts a background thread to download fresh news info.
-                    forceLoad();
-                }
-            }
-
-            @NonNull
-            @Override
-            public ArrayList<News> loadInBackground() {
-                // Stores downloaded news info.
-                ArrayList<News> newsFeed;
-
-                // Downloads news feed from "The Guardian" API's Section Endpoint.
-                String jsonResponse = NetworkUtils.downloadNewsData(
-                        NetworkUtils.makeNewsUrl(CategoryActivity.this, path,
-                                NetworkUtilsConstants.QP_VALUE_FIELDS, 100));
-
-                // Parses JSON response to a list of type News.
-                newsFeed = JsonUtils.parseNewsList(jsonResponse);
-
-                // Checks if news data is available before setting view type.
-                if (newsFeed.size() > 0) {
-                    // Sets "viewType" off all elements in "newsFeed" ArrayList.
-                    setViewType(newsFeed);
-                }
-                return newsFeed;
-            }
+    /**
+     * Shows the {@link News} items stored the last time this category was downloaded, until the
+     * fresh feed is available.
+     */
+    private void onStoredNewsLoaded(ArrayList<News> storedFeed) {
+        // Fresh feed is already shown.
+        if (storedFeed == null || (adapter.getNewsData() != null
+                && adapter.getNewsData().size() > 0)) {
+            return;
+        }
 
-            /**
-             * Chooses a random pattern for listing news items.
-             * <br/>
-             * Available Patterns - 6.
-             *
-             * @return Integer array containing view types.
-             */
-            private int[] getNewsPattern() {
-                // Picks a random number between 1 to 6.
-                int type = (int) (Math.random() * 6 + 1);
-
-                // Returns a random pattern.
-                switch (type) {
-                    case 2:
-                        return PATTERN_TWO;
-                    case 3:
-                        return PATTERN_THREE;
-                    case 4:
-                        return PATTERN_FOUR;
-                    case 5:
-                        return PATTERN_FIVE;
-                    case 6:
-                        return PATTERN_SIX;
-                    case 1:
-                    default:
-                        return PATTERN_ONE;
-                }
-            }
+        // Hiding ProgressBar.
+        hideProgressBar();
 
-            /**
-             * Sets view type for all {@link News} items stored in the list.
-             * <br/>
-             * View type is used by {@link NewsAdapter} to set custom item layout at every position.
-             */
-            private void setViewType(ArrayList<News> newsList) {
-                // Stores different view types that will be applied to the download news list.
-                int[] viewTypeArray = getNewsPattern();
-
-                // Used as "index" to access contents of "viewTypeArray".
-                int index = 0;
-
-                // Lopping through the downloaded news items in order to set view types.
-                for (int i = 0; i < newsList.size(); i++) {
-                    News item = newsList.get(i);
-
-                    // Changes pattern after every 10th news item.
-                    if (i % 10 == 0) {
-                        index = 0;
-                        viewTypeArray = getNewsPattern();
-                    }
-
-                    // Set view type to news item.
-                    item.setViewType(viewTypeArray[index]);
-                    index++;
-                }
-            }
+        // Hide status TextView.
+        hideEmptyView();
 
-            @Override
-            public void deliverResult(@Nullable ArrayList<News> data) {
-                // Caching downloaded news feed.
-                if (data != null) {
-                    news = data;
-                }
-                super.deliverResult(data);
-            }
-        };
+        // Updating the contents of NewsAdapter.
+        adapter.setNewsData(storedFeed);
     }
 
-    @Override
-    public void onLoadFinished(@NonNull Loader<ArrayList<News>> loader, ArrayList<News> data) {
+    /**
+     * Shows the downloaded {@link News} items, or the empty view if there are none.
+     *
+     * @param data News items of every page kept in memory. Null while downloading.
+     */
+    private void onNewsLoaded(ArrayList<News> data) {
+        // Still downloading.
+        if (data == null) {
+            return;
+        }
+
         // Hiding ProgressBar.
         hideProgressBar();
 
@@ -324,7 +253,7 @@ public class CategoryActivity extends AppCompatActivity implements
             binding.swipeToRefresh.setRefreshing(false);
         }
 
-        if (data != null && data.size() > 0) {
+        if (data.size() > 0) {
             // Hide status TextView.
             hideEmptyView();
 
@@ -335,10 +264,4 @@ public class CategoryActivity extends AppCompatActivity implements
             showEmptyView();
         }
     }
-
-    @Override
-    public void onLoaderReset(@NonNull Loader<ArrayList<News>> loader) {
-        // Clearing up the NewsAdapter.
-        adapter.setNewsData(null);
-    }
 }
\ No newline at end of file
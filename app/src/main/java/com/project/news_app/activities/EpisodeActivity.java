@@ -1,14 +1,11 @@
 package com.project.news_app.activities;
 
 import androidx.annotation.NonNull;
-import androidx.annotation.Nullable;
 import androidx.appcompat.app.ActionBar;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.content.res.AppCompatResources;
 import androidx.core.content.ContextCompat;
-import androidx.loader.app.LoaderManager;
-import androidx.loader.content.AsyncTaskLoader;
-import androidx.loader.content.Loader;
+import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
 import android.content.Context;
@@ -21,22 +18,19 @@ import android.view.View;
 import com.google.android.material.snackbar.Snackbar;
 import com.project.news_app.R;
 import com.project.news_app.adapters.EpisodeAdapter;
-import com.project.news_app.constants.NetworkUtilsConstants;
 import com.project.news_app.data.Episode;
 import com.project.news_app.data.Podcast;
 import com.project.news_app.databinding.BasicRecyclerViewBinding;
 import com.project.news_app.fragments.PodcastFragment;
 import com.project.news_app.utils.CommonUtils;
-import com.project.news_app.utils.JsonUtils;
-import com.project.news_app.utils.NetworkUtils;
+import com.project.news_app.viewmodels.EpisodeViewModel;
 
 import java.util.ArrayList;
 
 /**
  * Shows a list of {@link Episode} in RecyclerView in a VERTICAL orientation.
  */
-public class EpisodeActivity extends AppCompatActivity implements
-        LoaderManager.LoaderCallbacks<ArrayList<Episode>> {
+public class EpisodeActivity extends AppCompatActivity {
     /**
      * Stores basic title, path and thumbnail of the clicked Podcast in {@link PodcastFragment}.
      */
@@ -47,6 +41,11 @@ public class EpisodeActivity extends AppCompatActivity implements
      */
     private EpisodeAdapter adapter;
 
+    /**
+     * Downloads the episodes and keeps them across configuration changes.
+     */
+    private EpisodeViewModel viewModel;
+
     /**
      * Performs View Binding.
      */
@@ -116,12 +115,11 @@ public class EpisodeActivity extends AppCompatActivity implements
         // Initializing SwipeRefreshLayout.
         CommonUtils.setRefreshLayoutColors(binding.swipeToRefresh);
 
-        // Initializing LoaderManager.
-        LoaderManager loaderManager = LoaderManager.getInstance(this);
+        // Initializing ViewModel.
+        viewModel = new ViewModelProvider(this).get(EpisodeViewModel.class);
 
         // Attaching listener.
-        binding.swipeToRefresh.setOnRefreshListener(() ->
-                loaderManager.restartLoader(1, null, this));
+        binding.swipeToRefresh.setOnRefreshListener(() -> viewModel.load(true));
 
         // Initializing ConnectivityManager.
         connectivityManager = (ConnectivityManager) getSystemService(Context.CONNECTIVITY_SERVICE);
@@ -149,8 +147,12 @@ public class EpisodeActivity extends AppCompatActivity implements
         CommonUtils.setupRecyclerView(this, binding.recyclerViewDark, adapter,
                 LinearLayoutManager.VERTICAL);
 
+        // Showing the stored episodes until the fresh ones are downloaded.
+        viewModel.getStoredEpisodes().observe(this, this::onStoredEpisodesLoaded);
+        viewModel.getEpisodes().observe(this, this::onEpisodesLoaded);
+
         // Downloads a list of episodes of the clicked Podcast from "The Guardian" API.
-        loaderManager.initLoader(1, null, this);
+        viewModel.loadIfNeeded(clickedPodcast);
     }
 
     @Override
@@ -189,57 +191,41 @@ public class EpisodeActivity extends AppCompatActivity implements
         outState.putParcelable(KEY_PODCAST, clickedPodcast);
     }
 
-    @NonNull
-    @Override
-    public Loader<ArrayList<Episode>> onCreateLoader(int id, @Nullable Bundle args) {
-        return new AsyncTaskLoader<ArrayList<Episode>>(this) {
-
-            // Stores the downloaded episodes of the clicked Podcast.
-            private ArrayList<Episode> episodes;
-
-            @Override
-            protected void onStartLoading() {
-                // Checks if cached (previously downloaded) podcast episodes are available.
-                if (episodes != null && episodes.size() > 0) {
-                    deliverResult(episodes);
-                } else {
-                    // Starts a background thread to download fresh podcast episodes info.
-                    forceLoad();
-                }
-            }
+    /**
+     * Shows the {@link Episode} items stored the last time the clicked {@link Podcast} was
+     * downloaded, until the fresh episodes are available.
+     */
+    private void onStoredEpisodesLoaded(ArrayList<Episode> storedEpisodes) {
+        // Fresh episodes are already shown.
+        if (storedEpisodes == null || adapter.getItemCount() > 0) {
+            return;
+        }
 
-            @NonNull
-            @Override
-            public ArrayList<Episode> loadInBackground() {
-                // Downloads JSON response.
-                String jsonResponse = NetworkUtils.downloadNewsData(NetworkUtils.
-                        makeNewsUrl(EpisodeActivity.this, getString(clickedPodcast.getPath()),
-                                NetworkUtilsConstants.QP_VALUE_PODCAST,
-                                NetworkUtilsConstants.SIZE_PODCAST));
-
-                /*
-                 * Parses the downloaded response to a list of type "Episode".
-                 *
-                 * It also adds info. of the clicked Podcast in order to setup the
-                 * "PodcastAboutViewHolder" ViewHolder in "PodcastAdapter".
-                 */
-                return JsonUtils.parsePodcastList(jsonResponse, clickedPodcast);
-            }
+        // Hiding ProgressBar.
+        hideProgressBar();
 
-            @Override
-            public void deliverResult(@Nullable ArrayList<Episode> data) {
-                // Caching downloaded podcast episodes info.
-                if (data != null) {
-                    episodes = data;
-                }
-                super.deliverResult(data);
-            }
-        };
+        // Hide status TextView.
+        binding.statusDataNotAvailable.setVisibility(View.GONE);
+
+        // Change background.
+        binding.constraintLayout.setBackground(AppCompatResources.getDrawable(this,
+                R.drawable.gradient_podcast));
+
+        // Updating the contents of PodcastAdapter.
+        adapter.setEpisodeData(storedEpisodes);
     }
 
-    @Override
-    public void onLoadFinished(@NonNull Loader<ArrayList<Episode>> loader,
-                               ArrayList<Episode> data) {
+    /**
+     * Shows the downloaded {@link Episode} items, or the empty view if there are none.
+     *
+     * @param data Downloaded episodes. Null while downloading.
+     */
+    private void onEpisodesLoaded(ArrayList<Episode> data) {
+        // Still downloading.
+        if (data == null) {
+            return;
+        }
+
         // Hiding ProgressBar.
         hideProgressBar();
 
@@ -248,7 +234,7 @@ public class EpisodeActivity extends AppCompatActivity implements
             binding.swipeToRefresh.setRefreshing(false);
         }
 
-        if (data != null && data.size() > 0) {
+        if (data.size() > 0) {
             // Hide status TextView.
             binding.statusDataNotAvailable.setVisibility(View.GONE);
 
@@ -263,10 +249,4 @@ public class EpisodeActivity extends AppCompatActivity implements
             showEmptyView();
         }
     }
-
-    @Override
-    public void onLoaderReset(@NonNull Loader<ArrayList<Episode>> loader) {
-        // Clearing up the PodcastAdapter.
-        adapter.setEpisodeData(null);
-    }
 }
\ No newline at end of file
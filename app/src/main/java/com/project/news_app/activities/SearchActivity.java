@@ -1,20 +1,19 @@
 package com.project.news_app.activities;
 
 import androidx.annotation.NonNull;
-import androidx.annotation.Nullable;
 import androidx.appcompat.app.ActionBar;
 import androidx.appcompat.app.AppCompatActivity;
-import androidx.loader.app.LoaderManager;
-import androidx.loader.content.AsyncTaskLoader;
-import androidx.loader.content.Loader;
+import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.net.ConnectivityManager;
-import android.net.Uri;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Editable;
+import android.text.TextWatcher;
 import android.text.TextUtils;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -25,22 +24,18 @@ import com.google.android.material.snackbar.Snackbar;
 import com.project.news_app.R;
 import com.project.news_app.adapters.NewsAdapter;
 import com.project.news_app.constants.NetworkUtilsConstants;
-import com.project.news_app.constants.NewsAdapterConstants;
 import com.project.news_app.data.News;
 import com.project.news_app.databinding.ActivitySearchBinding;
 import com.project.news_app.utils.CommonUtils;
-import com.project.news_app.utils.JsonUtils;
-import com.project.news_app.utils.NetworkUtils;
+import com.project.news_app.utils.ThumbnailPreloader;
+import com.project.news_app.viewmodels.SearchViewModel;
 
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.ArrayList;
 
 /**
  * Shows a list of {@link News} based on query provided from an TextInputEditText.
  */
-public class SearchActivity extends AppCompatActivity implements
-        LoaderManager.LoaderCallbacks<ArrayList<News>> {
+public class SearchActivity extends AppCompatActivity {
     /**
      * Performs View Binding.
      */
@@ -52,14 +47,14 @@ public class SearchActivity extends AppCompatActivity implements
     private ConnectivityManager connectivityManager;
 
     /**
-     * Stores the query.
+     * Adapter provides {@link News} items to RecyclerView.
      */
-    private String query;
+    private NewsAdapter adapter;
 
     /**
-     * Adapter provides {@link News} items to RecyclerView.
+     * Searches news items and keeps the results across configuration changes.
      */
-    private NewsAdapter adapter;
+    private SearchViewModel viewModel;
 
     /**
      * Accesses the term provided by the user to search across configuration changes.
@@ -71,11 +66,24 @@ public class SearchActivity extends AppCompatActivity implements
      */
     private ConnectivityManager.NetworkCallback networkCallback;
 
+    /**
+     * Delays searching the entered query until the user stops typing.
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Searches the entered query once typing pauses.
+     */
+    private final Runnable debouncedSearch = this::searchEnteredQuery;
+
     @SuppressLint("ClickableViewAccessibility")
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
+        // Stores the query.
+        String query;
+
         // Perform operations when SearchActivity is started for the first time.
         if (savedInstanceState == null) {
             // Default search query.
@@ -110,8 +118,8 @@ public class SearchActivity extends AppCompatActivity implements
         // Registering NetworkCallback.
         connectivityManager.registerDefaultNetworkCallback(networkCallback);
 
-        // Initializing LoaderManager.
-        LoaderManager loaderManager = LoaderManager.getInstance(this);
+        // Initializing ViewModel.
+        viewModel = new ViewModelProvider(this).get(SearchViewModel.class);
 
         // Attaching a listener which will hide the keyboard as soon as user touches the layout.
         binding.recyclerViewSearch.setOnTouchListener((v, event) -> {
@@ -123,54 +131,59 @@ public class SearchActivity extends AppCompatActivity implements
         binding.editTextSearch.setOnClickListener(view ->
                 binding.editTextSearch.setCursorVisible(true));
 
+        /*
+         * Attaching a listener to TextInputEditText which searches the entered query once the
+         * user stops typing for DEBOUNCE_SEARCH milliseconds. Every keystroke postpones the
+         * search, so only the last query of a burst is sent.
+         */
+        binding.editTextSearch.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable editable) {
+                handler.removeCallbacks(debouncedSearch);
+                if (!TextUtils.isEmpty(editable.toString().trim())) {
+                    handler.postDelayed(debouncedSearch, NetworkUtilsConstants.DEBOUNCE_SEARCH);
+                }
+            }
+        });
+
         /*
          * Attaching a listener to TextInputEditText which gets a callback whenever the user
          * presses the ENTER key on the keyboard.
          *
-         * Restarts the Loader to download news based on new query.
+         * Searches the entered query right away.
          */
         binding.editTextSearch.setOnEditorActionListener((v, actionId, event) -> {
 
             // Checks the if (Search) key is clicked.
             if (actionId == EditorInfo.IME_ACTION_SEARCH) {
+                // Typing is over, no need to wait.
+                handler.removeCallbacks(debouncedSearch);
+
                 // Hides the keyboard.
                 hideKeyboard();
 
-                // Disables the
+                // Disables the cursor.
                 binding.editTextSearch.setCursorVisible(false);
 
                 // Getting the entered query from EditText.
                 Editable editable = binding.editTextSearch.getText();
                 if (editable != null) {
-                    String query = editable.toString();
-                    if (TextUtils.isEmpty(query)) {
+                    String enteredQuery = editable.toString();
+                    if (TextUtils.isEmpty(enteredQuery.trim())) {
                         // Notify user entered query is empty via Toast.
                         CommonUtils.showToast(SearchActivity.this,
                                 R.string.toast_query_unavailable);
                     } else {
-                        // Trimming the entered query.
-                        query = query.trim();
-
-                        // Checks if entered query is NOT same as the previous query.
-                        if (!(SearchActivity.this.query.equalsIgnoreCase(query))) {
-                            // Updating the query.
-                            SearchActivity.this.query = query;
-
-                            // Emptying the adapter.
-                            adapter.setNewsData(null);
-
-                            // Scrolls the RecyclerView back to top.
-                            binding.recyclerViewSearch.scrollToPosition(0);
-
-                            // Hide the "No Result Found" TextView.
-                            hideEmptyView();
-
-                            // Show Progress Bar.
-                            binding.progressBarSearch.setVisibility(View.VISIBLE);
-
-                            // Restarting Loader.
-                            loaderManager.restartLoader(22, null, SearchActivity.this);
-                        }
+                        // Searching the trimmed query.
+                        search(enteredQuery.trim());
                     }
                 }
                 return true;
@@ -185,8 +198,58 @@ public class SearchActivity extends AppCompatActivity implements
         CommonUtils.setupRecyclerView(this, binding.recyclerViewSearch, adapter,
                 LinearLayoutManager.VERTICAL);
 
-        // Downloading searched news data in a background Thread.
-        loaderManager.initLoader(22, null, this);
+        // Downloading the following pages as the user scrolls.
+        CommonUtils.setupPaging(binding.recyclerViewSearch, viewModel.getPager());
+
+        // Preloading thumbnails of the items about to be scrolled into view.
+        binding.recyclerViewSearch.addOnScrollListener(new ThumbnailPreloader(this, adapter));
+
+        // Showing results found on the device until results from "The Guardian" API arrive.
+        viewModel.getLocalResults().observe(this, this::onLocalResultsLoaded);
+        viewModel.getResults().observe(this, this::onResultsLoaded);
+
+        // Searching news data in a background Thread, unless it survived a configuration change.
+        search(query);
+    }
+
+    /**
+     * Searches the query currently entered in TextInputEditText.
+     */
+    private void searchEnteredQuery() {
+        Editable editable = binding.editTextSearch.getText();
+        if (editable != null && !TextUtils.isEmpty(editable.toString().trim())) {
+            search(editable.toString().trim());
+        }
+    }
+
+    /**
+     * Shows news items matching "query". Results of a recent query are shown right away,
+     * otherwise the search still in flight is cancelled.
+     *
+     * @param query Trimmed query entered by the user.
+     */
+    private void search(String query) {
+        // Checks if entered query is same as the previous query.
+        if (!viewModel.search(query)) {
+            return;
+        }
+
+        // Scrolls the RecyclerView back to top.
+        binding.recyclerViewSearch.scrollToPosition(0);
+
+        // Checks if the query was searched recently, its results are already shown.
+        if (viewModel.getResults().getValue() != null) {
+            return;
+        }
+
+        // Hide the "No Result Found" TextView.
+        hideEmptyView();
+
+        // Emptying the adapter.
+        adapter.setNewsData(null);
+
+        // Show Progress Bar.
+        binding.progressBarSearch.setVisibility(View.VISIBLE);
     }
 
     /**
@@ -209,7 +272,7 @@ public class SearchActivity extends AppCompatActivity implements
         super.onSaveInstanceState(outState);
 
         // Backing up the user provided query.
-        outState.putString(KEY_SEARCH, query);
+        outState.putString(KEY_SEARCH, viewModel.getQuery());
     }
 
     /**
@@ -225,6 +288,9 @@ public class SearchActivity extends AppCompatActivity implements
 
         // Unregistering NetworkCallback.
         connectivityManager.unregisterNetworkCallback(networkCallback);
+
+        // Dropping the pending search.
+        handler.removeCallbacks(debouncedSearch);
     }
 
     /**
@@ -234,86 +300,41 @@ public class SearchActivity extends AppCompatActivity implements
         binding.progressBarSearch.setVisibility(View.GONE);
     }
 
-    @NonNull
-    @Override
-    public Loader<ArrayList<News>> onCreateLoader(int id, @Nullable Bundle args) {
-        return new AsyncTaskLoader<ArrayList<News>>(this) {
-
-            // Stores the downloaded searched news data.
-            private ArrayList<News> news;
-
-            @Override
-            protected void onStartLoading() {
-                // Checks if cached (previously downloaded) searched news data is available.
-                if (news != null && news.size() > 0) {
-                    // Use cached result.
-                    deliverResult(news);
-                } else {
-                    // Starts a background thread to download new searched news data.
-                    forceLoad();
-                }
-            }
-
-            /**
-             * Creates search news item URL that points to "The Guardian" API's Content Endpoint.
-             */
-            private URL getSearchUrl() {
-                URL url = NetworkUtils.makeNewsUrl(SearchActivity.this,
-                        NetworkUtilsConstants.PATH_SEARCH, NetworkUtilsConstants.QP_VALUE_FIELDS,
-                        100);
-
-                // Adding "query" to "url".
-                Uri uri = Uri.parse(url.toString());
-                uri = uri.buildUpon()
-                        .appendQueryParameter(NetworkUtilsConstants.QP_KEY_SEARCH, query)
-                        .build();
-
-                try {
-                    // Updating search url.
-                    return new URL(uri.toString());
-                } catch (MalformedURLException e) {
-                    return null;
-                }
-            }
-
-            @NonNull
-            @Override
-            public ArrayList<News> loadInBackground() {
-                // Stores downloaded searched news data.
-                ArrayList<News> searchedNews;
-
-                // Downloads searched items from "The Guardian" API's Content Endpoint.
-                String jsonResponse = NetworkUtils.downloadNewsData(getSearchUrl());
+    /**
+     * Shows {@link News} items found on the device until results from "The Guardian" API are
+     * available.
+     */
+    private void onLocalResultsLoaded(ArrayList<News> localNews) {
+        // Results from "The Guardian" API are already shown.
+        if (localNews == null) {
+            return;
+        }
 
-                // Parses JSON response to a list of type News.
-                searchedNews = JsonUtils.parseNewsList(jsonResponse);
+        // Hiding ProgressBar.
+        hideProgressBar();
 
-                // Checks if news data is available before setting view type.
-                if (searchedNews.size() > 0) {
-                    for (News item : searchedNews) {
-                        item.setViewType(NewsAdapterConstants.TYPE_TWELVE);
-                    }
-                }
-                return searchedNews;
-            }
+        // Hide status TextView.
+        hideEmptyView();
 
-            @Override
-            public void deliverResult(@Nullable ArrayList<News> data) {
-                // Caching downloaded news feed.
-                if (data != null) {
-                    news = data;
-                }
-                super.deliverResult(data);
-            }
-        };
+        // Updating the contents of NewsAdapter.
+        adapter.setNewsData(localNews);
     }
 
-    @Override
-    public void onLoadFinished(@NonNull Loader<ArrayList<News>> loader, ArrayList<News> data) {
+    /**
+     * Shows the search results, or the empty view if there are none.
+     *
+     * @param data News items of every page kept in memory. Null while searching.
+     */
+    private void onResultsLoaded(ArrayList<News> data) {
+        // Still searching.
+        if (data == null) {
+            return;
+        }
+
         // Hiding ProgressBar.
         hideProgressBar();
 
-        if (data != null && data.size() > 0) {
+        if (data.size() > 0) {
             // Hide status TextView.
             hideEmptyView();
 
@@ -328,10 +349,4 @@ public class SearchActivity extends AppCompatActivity implements
             adapter.setNewsData(null);
         }
     }
-
-    @Override
-    public void onLoaderReset(@NonNull Loader<ArrayList<News>> loader) {
-        // Clearing up the NewsAdapter.
-        adapter.setNewsData(null);
-    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.project.news_app.adapters;
 
-import android.annotation.SuppressLint;
 import android.content.Context;
 import android.text.TextUtils;
 import android.view.LayoutInflater;
@@ -14,6 +13,8 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.content.res.AppCompatResources;
 import androidx.constraintlayout.widget.ConstraintLayout;
 import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.project.news_app.R;
@@ -23,6 +24,7 @@ import com.project.news_app.activities.EpisodeActivity;
 import com.project.news_app.utils.CommonUtils;
 
 import java.util.ArrayList;
+import java.util.Objects;
 
 /**
  * Adapter provides {@link Episode} to the RecyclerView in {@link EpisodeActivity}.
@@ -34,9 +36,11 @@ public class EpisodeAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder
     private final Context context;
 
     /**
-     * Stores downloaded episodes info.
+     * Compares the shown and the new episodes on the CPU lane and notifies the Adapter of
+     * the inserted, removed, moved and changed episodes only.
      */
-    private ArrayList<Episode> episodes;
+    private final AsyncListDiffer<Episode> differ = CommonUtils.newDiffer(this,
+            new EpisodeDiffCallback());
 
     /**
      * View type inflated from {@link R.layout#episode_item} layout.
@@ -50,7 +54,7 @@ public class EpisodeAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder
 
     public EpisodeAdapter(Context context, ArrayList<Episode> episodes) {
         this.context = context;
-        this.episodes = episodes;
+        setEpisodeData(episodes);
     }
 
     @NonNull
@@ -83,7 +87,7 @@ public class EpisodeAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder
     @Override
     public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
         // Get the episode at specified position.
-        Episode episode = episodes.get(position);
+        Episode episode = differ.getCurrentList().get(position);
 
         // Binding current episode data based on view type.
         switch (holder.getItemViewType()) {
@@ -99,27 +103,22 @@ public class EpisodeAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder
 
     @Override
     public int getItemViewType(int position) {
-        return episodes.get(position).getViewType();
+        return differ.getCurrentList().get(position).getViewType();
     }
 
     @Override
     public int getItemCount() {
-        // Returns 0 if list is empty.
-        if (episodes == null) {
-            return 0;
-        }
-
-        // Returns total number of episode items.
-        return episodes.size();
+        // Returns total number of episode items. 0 if list is empty.
+        return differ.getCurrentList().size();
     }
 
     /**
-     * Sets new episode data to Adapter.
+     * Sets new episode data to Adapter. Only the episodes that changed are rebound.
+     * <p>
+     * "episodes" must not be modified afterwards.
      */
-    @SuppressLint("NotifyDataSetChanged")
     public void setEpisodeData(ArrayList<Episode> episodes) {
-        this.episodes = episodes;
-        notifyDataSetChanged();
+        differ.submitList(episodes);
     }
 
     /**
@@ -200,7 +199,7 @@ public class EpisodeAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder
             int currentPosition = getAdapterPosition();
 
             // Getting the current episode.
-            Episode episode = episodes.get(currentPosition);
+            Episode episode = differ.getCurrentList().get(currentPosition);
 
             // Get the clicked view ID.
             int clickedViewID = view.getId();
@@ -252,7 +251,8 @@ public class EpisodeAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder
                     CommonUtils.setThumbnail(context, thumbnailExpanded, thumbnail);
                 } else {
                     // Shows the podcast's thumbnail instead.
-                    thumbnailExpanded.setImageResource(episodes.get(0).getPodcast().getThumbnail());
+                    thumbnailExpanded.setImageResource(differ.getCurrentList().get(0).getPodcast()
+                            .getThumbnail());
                 }
 
                 // Sets expanded title.
@@ -447,4 +447,33 @@ public class EpisodeAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder
             CommonUtils.openBrowserOrApp(context, url, R.string.toast_browser_unavailable);
         }
     }
+
+    /**
+     * Compares {@link Episode} items. Two items are the same episode if they point to the same
+     * episode in "The Guardian" website.
+     */
+    private static class EpisodeDiffCallback extends DiffUtil.ItemCallback<Episode> {
+
+        @Override
+        public boolean areItemsTheSame(@NonNull Episode oldEpisode, @NonNull Episode newEpisode) {
+            return oldEpisode.getViewType() == newEpisode.getViewType()
+                    && Objects.equals(oldEpisode.getEpisodeUrl(), newEpisode.getEpisodeUrl());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Episode oldEpisode,
+                                          @NonNull Episode newEpisode) {
+            // Info. about the podcast is updated in place while parsing, so it's always rebound.
+            if (newEpisode.getViewType() == PODCAST_ABOUT) {
+                return false;
+            }
+
+            return oldEpisode.isExpanded() == newEpisode.isExpanded()
+                    && oldEpisode.getPublicationTime() == newEpisode.getPublicationTime()
+                    && Objects.equals(oldEpisode.getHeadline(), newEpisode.getHeadline())
+                    && Objects.equals(oldEpisode.getStandFirst(), newEpisode.getStandFirst())
+                    && Objects.equals(oldEpisode.getByLine(), newEpisode.getByLine())
+                    && Objects.equals(oldEpisode.getThumbnailUrl(), newEpisode.getThumbnailUrl());
+        }
+    }
 }
\ No newline at end of file
@@ -1,8 +1,8 @@
 package com.project.news_app.adapters;
 
-import android.annotation.SuppressLint;
 import android.content.Context;
 import android.text.TextUtils;
+import android.util.SparseArray;
 import android.util.TypedValue;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -13,36 +13,69 @@ import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.appcompat.content.res.AppCompatResources;
 import androidx.core.content.ContextCompat;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.project.news_app.R;
 import com.project.news_app.constants.NewsAdapterConstants;
+import com.project.news_app.constants.TaskSchedulerConstants;
+import com.project.news_app.constants.TextLayoutsConstants;
 import com.project.news_app.data.News;
 import com.project.news_app.fragments.HomeFragment;
 import com.project.news_app.utils.CommonUtils;
+import com.project.news_app.utils.TaskScheduler;
+import com.project.news_app.utils.TextLayouts;
 import com.project.news_app.activities.CategoryActivity;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Adapter provides {@link News} to RecyclerView in {@link NewsFeedAdapter} and
  * {@link CategoryActivity}.
  */
 public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> implements
-        NewsAdapterConstants {
+        NewsAdapterConstants, TextLayoutsConstants {
     /**
-     * Stores news item under clicked news category.
+     * Identifies news items by their article URL. Items whose shown info. is unchanged are not
+     * rebound.
+     */
+    public static final DiffUtil.ItemCallback<News> DIFF_CALLBACK = new NewsDiffCallback();
+
+    /**
+     * Stores news item under clicked news category, as last passed to the Adapter.
      */
     private ArrayList<News> newsItems;
 
+    /**
+     * Compares the shown and the new news items on the CPU lane and notifies the Adapter
+     * of the inserted, removed, moved and changed items only.
+     */
+    private final AsyncListDiffer<News> differ = CommonUtils.newDiffer(this,
+            DIFF_CALLBACK);
+
     /**
      * Used to load images via Glide library.
      */
     private final Context context;
 
+    /**
+     * Number of styles the text layouts of the shown news items were computed for, see
+     * {@link TextLayouts#getStyleCount()}.
+     */
+    private int precomputedStyles;
+
+    /**
+     * Computes the text layouts of the shown news items in the background.
+     */
+    private TaskScheduler.Task<Void> precomputeTask;
+
     public NewsAdapter(Context context, ArrayList<News> newsItems) {
         this.context = context;
-        this.newsItems = newsItems;
+        setNewsData(newsItems);
     }
 
     @NonNull
@@ -121,7 +154,7 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
     @Override
     public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
         // Get the news at specified position.
-        News currentNews = newsItems.get(position);
+        News currentNews = differ.getCurrentList().get(position);
 
         // Binding current news data based on view type.
         switch (holder.getItemViewType()) {
@@ -173,31 +206,109 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
                 ((NewsTypeTwelveHolder) holder).setData(currentNews);
                 break;
         }
+
+        /*
+         * A TextView of a new style was bound, computing layouts of its texts as well. Styles
+         * are shared by every Adapter, "holder" may have been created by another one.
+         */
+        if (TextLayouts.getStyleCount() != precomputedStyles) {
+            precomputeText(differ.getCurrentList());
+        }
     }
 
     @Override
     public int getItemCount() {
-        // Returns 0 if list is empty.
-        if (newsItems == null) {
-            return 0;
-        }
-
-        // Returns total number of news items under the clicked category.
-        return newsItems.size();
+        // Returns total number of news items under the clicked category. 0 if list is empty.
+        return differ.getCurrentList().size();
     }
 
     @Override
     public int getItemViewType(int position) {
-        return newsItems.get(position).getViewType();
+        return differ.getCurrentList().get(position).getViewType();
     }
 
     /**
-     * Sets new news data to Adapter.
+     * @return News item shown at "position".
+     */
+    public News getItem(int position) {
+        return differ.getCurrentList().get(position);
+    }
+
+    /**
+     * Sets new news data to Adapter. Only the items that changed are rebound.
+     * <p>
+     * "newsItems" must not be modified afterwards.
      */
-    @SuppressLint("NotifyDataSetChanged")
     public void setNewsData(ArrayList<News> newsItems) {
         this.newsItems = newsItems;
-        notifyDataSetChanged();
+        differ.submitList(newsItems);
+
+        // Laying out texts of the new news items ahead of binding them.
+        precomputeText(newsItems);
+    }
+
+    /**
+     * Replaces the news data of the Adapter right away, without comparing it to the shown items,
+     * e.g. when a recycled carousel shows another section.
+     * <p>
+     * "newsItems" must not be modified afterwards.
+     */
+    public void replaceNewsData(ArrayList<News> newsItems) {
+        // Emptied list is set without a diff, and so is the list following it.
+        differ.submitList(null);
+        setNewsData(newsItems);
+    }
+
+    /**
+     * @return News items shown by the Adapter.
+     */
+    public ArrayList<News> getNewsData() {
+        return newsItems;
+    }
+
+    /**
+     * Computes the text layouts of "newsList" on the CPU lane, for every text style bound so far.
+     * Cancels the layouts still being computed for the previous list.
+     */
+    private void precomputeText(List<News> newsList) {
+        if (precomputeTask != null) {
+            precomputeTask.cancel();
+        }
+        precomputedStyles = TextLayouts.getStyleCount();
+        if (newsList == null || precomputedStyles == 0) {
+            return;
+        }
+
+        // Styles are only changed on the main thread.
+        SparseArray<PrecomputedTextCompat.Params> styles = TextLayouts.getStyles();
+
+        precomputeTask = TaskScheduler.submit(TaskSchedulerConstants.LANE_CPU,
+                TaskSchedulerConstants.PRIORITY_PREFETCH, task -> {
+                    for (News news : newsList) {
+                        for (int role = 0; role < COUNT_ROLES; role++) {
+                            if (task.isCancelled()) {
+                                return null;
+                            }
+                            PrecomputedTextCompat.Params params =
+                                    styles.get(TextLayouts.getStyleKey(news.getViewType(), role));
+                            if (params != null) {
+                                TextLayouts.precompute(TextLayouts.getText(news, role), params);
+                            }
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Sets the text of "news" shown in "role" to "textView", using its precomputed layout if it is
+     * ready.
+     *
+     * @param role One of ROLE_HEADLINE, ROLE_SECTION or ROLE_BY_LINE.
+     */
+    private void setText(TextView textView, News news, int role) {
+        TextLayouts.setText(textView, TextLayouts.getText(news, role),
+                TextLayouts.getStyle(textView, news.getViewType(), role));
     }
 
     /**
@@ -218,17 +329,17 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
             thumbnail.setVisibility(View.VISIBLE);
 
             // Downloading news image.
-            CommonUtils.setThumbnail(context, thumbnail, thumbnailUrl);
+            CommonUtils.setThumbnail(context, thumbnail, thumbnailUrl, news.getViewType());
         } else {
             // Hides ImageView.
             thumbnail.setVisibility(View.GONE);
         }
 
         // Setting news headline.
-        CommonUtils.setText(headline, news.getHeadline());
+        setText(headline, news, ROLE_HEADLINE);
 
         // Setting news author info.
-        CommonUtils.setText(byLine, news.getByLine());
+        setText(byLine, news, ROLE_BY_LINE);
     }
 
     /**
@@ -244,13 +355,13 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
     private void setupNewsTypeFour(TextView section, TextView headline,
                                    TextView byLine, ImageView thumbnail, News news) {
         // Setting news section.
-        CommonUtils.setText(section, news.getSectionName());
+        setText(section, news, ROLE_SECTION);
 
         // Setting news headline.
-        CommonUtils.setText(headline, news.getHeadline());
+        setText(headline, news, ROLE_HEADLINE);
 
         // Setting news author info.
-        CommonUtils.setText(byLine, news.getByLine());
+        setText(byLine, news, ROLE_BY_LINE);
 
         // Setting news thumbnail.
         String thumbnailUrl = news.getThumbnailUrl();
@@ -261,7 +372,7 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
             thumbnail.setVisibility(View.VISIBLE);
 
             // Downloading news image.
-            CommonUtils.setThumbnail(context, thumbnail, thumbnailUrl);
+            CommonUtils.setThumbnail(context, thumbnail, thumbnailUrl, news.getViewType());
         } else {
             // Hides ImageView.
             thumbnail.setVisibility(View.GONE);
@@ -311,7 +422,7 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
             headline = news.getHeadline();
 
             // Setting news headline.
-            CommonUtils.setText(newsHeadline, news.getHeadline());
+            setText(newsHeadline, news, ROLE_HEADLINE);
         }
     }
 
@@ -359,7 +470,7 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
             headline = news.getHeadline();
 
             // Setting news headline.
-            CommonUtils.setText(newsHeadline, news.getHeadline());
+            setText(newsHeadline, news, ROLE_HEADLINE);
         }
     }
 
@@ -424,7 +535,7 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
             headline = news.getHeadline();
 
             // Setting news section.
-            CommonUtils.setText(newsSection, news.getSectionName());
+            setText(newsSection, news, ROLE_SECTION);
 
             // Converting 16dp to pixels based on screen density.
             int pixels16DP = convertDpToPixels(16F);
@@ -448,7 +559,7 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
                 newsThumbnail.setVisibility(View.VISIBLE);
 
                 // Downloading news image.
-                CommonUtils.setThumbnail(context, newsThumbnail, thumbnail);
+                CommonUtils.setThumbnail(context, newsThumbnail, thumbnail, news.getViewType());
             } else {
                 // Set Padding on all sides to be 16dp.
                 newsHeadline.setPadding(pixels16DP, pixels16DP, pixels16DP, pixels16DP);
@@ -462,7 +573,7 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
             }
 
             // Setting news headline.
-            CommonUtils.setText(newsHeadline, news.getHeadline());
+            setText(newsHeadline, news, ROLE_HEADLINE);
         }
     }
 
@@ -984,4 +1095,28 @@ public class NewsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> i
             setupNewsTypeFour(newsSection, newsHeadline, newsByline, newsThumbnail, news);
         }
     }
+
+    /**
+     * Compares {@link News} items. Two items are the same news if they point to the same
+     * article.
+     */
+    private static class NewsDiffCallback extends DiffUtil.ItemCallback<News> {
+
+        @Override
+        public boolean areItemsTheSame(@NonNull News oldNews, @NonNull News newNews) {
+            return Objects.equals(oldNews.getArticleURL(), newNews.getArticleURL());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull News oldNews, @NonNull News newNews) {
+            // Item moved onto another layout must be rebound, so refreshed feeds keep view types.
+            return oldNews.getViewType() == newNews.getViewType()
+                    && oldNews.getPublicationTime() == newNews.getPublicationTime()
+                    && Objects.equals(oldNews.getHeadline(), newNews.getHeadline())
+                    && Objects.equals(oldNews.getSectionName(), newNews.getSectionName())
+                    && Objects.equals(oldNews.getByLine(), newNews.getByLine())
+                    && Objects.equals(oldNews.getPublication(), newNews.getPublication())
+                    && Objects.equals(oldNews.getThumbnailUrl(), newNews.getThumbnailUrl());
+        }
+    }
 }
\ No newline at end of file
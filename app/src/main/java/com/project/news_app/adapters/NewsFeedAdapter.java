@@ -7,12 +7,15 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
+import android.widget.ProgressBar;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 import androidx.lifecycle.Lifecycle;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.viewpager2.adapter.FragmentStateAdapter;
@@ -21,13 +24,16 @@ import androidx.viewpager2.widget.ViewPager2;
 import com.project.news_app.R;
 import com.project.news_app.activities.CategoryActivity;
 import com.project.news_app.constants.HeadlineFragmentConstants;
+import com.project.news_app.constants.NewsAdapterConstants;
 import com.project.news_app.data.News;
 import com.project.news_app.data.NewsFeed;
 import com.project.news_app.fragments.TopNewsFragment;
 import com.project.news_app.fragments.HomeFragment;
+import com.project.news_app.utils.CarouselPrefetcher;
 import com.project.news_app.utils.CommonUtils;
 
 import java.util.ArrayList;
+import java.util.Objects;
 
 /**
  * Adapter provides {@link NewsFeed} to RecyclerView in {@link HomeFragment}.
@@ -35,11 +41,18 @@ import java.util.ArrayList;
 public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> implements
         HeadlineFragmentConstants {
     /**
-     * Stores news feed from different sections. Check documentation of {@link HomeFragment} to
-     * know more about it.
+     * Stores news feed from different sections, as last passed to the Adapter. Check
+     * documentation of {@link HomeFragment} to know more about it.
      */
     private ArrayList<NewsFeed> newsFeeds;
 
+    /**
+     * Compares the shown and the new news feeds on the CPU lane and notifies the Adapter
+     * of the changed news feeds only.
+     */
+    private final AsyncListDiffer<NewsFeed> differ = CommonUtils.newDiffer(this,
+            new NewsFeedDiffCallback());
+
     /**
      * Multiple use case.
      */
@@ -53,12 +66,32 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
     // Adds, Replaces, Removes fragments.
     private final FragmentManager fragmentManager;
 
+    /**
+     * Shared by the nested RecyclerView of every section, so news items scrolled off one section
+     * are rebound in another instead of being inflated again.
+     */
+    private final RecyclerView.RecycledViewPool nestedViewPool =
+            new RecyclerView.RecycledViewPool();
+
+    /**
+     * Prefetches thumbnails of the nested RecyclerViews in and just below the visible part of
+     * the feed.
+     */
+    private final CarouselPrefetcher prefetcher;
+
     public NewsFeedAdapter(Context context, ArrayList<NewsFeed> newsFeeds,
                            FragmentManager fragmentManager, Lifecycle lifecycle) {
         this.context = context;
-        this.newsFeeds = newsFeeds;
         this.fragmentManager = fragmentManager;
         this.lifecycle = lifecycle;
+        prefetcher = new CarouselPrefetcher(context, this);
+        setNewsFeeds(newsFeeds);
+
+        // Keeps more of the "between" items, which make up most of every section.
+        nestedViewPool.setMaxRecycledViews(NewsAdapterConstants.TYPE_SIX,
+                POOL_SIZE_NESTED_ITEMS);
+        nestedViewPool.setMaxRecycledViews(NewsAdapterConstants.TYPE_NINE,
+                POOL_SIZE_NESTED_ITEMS);
     }
 
     @NonNull
@@ -108,7 +141,7 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
     @Override
     public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
         // Get NewsFeed at specified position.
-        NewsFeed feed = newsFeeds.get(position);
+        NewsFeed feed = differ.getCurrentList().get(position);
 
         // Binding current NewsFeed data based on view type.
         switch (holder.getItemViewType()) {
@@ -128,52 +161,174 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
 
     @Override
     public int getItemViewType(int position) {
-        return newsFeeds.get(position).getType();
+        return differ.getCurrentList().get(position).getType();
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        prefetcher.attach(recyclerView);
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        prefetcher.detach();
     }
 
     /**
-     * Sets new news feed data to Adapter.
+     * @return News items shown in a nested RecyclerView at "position", null if the news feed at
+     * "position" shows none or isn't downloaded yet.
+     */
+    public ArrayList<News> getCarouselNews(int position) {
+        NewsFeed feed = differ.getCurrentList().get(position);
+        int type = feed.getType();
+
+        if ((type == FEED_TYPE_BLACK || type == FEED_TYPE_DARK)
+                && feed.getState() == FEED_STATE_LOADED) {
+            return feed.getNews();
+        }
+        return null;
+    }
+
+    /**
+     * Sets new news feed data to Adapter. Only the news feeds that changed are rebound.
      */
-    @SuppressLint("NotifyDataSetChanged")
     public void setNewsFeeds(ArrayList<NewsFeed> newsFeeds) {
-        this.newsFeeds = newsFeeds;
-        notifyDataSetChanged();
+        // Copying, so sections can be replaced without changing the supplied list.
+        this.newsFeeds = newsFeeds != null ? new ArrayList<>(newsFeeds) : null;
+        differ.submitList(this.newsFeeds);
+    }
+
+    /**
+     * Replaces a single section as soon as it is downloaded and updates its top news shown in
+     * {@link NewsFeedHolderTop}.
+     *
+     * @param index Index of the section in {@link HeadlineFragmentConstants#pathArray}.
+     * @param feed  Downloaded section.
+     */
+    public void setSectionFeed(int index, NewsFeed feed) {
+        // Placeholders were cleared.
+        if (newsFeeds == null || newsFeeds.size() <= sectionPositions[index]) {
+            return;
+        }
+
+        /*
+         * Submitted lists must not change, so the section is replaced in a copy. The copy is
+         * made from the latest submitted list, as the previous one may still be diffing.
+         */
+        newsFeeds = new ArrayList<>(newsFeeds);
+
+        // Updating the section.
+        newsFeeds.set(sectionPositions[index], feed);
+
+        // Updating the top news in a new feed, leaving the previous one unchanged.
+        NewsFeed topFeed = newsFeeds.get(POSITION_TOP);
+        ArrayList<News> topNews = new ArrayList<>(topFeed.getNews());
+
+        ArrayList<News> news = feed.getNews();
+        topNews.set(index, feed.getState() == FEED_STATE_LOADED ? news.get(0) : null);
+
+        NewsFeed updatedTopFeed = new NewsFeed();
+        updatedTopFeed.setType(FEED_TYPE_TOP);
+        updatedTopFeed.setNews(topNews);
+        newsFeeds.set(POSITION_TOP, updatedTopFeed);
+
+        differ.submitList(newsFeeds);
     }
 
     @Override
     public int getItemCount() {
-        // Returns 0 if list is empty.
-        if (newsFeeds == null) {
-            return 0;
-        }
+        // Returns total number of available news feed. 0 if list is empty.
+        return differ.getCurrentList().size();
+    }
 
-        // Returns total number of available news feed.
-        return newsFeeds.size();
+    /**
+     * Setups the nested RecyclerView of a section once, when its ViewHolder is created.
+     *
+     * @param recyclerView Shows the contents of {@link NewsFeed} in a HORIZONTAL orientation.
+     * @param adapter      Provides news items to "recyclerView" for as long as the ViewHolder
+     *                     lives.
+     */
+    private void setupNestedRecyclerView(RecyclerView recyclerView, NewsAdapter adapter) {
+        LinearLayoutManager layoutManager = new LinearLayoutManager(context,
+                LinearLayoutManager.HORIZONTAL, false);
+
+        // Lays out the first items of a section while the section is scrolling into view.
+        layoutManager.setInitialPrefetchItemCount(PREFETCH_NESTED_ITEMS);
+
+        // Returns the news items to "nestedViewPool" when the section is recycled.
+        layoutManager.setRecycleChildrenOnDetach(true);
+
+        recyclerView.setLayoutManager(layoutManager);
+        recyclerView.setRecycledViewPool(nestedViewPool);
+        recyclerView.setHasFixedSize(true);
+        recyclerView.setAdapter(adapter);
+
+        // Prefetches the following news items as the section is swiped.
+        recyclerView.addOnScrollListener(prefetcher);
     }
 
     /**
      * Sets contents of {@link NewsFeed}.
      *
      * @param newsFeed     News feed.
+     * @param shownPath    Path of the section shown by "adapter", null if none.
      * @param labelRegion  Shows the label of {@link NewsFeed}.
      * @param recyclerView Shows the contents of {@link NewsFeed} in a {@link RecyclerView}.
      *                     <br/>
      *                     Orientation of this RecyclerView is set to
      *                     {@link LinearLayoutManager#HORIZONTAL}.
+     * @param adapter      Adapter of "recyclerView".
      * @param labelSeeMore Opens up the {@link NewsFeed} in {@link CategoryActivity}.
+     * @param progressBar  Shown while the {@link NewsFeed} is downloading.
+     * @param status       Shown when the {@link NewsFeed} failed to download.
+     * @return Path of the section shown by "adapter" afterwards.
      */
-    private void showRegionalNews(NewsFeed newsFeed, TextView labelRegion,
-                                  RecyclerView recyclerView, TextView labelSeeMore) {
+    private String showRegionalNews(NewsFeed newsFeed, String shownPath, TextView labelRegion,
+                                    RecyclerView recyclerView, NewsAdapter adapter,
+                                    TextView labelSeeMore, ProgressBar progressBar,
+                                    TextView status) {
         // Sets news feed label.
         labelRegion.setText(newsFeed.getLabel());
 
-        // Setting up RecyclerView.
-        CommonUtils.setupRecyclerView(context, recyclerView, new NewsAdapter(context,
-                newsFeed.getNews()), LinearLayoutManager.HORIZONTAL);
-
         // Opens up CategoryActivity.
         labelSeeMore.setOnClickListener(view -> CommonUtils.openCategoryActivity(context,
                 newsFeed.getPath(), newsFeed.getTitle()));
+
+        // Shows the news feed based on its download state.
+        switch (newsFeed.getState()) {
+            case FEED_STATE_LOADING:
+                recyclerView.setVisibility(View.INVISIBLE);
+                status.setVisibility(View.GONE);
+                progressBar.setVisibility(View.VISIBLE);
+                return shownPath;
+
+            case FEED_STATE_FAILED:
+                recyclerView.setVisibility(View.INVISIBLE);
+                progressBar.setVisibility(View.GONE);
+                status.setVisibility(View.VISIBLE);
+                return shownPath;
+
+            case FEED_STATE_LOADED:
+            default:
+                progressBar.setVisibility(View.GONE);
+                status.setVisibility(View.GONE);
+                recyclerView.setVisibility(View.VISIBLE);
+
+                // Swapping the news items, views are reused from "nestedViewPool".
+                if (adapter.getNewsData() != newsFeed.getNews()) {
+                    if (Objects.equals(shownPath, newsFeed.getPath())) {
+                        // Same section refreshed, only the changed items are rebound.
+                        adapter.setNewsData(newsFeed.getNews());
+                    } else {
+                        // Recycled for another section, nothing in common with the shown items.
+                        adapter.replaceNewsData(newsFeed.getNews());
+                    }
+                    recyclerView.scrollToPosition(0);
+                }
+                return newsFeed.getPath();
+        }
     }
 
     /**
@@ -181,7 +336,8 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
      * <br/>
      * Layout resource - {@link R.layout#layout_nested_recycler_item_black}
      */
-    protected class NewsFeedHolderBlack extends RecyclerView.ViewHolder {
+    protected class NewsFeedHolderBlack extends RecyclerView.ViewHolder implements
+            CarouselHolder {
         /**
          * Shows the {@link NewsFeed} in a HORIZONTAL orientation.
          */
@@ -197,6 +353,26 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
          */
         private final TextView labelSeeMore;
 
+        /**
+         * Shown while the {@link NewsFeed} is downloading.
+         */
+        private final ProgressBar progressBar;
+
+        /**
+         * Shown when the {@link NewsFeed} failed to download.
+         */
+        private final TextView status;
+
+        /**
+         * Provides news items of the bound {@link NewsFeed} to "recyclerView".
+         */
+        private final NewsAdapter newsAdapter;
+
+        /**
+         * Path of the section shown by "newsAdapter", null if none.
+         */
+        private String shownPath;
+
         public NewsFeedHolderBlack(View itemView) {
             super(itemView);
 
@@ -204,13 +380,25 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
             recyclerView = itemView.findViewById(R.id.item_recycler_view_one);
             labelRegion = itemView.findViewById(R.id.item_label_one);
             labelSeeMore = itemView.findViewById(R.id.item_see_more_one);
+            progressBar = itemView.findViewById(R.id.item_progress_one);
+            status = itemView.findViewById(R.id.item_status_one);
+
+            // Setting up RecyclerView. Its Adapter is kept for as long as this ViewHolder.
+            newsAdapter = new NewsAdapter(context, null);
+            setupNestedRecyclerView(recyclerView, newsAdapter);
         }
 
         /**
          * Setups the {@link NewsFeed}.
          */
         public void setupNewsFeed(NewsFeed newsFeed) {
-            showRegionalNews(newsFeed, labelRegion, recyclerView, labelSeeMore);
+            shownPath = showRegionalNews(newsFeed, shownPath, labelRegion, recyclerView,
+                    newsAdapter, labelSeeMore, progressBar, status);
+        }
+
+        @Override
+        public RecyclerView getCarousel() {
+            return recyclerView;
         }
     }
 
@@ -219,7 +407,8 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
      * <br/>
      * Layout resource - {@link R.layout#basic_recycler_view}
      */
-    protected class NewsFeedHolderDark extends RecyclerView.ViewHolder {
+    protected class NewsFeedHolderDark extends RecyclerView.ViewHolder implements
+            CarouselHolder {
         /**
          * Shows the {@link NewsFeed} in a HORIZONTAL orientation.
          */
@@ -235,6 +424,26 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
          */
         private final TextView labelSeeMore;
 
+        /**
+         * Shown while the news feed is downloading.
+         */
+        private final ProgressBar progressBar;
+
+        /**
+         * Shown when the news feed failed to download.
+         */
+        private final TextView status;
+
+        /**
+         * Provides news items of the bound {@link NewsFeed} to "recyclerView".
+         */
+        private final NewsAdapter newsAdapter;
+
+        /**
+         * Path of the section shown by "newsAdapter", null if none.
+         */
+        private String shownPath;
+
         public NewsFeedHolderDark(View itemView) {
             super(itemView);
 
@@ -242,13 +451,25 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
             recyclerView = itemView.findViewById(R.id.item_recycler_view_two);
             labelRegion = itemView.findViewById(R.id.item_label_two);
             labelSeeMore = itemView.findViewById(R.id.item_see_more_two);
+            progressBar = itemView.findViewById(R.id.item_progress_two);
+            status = itemView.findViewById(R.id.item_status_two);
+
+            // Setting up RecyclerView. Its Adapter is kept for as long as this ViewHolder.
+            newsAdapter = new NewsAdapter(context, null);
+            setupNestedRecyclerView(recyclerView, newsAdapter);
         }
 
         /**
          * Setups the {@link NewsFeed}.
          */
         public void setupNewsFeed(NewsFeed newsFeed) {
-            showRegionalNews(newsFeed, labelRegion, recyclerView, labelSeeMore);
+            shownPath = showRegionalNews(newsFeed, shownPath, labelRegion, recyclerView,
+                    newsAdapter, labelSeeMore, progressBar, status);
+        }
+
+        @Override
+        public RecyclerView getCarousel() {
+            return recyclerView;
         }
     }
 
@@ -265,6 +486,11 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
          */
         private ArrayList<News> topNewsList;
 
+        /**
+         * Provides {@link TopNewsFragment} to ViewPager2.
+         */
+        private final TopNewsAdapter topNewsAdapter;
+
         public NewsFeedHolderTop(View itemView) {
             super(itemView);
 
@@ -272,17 +498,32 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
             ViewPager2 viewPager = itemView.findViewById(R.id.top_viewpager);
 
             // Linking adapter.
-            viewPager.setAdapter(new TopNewsAdapter(fragmentManager, lifecycle));
+            topNewsAdapter = new TopNewsAdapter(fragmentManager, lifecycle);
+            viewPager.setAdapter(topNewsAdapter);
         }
 
         /**
          * Get {@link News} list from the feed.
          *
-         * @param feed Must contain a list of {@link News} from a valid section endpoint from
-         *             "The Guardian" api.
+         * @param feed Contains the first {@link News} of every section endpoint from
+         *             "The Guardian" api. Sections that are not downloaded yet are null.
          */
+        @SuppressLint("NotifyDataSetChanged")
         public void setTopNewsData(NewsFeed feed) {
             topNewsList = feed.getNews();
+
+            // Replaces the fragments whose news changed.
+            topNewsAdapter.notifyDataSetChanged();
+        }
+
+        /**
+         * @return Top news at "position", null if its section is not downloaded yet.
+         */
+        private News getTopNews(int position) {
+            if (topNewsList == null || position >= topNewsList.size()) {
+                return null;
+            }
+            return topNewsList.get(position);
         }
 
         /**
@@ -322,33 +563,40 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
             @NonNull
             @Override
             public Fragment createFragment(int position) {
-                if (topNewsList != null && topNewsList.size() == 5) {
-                    switch (position) {
-                        case 0:
-                            // Shows World news.
-                            return createTopNewsFragment(topNewsList.get(0), 1);
-
-                        case 1:
-                            // Shows US news.
-                            return createTopNewsFragment(topNewsList.get(1), 2);
-
-                        case 2:
-                            // Shows UK news.
-                            return createTopNewsFragment(topNewsList.get(2), 3);
-
-                        case 3:
-                            // Shows Australia news.
-                            return createTopNewsFragment(topNewsList.get(3), 4);
-
-                        case 4:
-                            // Shows Opinion.
-                            return createTopNewsFragment(topNewsList.get(4), 5);
-                    }
+                /*
+                 * Position 0 shows World news, 1 shows US news, 2 shows UK news, 3 shows
+                 * Australia news and 4 shows Opinion.
+                 */
+                News news = getTopNews(position);
+                if (news != null) {
+                    return createTopNewsFragment(news, position + 1);
                 }
+
                 // Returns empty fragment.
                 return new Fragment(R.layout.layout_top_news_fragment);
             }
 
+            @Override
+            public long getItemId(int position) {
+                // Fragment is recreated once the news at this position becomes available.
+                News news = getTopNews(position);
+                if (news == null) {
+                    return position;
+                }
+                return ((long) (position + 1) << 32) | (news.getArticleURL().hashCode()
+                        & 0xFFFFFFFFL);
+            }
+
+            @Override
+            public boolean containsItem(long itemId) {
+                for (int i = 0; i < getItemCount(); i++) {
+                    if (getItemId(i) == itemId) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
             @Override
             public int getItemCount() {
                 return 5;
@@ -475,4 +723,39 @@ public class NewsFeedAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
                     READERS_URL, R.string.toast_browser_unavailable));
         }
     }
+
+    /**
+     * ViewHolder showing the news items of a {@link NewsFeed} in a nested RecyclerView.
+     */
+    public interface CarouselHolder {
+        /**
+         * @return RecyclerView showing the news items in a HORIZONTAL orientation, its Adapter is
+         * a {@link NewsAdapter}.
+         */
+        RecyclerView getCarousel();
+    }
+
+    /**
+     * Compares {@link NewsFeed} items. Two items are the same news feed if they have the same
+     * type and point to the same section.
+     */
+    private static class NewsFeedDiffCallback extends DiffUtil.ItemCallback<NewsFeed> {
+
+        @Override
+        public boolean areItemsTheSame(@NonNull NewsFeed oldFeed, @NonNull NewsFeed newFeed) {
+            return oldFeed.getType() == newFeed.getType()
+                    && Objects.equals(oldFeed.getPath(), newFeed.getPath());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull NewsFeed oldFeed,
+                                          @NonNull NewsFeed newFeed) {
+            /*
+             * A downloaded section comes with a new list of news items. Its nested NewsAdapter
+             * then rebinds only the news items that changed.
+             */
+            return oldFeed.getState() == newFeed.getState()
+                    && oldFeed.getNews() == newFeed.getNews();
+        }
+    }
 }
\ No newline at end of file
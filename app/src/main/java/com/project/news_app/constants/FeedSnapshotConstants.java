@@ -0,0 +1,38 @@
+package com.project.news_app.constants;
+
+import com.project.news_app.utils.FeedSnapshot;
+
+/**
+ * Contains constants for {@link FeedSnapshot}.
+ */
+public interface FeedSnapshotConstants {
+    /**
+     * Used for Logs.
+     */
+    String TAG = "FeedSnapshot";
+
+    /**
+     * Name of the file (under the app's files directory) storing the last home feed.
+     */
+    String FILE_HOME_SNAPSHOT = "home_feed.snapshot";
+
+    /**
+     * Identifies a snapshot file. Spells "NWSF".
+     */
+    int SNAPSHOT_MAGIC = 0x4E575346;
+
+    /**
+     * Version of the snapshot format. Snapshots of any other version are ignored.
+     */
+    int SNAPSHOT_VERSION = 1;
+
+    /**
+     * Length written in place of a null String or list.
+     */
+    int LENGTH_NULL = -1;
+
+    /**
+     * Size (in bytes) of the array reused while decoding Strings. Fits almost every headline.
+     */
+    int SIZE_SCRATCH = 512;
+}
\ No newline at end of file
@@ -14,6 +14,17 @@ public interface HeadlineFragmentConstants {
             NetworkUtilsConstants.PATH_UK, NetworkUtilsConstants.PATH_AUS,
             NetworkUtilsConstants.PATH_GUARDIAN};
 
+    /**
+     * Stores the position of each section in "pathArray" within the news feeds shown by
+     * {@link HomeFragment}.
+     */
+    int[] sectionPositions = {1, 2, 5, 6, 7};
+
+    /**
+     * Position of the news feed inflated from {@link R.layout#layout_top_feed}.
+     */
+    int POSITION_TOP = 0;
+
     /**
      * View type for News feed inflated from {@link R.layout#layout_nested_recycler_item_black}.
      */
@@ -45,9 +56,19 @@ public interface HeadlineFragmentConstants {
     int FEED_TYPE_READERS = 6;
 
     /**
-     * Unique identifier for Loader.
+     * State of a section news feed that is still being downloaded.
+     */
+    int FEED_STATE_LOADING = 0;
+
+    /**
+     * State of a section news feed that was downloaded successfully.
      */
-    int LOADER_ID = 12;
+    int FEED_STATE_LOADED = 1;
+
+    /**
+     * State of a section news feed that could not be downloaded.
+     */
+    int FEED_STATE_FAILED = 2;
 
     /**
      * Points to "The Guardian" page on Facebook.
@@ -88,4 +109,14 @@ public interface HeadlineFragmentConstants {
      * Empty String.
      */
     String EMPTY = "";
+
+    /**
+     * Number of items of a section laid out ahead while the section is about to scroll into view.
+     */
+    int PREFETCH_NESTED_ITEMS = 3;
+
+    /**
+     * Number of item views per view type kept in the pool shared by every section.
+     */
+    int POOL_SIZE_NESTED_ITEMS = 10;
 }
\ No newline at end of file
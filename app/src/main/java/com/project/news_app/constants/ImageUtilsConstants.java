@@ -0,0 +1,131 @@
+package com.project.news_app.constants;
+
+import com.project.news_app.utils.ImageUtils;
+import com.project.news_app.utils.NewsGlideModule;
+
+/**
+ * Contains constants for {@link ImageUtils} and {@link NewsGlideModule}.
+ */
+public interface ImageUtilsConstants {
+    /**
+     * Used for Logs.
+     */
+    String TAG = "ImageUtils";
+
+    /**
+     * Bytes in a megabyte, as reported by ActivityManager#getMemoryClass().
+     */
+    int BYTES_PER_MB = 1024 * 1024;
+
+    /**
+     * Share of the app's heap limit (memory class) kept by Glide's in-memory cache of decoded
+     * thumbnails.
+     */
+    int DIVISOR_MEMORY_CACHE = 8;
+
+    /**
+     * Share of the app's heap limit (memory class) kept by Glide's pool of reusable Bitmaps.
+     */
+    int DIVISOR_BITMAP_POOL = 16;
+
+    /**
+     * Cache and pool sizes are divided further on low RAM devices.
+     */
+    int DIVISOR_LOW_RAM = 2;
+
+    /**
+     * Size of the on-disk cache of downloaded thumbnails, in bytes.
+     */
+    long SIZE_DISK_CACHE = 100L * BYTES_PER_MB;
+
+    /**
+     * Name of the directory (in the app's cache directory) storing downloaded thumbnails.
+     */
+    String DIRECTORY_DISK_CACHE = "thumbnails";
+
+    /**
+     * Host serving the renditions of images published by "The Guardian", e.g.
+     * "https://media.guim.co.uk/{id}/{crop}/500.jpg".
+     */
+    String HOST_MEDIA = "media.guim.co.uk";
+
+    /**
+     * Host resizing images of "The Guardian" on demand, e.g.
+     * "https://i.guim.co.uk/img/media/{id}/{crop}/master/3000.jpg?width=300".
+     */
+    String HOST_IMAGES = "i.guim.co.uk";
+
+    /**
+     * Widths (in pixels) of the renditions {@link #HOST_MEDIA} keeps of every image, ascending.
+     */
+    int[] WIDTHS_RENDITION = {140, 500, 1000, 2000};
+
+    /**
+     * Matches the last path segment of a rendition, e.g. "500.jpg". Group 1 is the width.
+     */
+    String PATTERN_RENDITION = "(\\d{1,5})(\\.\\w+)";
+
+    /**
+     * Query parameter sets the width of images resized by {@link #HOST_IMAGES}.
+     */
+    String QP_KEY_WIDTH = "width";
+
+    /**
+     * Query parameter signs the URL of images resized by {@link #HOST_IMAGES}. Signed URLs can't
+     * be changed.
+     */
+    String QP_KEY_SIGNATURE = "s";
+
+    /**
+     * Width to height ratio of thumbnails of "The Guardian".
+     */
+    float RATIO_THUMBNAIL = 5F / 3F;
+
+    /**
+     * Thumbnails preloaded ahead of a list scrolling slowly.
+     */
+    int PRELOAD_MIN_ITEMS = 2;
+
+    /**
+     * Thumbnails preloaded ahead of a list being flung.
+     */
+    int PRELOAD_MAX_ITEMS = 10;
+
+    /**
+     * Scroll speed (in dp per frame) adding one thumbnail to the preloaded ones.
+     */
+    int PRELOAD_SPEED_PER_ITEM = 24;
+
+    /**
+     * Maximum number of thumbnail preloads in flight per list. Keeps the thumbnails being shown
+     * ahead of the preloaded ones in Glide's queue.
+     */
+    int MAX_OUTSTANDING_PRELOADS = 4;
+
+    /**
+     * Thumbnails prefetched past the last visible item of every carousel shown in the home feed.
+     */
+    int PREFETCH_CAROUSEL_ITEMS = 3;
+
+    /**
+     * Thumbnails prefetched from the start of the carousel just below the fold of the home feed.
+     */
+    int PREFETCH_BELOW_FOLD_ITEMS = 2;
+
+    /**
+     * Maximum number of thumbnail prefetches in flight across every carousel of the home feed.
+     */
+    int MAX_CAROUSEL_PREFETCHES = 4;
+
+    /**
+     * Share of the app's heap limit (memory class) held by thumbnails prefetched for the
+     * carousels of the home feed. Kept well below Glide's memory cache, so prefetching doesn't
+     * push the shown thumbnails out of it.
+     */
+    int DIVISOR_PREFETCH_BUDGET = 32;
+
+    /**
+     * Bytes per pixel of a thumbnail decoded as RGB_565.
+     */
+    int BYTES_PER_PIXEL = 2;
+}
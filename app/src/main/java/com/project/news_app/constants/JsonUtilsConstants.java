@@ -127,4 +127,14 @@ public interface JsonUtilsConstants {
      * Pattern for formatting Date in {@link EpisodeAdapter}.
      */
     String PATTERN_PODCAST = "MMM dd, yyyy";
+
+    /**
+     * Publication time of an item whose date is not available.
+     */
+    long TIME_UNKNOWN = 0;
+
+    /**
+     * Number of formatted dates cached per date pattern.
+     */
+    int SIZE_DATE_CACHE = 512;
 }
\ No newline at end of file
@@ -119,4 +119,266 @@ public interface NetworkUtilsConstants {
      * Number of items in "fragment_headlines" news feed.
      */
     int SIZE_HEADLINES = 15;
-}
\ No newline at end of file
+
+    /**
+     * Time (in milliseconds) each section in "fragment_headlines" or "Categories" screen is given
+     * to download, retries included.
+     */
+    long DEADLINE_SECTION = 15000;
+
+    /**
+     * Time (in milliseconds) a search is given to download, retries included.
+     */
+    long DEADLINE_SEARCH = 8000;
+
+    /**
+     * Time (in milliseconds) the episodes of a podcast are given to download, retries included.
+     */
+    long DEADLINE_PODCAST = 15000;
+
+    /**
+     * Number of requests made at once to a single host, hedged duplicates of the headline
+     * sections included.
+     */
+    int MAX_REQUESTS_PER_HOST = 10;
+
+    /**
+     * Number of idle connections kept alive in the shared connection pool.
+     */
+    int MAX_IDLE_CONNECTIONS = 5;
+
+    /**
+     * Time (in minutes) an idle connection is kept alive in the shared connection pool.
+     */
+    long KEEP_ALIVE_CONNECTION = 5;
+
+    /**
+     * Directory (under the app's cache directory) storing responses from "The Guardian" API.
+     */
+    String DIR_HTTP_CACHE = "http_cache";
+
+    /**
+     * Maximum size (in bytes) of responses stored on disk.
+     */
+    long SIZE_HTTP_CACHE = 10 * 1024 * 1024;
+
+    /**
+     * Time (in seconds) a cached section stays fresh.
+     */
+    int FRESHNESS_SECTION = 60;
+
+    /**
+     * Time (in seconds) a cached search result stays fresh.
+     */
+    int FRESHNESS_SEARCH = 60;
+
+    /**
+     * Time (in seconds) a cached podcast page stays fresh. Episodes are published at most daily.
+     */
+    int FRESHNESS_PODCAST = 60 * 60;
+
+    /**
+     * Response Status - Cached response is still valid.
+     */
+    int RESPONSE_CODE_NOT_MODIFIED = 304;
+
+    /**
+     * Header set by the server controlling how a response can be cached.
+     */
+    String HEADER_CACHE_CONTROL = "Cache-Control";
+
+    /**
+     * Legacy header that would otherwise stop a response from being cached.
+     */
+    String HEADER_PRAGMA = "Pragma";
+
+    /**
+     * Header listing the compressions the app can decode.
+     */
+    String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+
+    /**
+     * Header telling how a response body was compressed.
+     */
+    String HEADER_CONTENT_ENCODING = "Content-Encoding";
+
+    /**
+     * Compressions decoded by {@link com.project.news_app.utils.NetworkUtils}, preferred first.
+     */
+    String VALUE_ACCEPT_ENCODING = "gzip, deflate";
+
+    /**
+     * Content Encoding - gzip (RFC 1952).
+     */
+    String ENCODING_GZIP = "gzip";
+
+    /**
+     * Content Encoding - zlib (RFC 1950), sent as raw deflate (RFC 1951) by some servers.
+     */
+    String ENCODING_DEFLATE = "deflate";
+
+    /**
+     * Number of recent queries whose results are kept in memory.
+     */
+    int SIZE_QUERY_CACHE = 20;
+
+    /**
+     * Time (in milliseconds) typing has to pause before the entered query is searched.
+     */
+    long DEBOUNCE_SEARCH = 300;
+
+    /**
+     * Query parameter sets the number of the page to be downloaded, starting from 1.
+     */
+    String QP_KEY_PAGE = "page";
+
+    /**
+     * Number of items in each page of "activity_category" and "activity_search" feeds. Kept
+     * small so the first page paints fast.
+     */
+    int SIZE_PAGE = 10;
+
+    /**
+     * Number of items left before the end of the feed when the next page starts downloading.
+     */
+    int PREFETCH_DISTANCE = 5;
+
+    /**
+     * Number of pages kept in memory, pages furthest from the user are dropped first.
+     */
+    int MAX_PAGES_IN_MEMORY = 10;
+
+    /**
+     * Response Status - Client sent too many requests, may come with "Retry-After" header.
+     */
+    int RESPONSE_CODE_TOO_MANY_REQUESTS = 429;
+
+    /**
+     * Response Status - Lowest code of server errors, which are worth retrying.
+     */
+    int RESPONSE_CODE_SERVER_ERROR = 500;
+
+    /**
+     * Header telling how long to wait before trying again, in seconds or as a HTTP date.
+     */
+    String HEADER_RETRY_AFTER = "Retry-After";
+
+    /**
+     * Number of times a section is requested before giving up, first request included.
+     */
+    int ATTEMPTS_SECTION = 3;
+
+    /**
+     * Number of times a search is requested before giving up. Kept low, the user is waiting and
+     * can search again.
+     */
+    int ATTEMPTS_SEARCH = 2;
+
+    /**
+     * Number of times a podcast is requested before giving up, first request included.
+     */
+    int ATTEMPTS_PODCAST = 3;
+
+    /**
+     * Time (in milliseconds) waited before the first retry. Doubled for every following retry.
+     */
+    long BACKOFF_INITIAL = 500;
+
+    /**
+     * Longest time (in milliseconds) waited between two attempts.
+     */
+    long BACKOFF_MAX = 8000;
+
+    /**
+     * Number of retries that can be made in a row while "The Guardian" API keeps failing.
+     */
+    int SIZE_RETRY_BUDGET = 10;
+
+    /**
+     * Part of a retry earned back by every successful request.
+     */
+    double REFILL_RETRY_BUDGET = 0.1;
+
+    /**
+     * Fetch Result - Response was downloaded and parsed.
+     */
+    int RESULT_SUCCESS = 0;
+
+    /**
+     * Fetch Result - "The Guardian" API answered with an error code.
+     */
+    int RESULT_HTTP_ERROR = 1;
+
+    /**
+     * Fetch Result - Connection failed or was dropped.
+     */
+    int RESULT_NETWORK_ERROR = 2;
+
+    /**
+     * Fetch Result - Deadline of the endpoint passed before a response was downloaded.
+     */
+    int RESULT_TIMED_OUT = 3;
+
+    /**
+     * Fetch Result - Request was cancelled by the caller.
+     */
+    int RESULT_CANCELLED = 4;
+
+    /**
+     * Time (in milliseconds) given to open a connection to "The Guardian" API.
+     */
+    long TIMEOUT_CONNECT = 5000;
+
+    /**
+     * Time (in milliseconds) given to open a connection for a headline section, which the home
+     * screen is waiting for.
+     */
+    long TIMEOUT_CONNECT_HEADLINE = 3000;
+
+    /**
+     * Time (in milliseconds) a section may go without receiving any data.
+     */
+    long TIMEOUT_READ_SECTION = 10000;
+
+    /**
+     * Time (in milliseconds) a headline section may go without receiving any data.
+     */
+    long TIMEOUT_READ_HEADLINE = 5000;
+
+    /**
+     * Time (in milliseconds) a search may go without receiving any data.
+     */
+    long TIMEOUT_READ_SEARCH = 6000;
+
+    /**
+     * Time (in milliseconds) a podcast may go without receiving any data.
+     */
+    long TIMEOUT_READ_PODCAST = 10000;
+
+    /**
+     * Time (in milliseconds) waited before hedging a request, until enough latencies were
+     * measured to know its 95th percentile.
+     */
+    long HEDGE_DELAY_DEFAULT = 1000;
+
+    /**
+     * Shortest time (in milliseconds) waited before hedging a request, so a fast endpoint does
+     * not get every request twice.
+     */
+    long HEDGE_DELAY_MIN = 50;
+
+    /**
+     * Percentile of measured latencies after which a request is hedged.
+     */
+    double PERCENTILE_HEDGE = 0.95;
+
+    /**
+     * Number of recent latencies kept per endpoint.
+     */
+    int SIZE_LATENCY_WINDOW = 100;
+
+    /**
+     * Number of latencies needed before percentiles are trusted.
+     */
+    int MIN_LATENCY_SAMPLES = 20;
+}
@@ -0,0 +1,200 @@
+package com.project.news_app.constants;
+
+import com.project.news_app.data.NewsStore;
+
+/**
+ * Contains constants for {@link NewsStore}.
+ */
+public interface NewsStoreConstants {
+    /**
+     * Used for Logs.
+     */
+    String TAG = "NewsStore";
+
+    /**
+     * Name of the database file.
+     */
+    String DATABASE_NAME = "news.db";
+
+    /**
+     * Version of the database schema.
+     */
+    int DATABASE_VERSION = 2;
+
+    /**
+     * Prefix of feeds shown by "fragment_headlines", followed by the section path.
+     */
+    String FEED_HOME = "home/";
+
+    /**
+     * Prefix of feeds shown by "CategoryActivity", followed by the section path.
+     */
+    String FEED_CATEGORY = "category/";
+
+    /**
+     * Table storing a single row per article, keyed by its URL.
+     */
+    String TABLE_ARTICLES = "articles";
+
+    /**
+     * Table storing the articles of every feed in the order they were downloaded.
+     */
+    String TABLE_FEED_ITEMS = "feed_items";
+
+    /**
+     * Table storing podcast info., keyed by its path in "The Guardian" API.
+     */
+    String TABLE_PODCASTS = "podcasts";
+
+    /**
+     * Table storing the episodes of every podcast in the order they were downloaded.
+     */
+    String TABLE_EPISODES = "episodes";
+
+    /**
+     * Column - URL locating an article or episode in "The Guardian" website.
+     */
+    String COLUMN_URL = "url";
+
+    /**
+     * Column - Feed (prefix followed by section path) under which an article is listed.
+     */
+    String COLUMN_FEED = "feed";
+
+    /**
+     * Column - Position of an item within its feed or podcast.
+     */
+    String COLUMN_POSITION = "position";
+
+    /**
+     * Column - Layout in which an article is displayed in its feed.
+     */
+    String COLUMN_VIEW_TYPE = "view_type";
+
+    /**
+     * Column - Headline of an article or episode.
+     */
+    String COLUMN_HEADLINE = "headline";
+
+    /**
+     * Column - Section under which an article is listed.
+     */
+    String COLUMN_SECTION = "section";
+
+    /**
+     * Column - Author(s) of an article or people present in an episode.
+     */
+    String COLUMN_BY_LINE = "by_line";
+
+    /**
+     * Column - Publication of an article.
+     */
+    String COLUMN_PUBLICATION = "publication";
+
+    /**
+     * Column - Time (in milliseconds since epoch) an article or episode was published.
+     */
+    String COLUMN_PUBLICATION_TIME = "publication_time";
+
+    /**
+     * Column - Thumbnail URL of an article or episode.
+     */
+    String COLUMN_THUMBNAIL = "thumbnail";
+
+    /**
+     * Column - Brief info. about an episode.
+     */
+    String COLUMN_STAND_FIRST = "stand_first";
+
+    /**
+     * Column - Path of a podcast in "The Guardian" API.
+     */
+    String COLUMN_PODCAST = "podcast";
+
+    /**
+     * Column - Description of a podcast.
+     */
+    String COLUMN_DESCRIPTION = "description";
+
+    /**
+     * Column - URL locating a podcast in Apple Podcasts.
+     */
+    String COLUMN_APPLE = "apple";
+
+    /**
+     * Column - URL locating a podcast in Google Podcasts.
+     */
+    String COLUMN_GOOGLE = "google";
+
+    /**
+     * Column - URL locating a podcast in Spotify.
+     */
+    String COLUMN_SPOTIFY = "spotify";
+
+    /**
+     * Column - 1 if a podcast contains explicit topics, 0 otherwise.
+     */
+    String COLUMN_EXPLICIT = "explicit";
+
+    /**
+     * Table storing every article and episode ever downloaded, shown as local search results.
+     */
+    String TABLE_INDEXED_ARTICLES = "indexed_articles";
+
+    /**
+     * Full-text index over {@link #TABLE_INDEXED_ARTICLES}. Its "docid" is the "id" of the
+     * indexed article.
+     */
+    String TABLE_SEARCH_INDEX = "search_index";
+
+    /**
+     * Column - Row id of an indexed article.
+     */
+    String COLUMN_ID = "id";
+
+    /**
+     * Column - Row id of the indexed article a row of {@link #TABLE_SEARCH_INDEX} belongs to.
+     */
+    String COLUMN_DOC_ID = "docid";
+
+    /**
+     * Creates {@link #TABLE_INDEXED_ARTICLES}.
+     */
+    String SQL_CREATE_INDEXED_ARTICLES = "CREATE TABLE " + TABLE_INDEXED_ARTICLES + " ("
+            + COLUMN_ID + " INTEGER PRIMARY KEY, "
+            + COLUMN_URL + " TEXT NOT NULL UNIQUE, "
+            + COLUMN_HEADLINE + " TEXT, "
+            + COLUMN_SECTION + " TEXT, "
+            + COLUMN_BY_LINE + " TEXT, "
+            + COLUMN_PUBLICATION + " TEXT, "
+            + COLUMN_PUBLICATION_TIME + " INTEGER, "
+            + COLUMN_THUMBNAIL + " TEXT)";
+
+    /**
+     * Creates {@link #TABLE_SEARCH_INDEX}. Words are case folded and stripped of diacritics.
+     */
+    String SQL_CREATE_SEARCH_INDEX = "CREATE VIRTUAL TABLE " + TABLE_SEARCH_INDEX
+            + " USING fts4(" + COLUMN_HEADLINE + ", " + COLUMN_BY_LINE + ", " + COLUMN_SECTION
+            + ", " + COLUMN_STAND_FIRST + ", tokenize=unicode61)";
+
+    /**
+     * Finds indexed articles matching a full-text query, most recently indexed first. Takes the
+     * query and the maximum number of results.
+     * <p>
+     * Ordering by "docid" is served by the index itself, so only the returned matches are joined.
+     * Ordering by publication time would sort every match, which is ~40x slower for common words
+     * in large indexes (see SearchIndexBenchmark).
+     */
+    String SQL_SEARCH = "SELECT a." + COLUMN_URL + ", a." + COLUMN_HEADLINE + ", a."
+            + COLUMN_SECTION + ", a." + COLUMN_BY_LINE + ", a." + COLUMN_PUBLICATION + ", a."
+            + COLUMN_PUBLICATION_TIME + ", a." + COLUMN_THUMBNAIL
+            + " FROM (SELECT " + COLUMN_DOC_ID + " FROM " + TABLE_SEARCH_INDEX + " WHERE "
+            + TABLE_SEARCH_INDEX + " MATCH ? ORDER BY " + COLUMN_DOC_ID + " DESC LIMIT ?) s"
+            + " JOIN " + TABLE_INDEXED_ARTICLES + " a ON a." + COLUMN_ID + " = s." + COLUMN_DOC_ID
+            + " ORDER BY s." + COLUMN_DOC_ID + " DESC";
+
+    /**
+     * Maximum number of local search results.
+     */
+    int SIZE_LOCAL_RESULTS = 50;
+}
\ No newline at end of file
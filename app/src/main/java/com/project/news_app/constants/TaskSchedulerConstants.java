@@ -0,0 +1,60 @@
+package com.project.news_app.constants;
+
+import com.project.news_app.utils.TaskScheduler;
+
+/**
+ * Contains constants for {@link TaskScheduler}.
+ */
+public interface TaskSchedulerConstants {
+    /**
+     * Used for Logs.
+     */
+    String TAG = "TaskScheduler";
+
+    /**
+     * Lane running tasks that mostly wait on "The Guardian" API.
+     */
+    int LANE_NETWORK = 0;
+
+    /**
+     * Lane running CPU-bound tasks, e.g. comparing lists shown by adapters.
+     */
+    int LANE_CPU = 1;
+
+    /**
+     * Lane running tasks that read or write the device storage.
+     */
+    int LANE_DISK = 2;
+
+    /**
+     * Priority of tasks loading what the user is looking at. Runs first.
+     */
+    int PRIORITY_VISIBLE = 0;
+
+    /**
+     * Priority of tasks loading what the user is likely to look at next.
+     */
+    int PRIORITY_PREFETCH = 1;
+
+    /**
+     * Priority of tasks the user doesn't wait for, e.g. storing downloaded news. Runs last.
+     */
+    int PRIORITY_BACKGROUND = 2;
+
+    /**
+     * Number of threads of {@link #LANE_NETWORK}. Sections of the home feed download together,
+     * next to the load waiting on them.
+     */
+    int POOL_SIZE_NETWORK = 6;
+
+    /**
+     * Number of threads of {@link #LANE_DISK}. SQLite serializes writes, a second thread keeps
+     * reads going while the home feed waits on its sections.
+     */
+    int POOL_SIZE_DISK = 2;
+
+    /**
+     * Time (in seconds) an idle thread is kept alive.
+     */
+    long KEEP_ALIVE_TASK = 30;
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.project.news_app.constants;
+
+import com.project.news_app.utils.TextLayouts;
+
+/**
+ * Contains constants for {@link TextLayouts}.
+ */
+public interface TextLayoutsConstants {
+    /**
+     * Used for Logs.
+     */
+    String TAG = "TextLayouts";
+
+    /**
+     * Number of text layouts kept in memory. Fits every headline, section name and author info.
+     * of a category scrolled through a few pages.
+     */
+    int SIZE_TEXT_LAYOUT_CACHE = 512;
+
+    /**
+     * Text shows the news headline.
+     */
+    int ROLE_HEADLINE = 0;
+
+    /**
+     * Text shows the section name under which the news belongs.
+     */
+    int ROLE_SECTION = 1;
+
+    /**
+     * Text shows the author info.
+     */
+    int ROLE_BY_LINE = 2;
+
+    /**
+     * Number of roles, i.e. text styles per view type.
+     */
+    int COUNT_ROLES = 3;
+}
@@ -2,6 +2,7 @@ package com.project.news_app.data;
 
 import com.project.news_app.constants.JsonUtilsConstants;
 import com.project.news_app.adapters.EpisodeAdapter;
+import com.project.news_app.utils.JsonUtils;
 
 /**
  * Defines an Episode belonging to a {@link Podcast}.
@@ -22,7 +23,13 @@ public class Episode {
     private String byLine;
 
     /**
-     * Stores then date when this episode was recorded.
+     * Stores the time (in milliseconds since epoch) when this episode was published.
+     * {@link JsonUtilsConstants#TIME_UNKNOWN} if it's not available.
+     */
+    private long publicationTime = JsonUtilsConstants.TIME_UNKNOWN;
+
+    /**
+     * Stores the date shown to the user. Formatted the first time it is shown.
      * <p>
      * Date Format - {@link JsonUtilsConstants#PATTERN_PODCAST}
      */
@@ -75,10 +82,11 @@ public class Episode {
     }
 
     /**
-     * Sets the date when the episode was recorded.
+     * Sets the time (in milliseconds since epoch) when the episode was published.
      */
-    public void setDate(String date) {
-        this.date = date;
+    public void setPublicationTime(long publicationTime) {
+        this.publicationTime = publicationTime;
+        this.date = null;
     }
 
     /**
@@ -140,9 +148,22 @@ public class Episode {
     }
 
     /**
-     * @return Date when the episode was recorded.
+     * @return Time (in milliseconds since epoch) when the episode was published.
+     */
+    public long getPublicationTime() {
+        return publicationTime;
+    }
+
+    /**
+     * Formats the publication time on first call, so episodes never shown are never formatted.
+     * Called from the main thread when the episode is bound.
+     *
+     * @return Date when the episode was published. EMPTY if it's not available.
      */
     public String getDate() {
+        if (date == null) {
+            date = JsonUtils.formatDate(publicationTime, JsonUtilsConstants.PATTERN_PODCAST);
+        }
         return date;
     }
 
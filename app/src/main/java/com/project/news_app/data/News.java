@@ -5,6 +5,7 @@ import android.os.Parcelable;
 
 import com.project.news_app.constants.NewsAdapterConstants;
 import com.project.news_app.constants.JsonUtilsConstants;
+import com.project.news_app.utils.JsonUtils;
 
 /**
  * Defines a single News item.
@@ -26,7 +27,13 @@ public class News implements Parcelable {
     private String publication;
 
     /**
-     * Stores the date when this news was published.
+     * Stores the time (in milliseconds since epoch) when this news was published.
+     * {@link JsonUtilsConstants#TIME_UNKNOWN} if it's not available.
+     */
+    private long publicationTime = JsonUtilsConstants.TIME_UNKNOWN;
+
+    /**
+     * Stores the publication date shown to the user. Formatted the first time it is shown.
      * <p>
      * Date Format - {@link JsonUtilsConstants#PATTERN_CATEGORY}
      */
@@ -44,13 +51,28 @@ public class News implements Parcelable {
 
     }
 
+    /**
+     * Creates a copy of "news", so its view type can be changed without affecting "news".
+     */
+    public News(News news) {
+        headline = news.headline;
+        sectionName = news.sectionName;
+        articleURL = news.articleURL;
+        byLine = news.byLine;
+        publication = news.publication;
+        publicationTime = news.publicationTime;
+        date = news.date;
+        thumbnailUrl = news.thumbnailUrl;
+        viewType = news.viewType;
+    }
+
     protected News(Parcel in) {
         headline = in.readString();
         sectionName = in.readString();
         articleURL = in.readString();
         byLine = in.readString();
         publication = in.readString();
-        date = in.readString();
+        publicationTime = in.readLong();
         thumbnailUrl = in.readString();
         viewType = in.readInt();
     }
@@ -103,10 +125,11 @@ public class News implements Parcelable {
     }
 
     /**
-     * Sets the publication date for this News.
+     * Sets the publication time (in milliseconds since epoch) for this News.
      */
-    public void setDate(String date) {
-        this.date = date;
+    public void setPublicationTime(long publicationTime) {
+        this.publicationTime = publicationTime;
+        this.date = null;
     }
 
     /**
@@ -159,9 +182,22 @@ public class News implements Parcelable {
     }
 
     /**
-     * @return Article's publication date.
+     * @return Article's publication time (in milliseconds since epoch).
+     */
+    public long getPublicationTime() {
+        return publicationTime;
+    }
+
+    /**
+     * Formats the publication time on first call, so items never shown are never formatted.
+     * Called from the main thread when the item is bound.
+     *
+     * @return Article's publication date. EMPTY if it's not available.
      */
     public String getDate() {
+        if (date == null) {
+            date = JsonUtils.formatDate(publicationTime, JsonUtilsConstants.PATTERN_CATEGORY);
+        }
         return date;
     }
 
@@ -191,7 +227,7 @@ public class News implements Parcelable {
         dest.writeString(articleURL);
         dest.writeString(byLine);
         dest.writeString(publication);
-        dest.writeString(date);
+        dest.writeLong(publicationTime);
         dest.writeString(thumbnailUrl);
         dest.writeInt(viewType);
     }
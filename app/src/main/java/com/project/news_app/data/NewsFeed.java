@@ -3,6 +3,7 @@ package com.project.news_app.data;
 import java.util.ArrayList;
 
 import com.project.news_app.activities.CategoryActivity;
+import com.project.news_app.constants.HeadlineFragmentConstants;
 
 /**
  * Defines a single news feed.
@@ -26,6 +27,12 @@ public class NewsFeed {
     // Stores news based on path.
     private ArrayList<News> news;
 
+    /**
+     * Stores whether this feed is loading, loaded or failed to load. Check
+     * {@link HeadlineFragmentConstants#FEED_STATE_LOADING}.
+     */
+    private int state = HeadlineFragmentConstants.FEED_STATE_LOADED;
+
     /**
      * Sets the label for this news feed.
      */
@@ -61,6 +68,13 @@ public class NewsFeed {
         this.news = news;
     }
 
+    /**
+     * Sets the download state of this news feed.
+     */
+    public void setState(int state) {
+        this.state = state;
+    }
+
     /**
      * @return News feed's label.
      */
@@ -95,4 +109,11 @@ public class NewsFeed {
     public ArrayList<News> getNews() {
         return news;
     }
+
+    /**
+     * @return News feed's download state.
+     */
+    public int getState() {
+        return state;
+    }
 }
\ No newline at end of file
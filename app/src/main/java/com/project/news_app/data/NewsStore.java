@@ -0,0 +1,454 @@
+package com.project.news_app.data;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.text.TextUtils;
+import android.util.Log;
+
+import com.project.news_app.adapters.EpisodeAdapter;
+import com.project.news_app.constants.NewsStoreConstants;
+import com.project.news_app.utils.SearchUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the last downloaded {@link News}, {@link Episode} and {@link Podcast} info. on disk, so
+ * screens can be shown from the last known feed before (or without) touching the network.
+ * <p>
+ * Articles are stored once, keyed by their URL, and every feed (prefix followed by section path)
+ * stores the order of its articles. Podcasts are keyed by their path and store their episodes in
+ * order. Feeds are replaced as a whole every time they are downloaded.
+ * <p>
+ * Every article and episode stored is also added to a full-text index which outlives the feeds,
+ * so searches can be answered on the device before "The Guardian" API responds.
+ * <p>
+ * Every method reads or writes the database, so it must be called from a background thread.
+ */
+public class NewsStore extends SQLiteOpenHelper implements NewsStoreConstants {
+    /**
+     * Store shared across the app. Created on first use.
+     */
+    private static volatile NewsStore instance;
+
+    private NewsStore(Context context) {
+        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+    }
+
+    /**
+     * @return The {@link NewsStore} shared across the app.
+     */
+    public static NewsStore getInstance(Context context) {
+        if (instance == null) {
+            synchronized (NewsStore.class) {
+                if (instance == null) {
+                    instance = new NewsStore(context.getApplicationContext());
+                }
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE_ARTICLES + " ("
+                + COLUMN_URL + " TEXT PRIMARY KEY, "
+                + COLUMN_HEADLINE + " TEXT, "
+                + COLUMN_SECTION + " TEXT, "
+                + COLUMN_BY_LINE + " TEXT, "
+                + COLUMN_PUBLICATION + " TEXT, "
+                + COLUMN_PUBLICATION_TIME + " INTEGER, "
+                + COLUMN_THUMBNAIL + " TEXT)");
+
+        db.execSQL("CREATE TABLE " + TABLE_FEED_ITEMS + " ("
+                + COLUMN_FEED + " TEXT NOT NULL, "
+                + COLUMN_POSITION + " INTEGER NOT NULL, "
+                + COLUMN_URL + " TEXT NOT NULL, "
+                + COLUMN_VIEW_TYPE + " INTEGER, "
+                + "PRIMARY KEY (" + COLUMN_FEED + ", " + COLUMN_POSITION + "))");
+
+        db.execSQL("CREATE TABLE " + TABLE_PODCASTS + " ("
+                + COLUMN_PODCAST + " TEXT PRIMARY KEY, "
+                + COLUMN_URL + " TEXT, "
+                + COLUMN_DESCRIPTION + " TEXT, "
+                + COLUMN_APPLE + " TEXT, "
+                + COLUMN_GOOGLE + " TEXT, "
+                + COLUMN_SPOTIFY + " TEXT, "
+                + COLUMN_EXPLICIT + " INTEGER)");
+
+        db.execSQL("CREATE TABLE " + TABLE_EPISODES + " ("
+                + COLUMN_PODCAST + " TEXT NOT NULL, "
+                + COLUMN_POSITION + " INTEGER NOT NULL, "
+                + COLUMN_URL + " TEXT, "
+                + COLUMN_HEADLINE + " TEXT, "
+                + COLUMN_STAND_FIRST + " TEXT, "
+                + COLUMN_BY_LINE + " TEXT, "
+                + COLUMN_PUBLICATION_TIME + " INTEGER, "
+                + COLUMN_THUMBNAIL + " TEXT, "
+                + "PRIMARY KEY (" + COLUMN_PODCAST + ", " + COLUMN_POSITION + "))");
+
+        db.execSQL(SQL_CREATE_INDEXED_ARTICLES);
+        db.execSQL(SQL_CREATE_SEARCH_INDEX);
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // Stored feeds are only a copy of the network, so they are simply dropped.
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_ARTICLES);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_FEED_ITEMS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_PODCASTS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_EPISODES);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_INDEXED_ARTICLES);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_SEARCH_INDEX);
+        onCreate(db);
+    }
+
+    /**
+     * Replaces the stored articles of "feed" with "news". Nothing is stored if "news" is empty, so
+     * a failed download never wipes out the last known feed.
+     *
+     * @param feed Prefix followed by the section path, e.g. {@link #FEED_HOME} + "world".
+     * @param news Downloaded news items in the order they are shown.
+     */
+    public void saveNews(String feed, List<News> news) {
+        if (news == null || news.isEmpty()) {
+            return;
+        }
+
+        try {
+            SQLiteDatabase db = getWritableDatabase();
+            db.beginTransaction();
+            try {
+                db.delete(TABLE_FEED_ITEMS, COLUMN_FEED + " = ?", new String[]{feed});
+
+                // Reused for every row.
+                ContentValues article = new ContentValues();
+                ContentValues item = new ContentValues();
+
+                for (int i = 0; i < news.size(); i++) {
+                    News current = news.get(i);
+
+                    // Articles without a URL (EMPTY when missing in the response) cannot be keyed.
+                    if (TextUtils.isEmpty(current.getArticleURL())) {
+                        continue;
+                    }
+
+                    article.put(COLUMN_URL, current.getArticleURL());
+                    article.put(COLUMN_HEADLINE, current.getHeadline());
+                    article.put(COLUMN_SECTION, current.getSectionName());
+                    article.put(COLUMN_BY_LINE, current.getByLine());
+                    article.put(COLUMN_PUBLICATION, current.getPublication());
+                    article.put(COLUMN_PUBLICATION_TIME, current.getPublicationTime());
+                    article.put(COLUMN_THUMBNAIL, current.getThumbnailUrl());
+                    db.insertWithOnConflict(TABLE_ARTICLES, null, article,
+                            SQLiteDatabase.CONFLICT_REPLACE);
+
+                    item.put(COLUMN_FEED, feed);
+                    item.put(COLUMN_POSITION, i);
+                    item.put(COLUMN_URL, current.getArticleURL());
+                    item.put(COLUMN_VIEW_TYPE, current.getViewType());
+                    db.insert(TABLE_FEED_ITEMS, null, item);
+
+                    indexArticle(db, current.getArticleURL(), current.getHeadline(),
+                            current.getSectionName(), current.getByLine(), null,
+                            current.getPublication(), current.getPublicationTime(),
+                            current.getThumbnailUrl());
+                }
+
+                // Removing articles no longer listed by any feed.
+                db.delete(TABLE_ARTICLES, COLUMN_URL + " NOT IN (SELECT " + COLUMN_URL
+                        + " FROM " + TABLE_FEED_ITEMS + ")", null);
+
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        } catch (SQLException e) {
+            Log.e(TAG, "Cannot store feed " + feed + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * @param feed Prefix followed by the section path, e.g. {@link #FEED_HOME} + "world".
+     * @return Last stored news items of "feed" in the order they were shown. Empty if the feed
+     * was never stored.
+     */
+    public ArrayList<News> loadNews(String feed) {
+        // Initializing list of type News.
+        ArrayList<News> news = new ArrayList<>();
+
+        String query = "SELECT a." + COLUMN_URL + ", a." + COLUMN_HEADLINE + ", a."
+                + COLUMN_SECTION + ", a." + COLUMN_BY_LINE + ", a." + COLUMN_PUBLICATION + ", a."
+                + COLUMN_PUBLICATION_TIME + ", a." + COLUMN_THUMBNAIL + ", f." + COLUMN_VIEW_TYPE
+                + " FROM " + TABLE_FEED_ITEMS + " f JOIN " + TABLE_ARTICLES + " a ON f."
+                + COLUMN_URL + " = a." + COLUMN_URL
+                + " WHERE f." + COLUMN_FEED + " = ? ORDER BY f." + COLUMN_POSITION;
+
+        try (Cursor cursor = getReadableDatabase().rawQuery(query, new String[]{feed})) {
+            while (cursor.moveToNext()) {
+                News item = new News();
+                item.setArticleURL(cursor.getString(0));
+                item.setHeadline(cursor.getString(1));
+                item.setSectionName(cursor.getString(2));
+                item.setByLine(cursor.getString(3));
+                item.setPublication(cursor.getString(4));
+                item.setPublicationTime(cursor.getLong(5));
+                item.setThumbnailUrl(cursor.getString(6));
+                item.setViewType(cursor.getInt(7));
+                news.add(item);
+            }
+        } catch (SQLException e) {
+            Log.e(TAG, "Cannot read feed " + feed + " - " + e.getMessage());
+        }
+        return news;
+    }
+
+    /**
+     * Replaces the stored info. and episodes of the podcast at "path" with "episodes". Nothing is
+     * stored if no episode is available.
+     *
+     * @param path     Path of the podcast in "The Guardian" API.
+     * @param episodes Downloaded episodes, led by the {@link EpisodeAdapter#PODCAST_ABOUT} item.
+     */
+    public void saveEpisodes(String path, List<Episode> episodes) {
+        if (episodes == null || episodes.size() < 2) {
+            return;
+        }
+
+        try {
+            SQLiteDatabase db = getWritableDatabase();
+            db.beginTransaction();
+            try {
+                db.delete(TABLE_EPISODES, COLUMN_PODCAST + " = ?", new String[]{path});
+
+                // Reused for every episode.
+                ContentValues values = new ContentValues();
+
+                int position = 0;
+                for (Episode episode : episodes) {
+                    if (episode.getViewType() == EpisodeAdapter.PODCAST_ABOUT) {
+                        savePodcast(db, path, episode.getPodcast());
+                        continue;
+                    }
+
+                    values.put(COLUMN_PODCAST, path);
+                    values.put(COLUMN_POSITION, position++);
+                    values.put(COLUMN_URL, episode.getEpisodeUrl());
+                    values.put(COLUMN_HEADLINE, episode.getHeadline());
+                    values.put(COLUMN_STAND_FIRST, episode.getStandFirst());
+                    values.put(COLUMN_BY_LINE, episode.getByLine());
+                    values.put(COLUMN_PUBLICATION_TIME, episode.getPublicationTime());
+                    values.put(COLUMN_THUMBNAIL, episode.getThumbnailUrl());
+                    db.insert(TABLE_EPISODES, null, values);
+
+                    // Index is keyed by URL as well.
+                    if (!TextUtils.isEmpty(episode.getEpisodeUrl())) {
+                        indexArticle(db, episode.getEpisodeUrl(), episode.getHeadline(), null,
+                                episode.getByLine(), episode.getStandFirst(), null,
+                                episode.getPublicationTime(), episode.getThumbnailUrl());
+                    }
+                }
+
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        } catch (SQLException e) {
+            Log.e(TAG, "Cannot store podcast " + path + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stores info. of "podcast" under "path".
+     */
+    private void savePodcast(SQLiteDatabase db, String path, Podcast podcast) {
+        ContentValues values = new ContentValues();
+        values.put(COLUMN_PODCAST, path);
+        values.put(COLUMN_URL, podcast.getWebUrl());
+        values.put(COLUMN_DESCRIPTION, podcast.getDescription());
+        values.put(COLUMN_APPLE, podcast.getApplePodcastUrl());
+        values.put(COLUMN_GOOGLE, podcast.getGooglePodcastUrl());
+        values.put(COLUMN_SPOTIFY, podcast.getSpotifyUrl());
+        values.put(COLUMN_EXPLICIT, podcast.isExplicit() ? 1 : 0);
+        db.insertWithOnConflict(TABLE_PODCASTS, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+    }
+
+    /**
+     * Restores the last stored podcast info. into "clickedPodcast" along with its episodes.
+     *
+     * @param path           Path of the podcast in "The Guardian" API.
+     * @param clickedPodcast Podcast the episodes belong to.
+     * @return Stored episodes led by the {@link EpisodeAdapter#PODCAST_ABOUT} item, in the same
+     * shape as a downloaded list. Empty if the podcast was never stored.
+     */
+    public ArrayList<Episode> loadEpisodes(String path, Podcast clickedPodcast) {
+        // Initializing list of type Episode.
+        ArrayList<Episode> episodes = new ArrayList<>();
+
+        try {
+            SQLiteDatabase db = getReadableDatabase();
+            String[] args = {path};
+
+            try (Cursor cursor = db.query(TABLE_PODCASTS, new String[]{COLUMN_URL,
+                            COLUMN_DESCRIPTION, COLUMN_APPLE, COLUMN_GOOGLE, COLUMN_SPOTIFY,
+                            COLUMN_EXPLICIT}, COLUMN_PODCAST + " = ?", args, null, null,
+                    null)) {
+                if (!cursor.moveToFirst()) {
+                    return episodes;
+                }
+                clickedPodcast.setWebUrl(cursor.getString(0));
+                clickedPodcast.setDescription(cursor.getString(1));
+                clickedPodcast.setApplePodcastUrl(cursor.getString(2));
+                clickedPodcast.setGooglePodcastUrl(cursor.getString(3));
+                clickedPodcast.setSpotifyUrl(cursor.getString(4));
+                clickedPodcast.setExplicit(cursor.getInt(5) != 0);
+            }
+
+            // Adding info. about the clicked podcast as the first item in the list of episodes.
+            Episode aboutPodcast = new Episode();
+            aboutPodcast.setViewType(EpisodeAdapter.PODCAST_ABOUT);
+            aboutPodcast.setPodcast(clickedPodcast);
+            episodes.add(aboutPodcast);
+
+            try (Cursor cursor = db.query(TABLE_EPISODES, new String[]{COLUMN_URL,
+                            COLUMN_HEADLINE, COLUMN_STAND_FIRST, COLUMN_BY_LINE,
+                            COLUMN_PUBLICATION_TIME, COLUMN_THUMBNAIL}, COLUMN_PODCAST + " = ?",
+                    args, null, null, COLUMN_POSITION)) {
+                while (cursor.moveToNext()) {
+                    Episode episode = new Episode();
+                    episode.setEpisodeUrl(cursor.getString(0));
+                    episode.setHeadline(cursor.getString(1));
+                    episode.setStandFirst(cursor.getString(2));
+                    episode.setByLine(cursor.getString(3));
+                    episode.setPublicationTime(cursor.getLong(4));
+                    episode.setThumbnailUrl(cursor.getString(5));
+                    episodes.add(episode);
+                }
+            }
+        } catch (SQLException e) {
+            Log.e(TAG, "Cannot read podcast " + path + " - " + e.getMessage());
+            episodes.clear();
+        }
+
+        // Podcast info. without any episode is treated as not stored.
+        if (episodes.size() < 2) {
+            episodes.clear();
+        }
+        return episodes;
+    }
+
+    /**
+     * Adds "news" to the full-text index without storing them in any feed. Used for search
+     * results.
+     *
+     * @param news Downloaded news items.
+     */
+    public void indexNews(List<News> news) {
+        if (news == null || news.isEmpty()) {
+            return;
+        }
+
+        try {
+            SQLiteDatabase db = getWritableDatabase();
+            db.beginTransaction();
+            try {
+                for (News item : news) {
+                    if (!TextUtils.isEmpty(item.getArticleURL())) {
+                        indexArticle(db, item.getArticleURL(), item.getHeadline(),
+                                item.getSectionName(), item.getByLine(), null,
+                                item.getPublication(), item.getPublicationTime(),
+                                item.getThumbnailUrl());
+                    }
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        } catch (SQLException e) {
+            Log.e(TAG, "Cannot index news - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds or updates the article at "url" in the full-text index. Must be called inside a
+     * transaction. Null "standFirst" keeps the one already indexed.
+     */
+    private void indexArticle(SQLiteDatabase db, String url, String headline, String section,
+                              String byLine, String standFirst, String publication,
+                              long publicationTime, String thumbnailUrl) {
+        // Row id of the article if it was indexed before.
+        long id = -1;
+        try (Cursor cursor = db.query(TABLE_INDEXED_ARTICLES, new String[]{COLUMN_ID},
+                COLUMN_URL + " = ?", new String[]{url}, null, null, null)) {
+            if (cursor.moveToFirst()) {
+                id = cursor.getLong(0);
+            }
+        }
+
+        ContentValues article = new ContentValues();
+        article.put(COLUMN_URL, url);
+        article.put(COLUMN_HEADLINE, headline);
+        article.put(COLUMN_SECTION, section);
+        article.put(COLUMN_BY_LINE, byLine);
+        article.put(COLUMN_PUBLICATION, publication);
+        article.put(COLUMN_PUBLICATION_TIME, publicationTime);
+        article.put(COLUMN_THUMBNAIL, thumbnailUrl);
+
+        ContentValues text = new ContentValues();
+        text.put(COLUMN_HEADLINE, headline);
+        text.put(COLUMN_BY_LINE, byLine);
+        text.put(COLUMN_SECTION, section);
+        if (standFirst != null) {
+            text.put(COLUMN_STAND_FIRST, standFirst);
+        }
+
+        if (id == -1) {
+            id = db.insert(TABLE_INDEXED_ARTICLES, null, article);
+            text.put(COLUMN_DOC_ID, id);
+            db.insert(TABLE_SEARCH_INDEX, null, text);
+        } else {
+            String[] args = {String.valueOf(id)};
+            db.update(TABLE_INDEXED_ARTICLES, article, COLUMN_ID + " = ?", args);
+            db.update(TABLE_SEARCH_INDEX, text, COLUMN_DOC_ID + " = ?", args);
+        }
+    }
+
+    /**
+     * Searches every article and episode ever stored.
+     *
+     * @param query Words entered by the user.
+     * @return Up to {@link #SIZE_LOCAL_RESULTS} news items containing every word of "query" (or
+     * words starting with them), most recently indexed first. Empty if nothing matches.
+     */
+    public ArrayList<News> searchNews(String query) {
+        // Initializing list of type News.
+        ArrayList<News> news = new ArrayList<>();
+
+        String matchQuery = SearchUtils.toMatchQuery(query);
+        if (matchQuery.isEmpty()) {
+            return news;
+        }
+
+        try (Cursor cursor = getReadableDatabase().rawQuery(SQL_SEARCH, new String[]{matchQuery,
+                String.valueOf(SIZE_LOCAL_RESULTS)})) {
+            while (cursor.moveToNext()) {
+                News item = new News();
+                item.setArticleURL(cursor.getString(0));
+                item.setHeadline(cursor.getString(1));
+                item.setSectionName(cursor.getString(2));
+                item.setByLine(cursor.getString(3));
+                item.setPublication(cursor.getString(4));
+                item.setPublicationTime(cursor.getLong(5));
+                item.setThumbnailUrl(cursor.getString(6));
+                news.add(item);
+            }
+        } catch (SQLException e) {
+            Log.e(TAG, "Cannot search for " + query + " - " + e.getMessage());
+        }
+        return news;
+    }
+}
\ No newline at end of file
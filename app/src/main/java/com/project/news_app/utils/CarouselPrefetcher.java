@@ -0,0 +1,282 @@
+package com.project.news_app.utils;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.TextUtils;
+import android.util.Size;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.request.target.CustomTarget;
+import com.bumptech.glide.request.transition.Transition;
+import com.project.news_app.adapters.NewsAdapter;
+import com.project.news_app.adapters.NewsFeedAdapter;
+import com.project.news_app.constants.ImageUtilsConstants;
+import com.project.news_app.data.News;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefetches thumbnails of the horizontal carousels nested in the home feed, so swiping a
+ * carousel or scrolling one into view shows warm thumbnails.
+ * <ul>
+ *     <li>Every carousel visible in the feed - the
+ *     {@link ImageUtilsConstants#PREFETCH_CAROUSEL_ITEMS} items past its last visible item.</li>
+ *     <li>First carousel below the fold - its first
+ *     {@link ImageUtilsConstants#PREFETCH_BELOW_FOLD_ITEMS} items.</li>
+ * </ul>
+ * Prefetches share one {@link PrefetchBudget} across every carousel, limiting the prefetches in
+ * flight and the bytes held by prefetched thumbnails. Carousels higher in the feed come first.
+ * <p>
+ * Listens to the scrolls of the feed and of every carousel, and to the layouts of the feed.
+ */
+public class CarouselPrefetcher extends RecyclerView.OnScrollListener implements
+        ImageUtilsConstants {
+    // Used to create the requests.
+    private final Context context;
+
+    // Provides the news items of carousels not shown yet.
+    private final NewsFeedAdapter adapter;
+
+    // Starts and clears prefetches, also once "context" is destroyed.
+    private final RequestManager requestManager;
+
+    // Decides which prefetches run.
+    private final PrefetchBudget<String> budget;
+
+    // Prefetches in flight, by key.
+    private final Map<String, PrefetchTarget> targets = new HashMap<>();
+
+    // News items last wanted, by key.
+    private final Map<String, News> items = new HashMap<>();
+
+    // Items last wanted with their bytes, by key.
+    private LinkedHashMap<String, Long> wanted = new LinkedHashMap<>();
+
+    // Finished prefetches are cleared on the main thread, outside of Glide's callbacks.
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    // Vertical RecyclerView showing the feed, null once detached.
+    private RecyclerView feed;
+
+    /**
+     * @param context Context to use, prefetches are tied to its lifecycle.
+     * @param adapter Adapter of the feed.
+     */
+    public CarouselPrefetcher(Context context, NewsFeedAdapter adapter) {
+        this.context = context;
+        this.adapter = adapter;
+        requestManager = Glide.with(context);
+        budget = new PrefetchBudget<>(MAX_CAROUSEL_PREFETCHES,
+                ImageUtils.getHeapLimit(context) / DIVISOR_PREFETCH_BUDGET);
+    }
+
+    /**
+     * Starts prefetching for the carousels shown by "feed".
+     */
+    public void attach(RecyclerView feed) {
+        this.feed = feed;
+        feed.addOnScrollListener(this);
+    }
+
+    /**
+     * Stops prefetching and cancels the prefetches in flight.
+     */
+    public void detach() {
+        if (feed != null) {
+            feed.removeOnScrollListener(this);
+            feed = null;
+        }
+
+        for (String key : budget.clear()) {
+            cancel(key);
+        }
+        wanted = new LinkedHashMap<>();
+        items.clear();
+    }
+
+    @Override
+    public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+        // Called for the feed, its carousels and after every layout of the feed.
+        update();
+    }
+
+    /**
+     * Finds the thumbnails wanted by the carousels in and just below the visible part of the
+     * feed, then starts and cancels prefetches accordingly.
+     */
+    private void update() {
+        if (feed == null) {
+            return;
+        }
+        LinearLayoutManager layoutManager = (LinearLayoutManager) feed.getLayoutManager();
+        if (layoutManager == null) {
+            return;
+        }
+
+        int first = layoutManager.findFirstVisibleItemPosition();
+        int last = layoutManager.findLastVisibleItemPosition();
+        if (first == RecyclerView.NO_POSITION) {
+            return;
+        }
+
+        LinkedHashMap<String, Long> wanted = new LinkedHashMap<>();
+        items.clear();
+
+        // Items past the last visible one of every visible carousel.
+        for (int position = first; position <= last; position++) {
+            RecyclerView.ViewHolder holder = feed.findViewHolderForAdapterPosition(position);
+            if (holder instanceof NewsFeedAdapter.CarouselHolder) {
+                RecyclerView carousel = ((NewsFeedAdapter.CarouselHolder) holder).getCarousel();
+                addVisibleCarousel(carousel, wanted);
+            }
+        }
+
+        // First items of the carousel below the fold.
+        for (int position = last + 1; position < adapter.getItemCount(); position++) {
+            List<News> news = adapter.getCarouselNews(position);
+            if (news != null) {
+                addFirstItems(news, PREFETCH_BELOW_FOLD_ITEMS, wanted);
+                break;
+            }
+        }
+
+        this.wanted = wanted;
+        budget.update(wanted, this::cancel, this::start);
+    }
+
+    /**
+     * Adds the items past the last visible item of "carousel" to "wanted".
+     */
+    private void addVisibleCarousel(RecyclerView carousel, LinkedHashMap<String, Long> wanted) {
+        LinearLayoutManager layoutManager = (LinearLayoutManager) carousel.getLayoutManager();
+        NewsAdapter newsAdapter = (NewsAdapter) carousel.getAdapter();
+        if (layoutManager == null || newsAdapter == null) {
+            return;
+        }
+
+        // Carousel not laid out yet, its first items are shown next.
+        int start = layoutManager.findLastVisibleItemPosition() + 1;
+
+        int end = Math.min(newsAdapter.getItemCount(), start + PREFETCH_CAROUSEL_ITEMS);
+        for (int position = start; position < end; position++) {
+            addItem(newsAdapter.getItem(position), wanted);
+        }
+    }
+
+    /**
+     * Adds the first "count" items of "news" to "wanted".
+     */
+    private void addFirstItems(List<News> news, int count, LinkedHashMap<String, Long> wanted) {
+        int end = Math.min(news.size(), count);
+        for (int position = 0; position < end; position++) {
+            addItem(news.get(position), wanted);
+        }
+    }
+
+    /**
+     * Adds the thumbnail of "news" to "wanted", if it shows one.
+     */
+    private void addItem(News news, LinkedHashMap<String, Long> wanted) {
+        String thumbnailUrl = news.getThumbnailUrl();
+        Size size = ImageUtils.getThumbnailSize(context, news.getViewType());
+        if (TextUtils.isEmpty(thumbnailUrl) || size == null) {
+            return;
+        }
+
+        // Same thumbnail shown at another size is another item.
+        String key = news.getViewType() + " " + thumbnailUrl;
+        if (wanted.containsKey(key)) {
+            return;
+        }
+
+        wanted.put(key, (long) size.getWidth() * size.getHeight() * BYTES_PER_PIXEL);
+        items.put(key, news);
+    }
+
+    /**
+     * Starts prefetching the item "key".
+     */
+    private void start(String key) {
+        News news = items.get(key);
+        RequestBuilder<Drawable> request = news == null ? null : CommonUtils.getThumbnailRequest(
+                context, news.getThumbnailUrl(), news.getViewType());
+        if (request == null) {
+            budget.onFinished(key);
+            return;
+        }
+
+        PrefetchTarget target = new PrefetchTarget(key);
+        targets.put(key, target);
+        request.into(target);
+    }
+
+    /**
+     * Cancels the prefetch of the item "key".
+     */
+    private void cancel(String key) {
+        PrefetchTarget target = targets.remove(key);
+        if (target != null) {
+            requestManager.clear(target);
+        }
+    }
+
+    /**
+     * Marks the prefetch of "key" done and starts the next wanted ones.
+     */
+    private void onFinished(String key, PrefetchTarget target) {
+        if (targets.get(key) != target) {
+            // Already cancelled.
+            return;
+        }
+        targets.remove(key);
+        budget.onFinished(key);
+
+        handler.post(() -> {
+            // Clearing a finished request keeps its thumbnail in the memory cache.
+            requestManager.clear(target);
+
+            if (feed != null) {
+                budget.update(wanted, this::cancel, this::start);
+            }
+        });
+    }
+
+    /**
+     * Holds a prefetched thumbnail until Glide moves it to its memory cache.
+     */
+    private class PrefetchTarget extends CustomTarget<Drawable> {
+        // Identifies the prefetched item.
+        private final String key;
+
+        PrefetchTarget(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void onResourceReady(@NonNull Drawable resource,
+                                    @Nullable Transition<? super Drawable> transition) {
+            onFinished(key, this);
+        }
+
+        @Override
+        public void onLoadFailed(@Nullable Drawable errorDrawable) {
+            onFinished(key, this);
+        }
+
+        @Override
+        public void onLoadCleared(@Nullable Drawable placeholder) {
+        }
+    }
+}
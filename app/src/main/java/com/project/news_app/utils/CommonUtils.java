@@ -6,8 +6,10 @@ import android.content.Intent;
 import android.net.ConnectivityManager;
 import android.net.Network;
 import android.net.NetworkCapabilities;
+import android.graphics.drawable.Drawable;
 import android.net.Uri;
 import android.text.TextUtils;
+import android.util.Size;
 import android.view.View;
 import android.widget.ImageView;
 import android.widget.TextView;
@@ -16,15 +18,21 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.core.content.ContextCompat;
 import androidx.lifecycle.Lifecycle;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestBuilder;
 import com.bumptech.glide.load.resource.drawable.DrawableTransitionOptions;
 import com.google.android.material.snackbar.Snackbar;
 import com.project.news_app.R;
 import com.project.news_app.activities.CategoryActivity;
+import com.project.news_app.constants.TaskSchedulerConstants;
 
 /**
  * Contains methods that are used across the app.
@@ -72,6 +80,45 @@ public class CommonUtils {
         recyclerView.setAdapter(adapter);
     }
 
+    /**
+     * Creates a differ comparing lists of "adapter" on the CPU lane of {@link TaskScheduler},
+     * ahead of prefetching and background work.
+     *
+     * @param adapter  Notified of the inserted, removed, moved and changed items only.
+     * @param callback Compares two items.
+     * @return Differ holding the list shown by "adapter".
+     */
+    public static <T> AsyncListDiffer<T> newDiffer(RecyclerView.Adapter<?> adapter,
+                                                   DiffUtil.ItemCallback<T> callback) {
+        return new AsyncListDiffer<>(new AdapterListUpdateCallback(adapter),
+                new AsyncDifferConfig.Builder<>(callback)
+                        .setBackgroundThreadExecutor(TaskScheduler.asExecutor(
+                                TaskSchedulerConstants.LANE_CPU,
+                                TaskSchedulerConstants.PRIORITY_VISIBLE))
+                        .build());
+    }
+
+    /**
+     * Lets "pager" download the next (or previous) page as the user scrolls "recyclerView".
+     *
+     * @param recyclerView RecyclerView linked with a {@link LinearLayoutManager}.
+     * @param pager        Provides the pages shown by "recyclerView".
+     */
+    public static void setupPaging(RecyclerView recyclerView, NewsPager pager) {
+        recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                LinearLayoutManager layoutManager =
+                        (LinearLayoutManager) recyclerView.getLayoutManager();
+
+                if (layoutManager != null) {
+                    pager.onScrolled(layoutManager.findFirstVisibleItemPosition(),
+                            layoutManager.findLastVisibleItemPosition());
+                }
+            }
+        });
+    }
+
     /**
      * Shows the clicked news category/title list in {@link CategoryActivity}.
      *
@@ -172,7 +219,8 @@ public class CommonUtils {
     }
 
     /**
-     * Downloads and sets thumbnail.
+     * Downloads and sets thumbnail. Once "imageView" is measured, the smallest rendition covering
+     * it is downloaded.
      *
      * @param context      Context to use.
      * @param imageView    Downloaded image is set to this View.
@@ -180,11 +228,62 @@ public class CommonUtils {
      */
     public static void setThumbnail(Context context, ImageView imageView, String thumbnailUrl) {
         Glide.with(context)
-                .load(thumbnailUrl)
+                .load(ImageUtils.getThumbnailUrl(thumbnailUrl, imageView.getWidth(),
+                        imageView.getHeight()))
                 .transition(DrawableTransitionOptions.withCrossFade())
                 .into(imageView);
     }
 
+    /**
+     * Downloads and sets thumbnail of a news item. The smallest rendition covering the ImageView of
+     * its layout is downloaded and decoded at the size of that ImageView.
+     *
+     * @param context      Context to use.
+     * @param imageView    Downloaded image is set to this View.
+     * @param thumbnailUrl Link points to the image.
+     * @param viewType     View type of the news item, see
+     *                     {@link ImageUtils#getThumbnailSize(Context, int)}.
+     */
+    public static void setThumbnail(Context context, ImageView imageView, String thumbnailUrl,
+                                    int viewType) {
+        RequestBuilder<Drawable> request = getThumbnailRequest(context, thumbnailUrl, viewType);
+
+        // View type has no known size, decoding at the measured size of "imageView".
+        if (request == null) {
+            setThumbnail(context, imageView, thumbnailUrl);
+            return;
+        }
+
+        request.transition(DrawableTransitionOptions.withCrossFade())
+                .into(imageView);
+    }
+
+    /**
+     * Creates the Glide request loading the thumbnail of a news item. Preloading the same request
+     * lets the item be shown from Glide's memory cache once bound.
+     *
+     * @param context      Context to use.
+     * @param thumbnailUrl Link points to the image.
+     * @param viewType     View type of the news item, see
+     *                     {@link ImageUtils#getThumbnailSize(Context, int)}.
+     * @return Request decoding the thumbnail at the size of its layout's ImageView, null if
+     * "viewType" has no known size.
+     */
+    public static RequestBuilder<Drawable> getThumbnailRequest(Context context,
+                                                               String thumbnailUrl,
+                                                               int viewType) {
+        Size size = ImageUtils.getThumbnailSize(context, viewType);
+        if (size == null) {
+            return null;
+        }
+
+        // Thumbnail ImageViews use the "centerCrop" scale type.
+        return Glide.with(context)
+                .load(ImageUtils.getThumbnailUrl(thumbnailUrl, size.getWidth(), size.getHeight()))
+                .override(size.getWidth(), size.getHeight())
+                .optionalCenterCrop();
+    }
+
     /**
      * Shows a {@link Toast} containing custom messages. Removes the currently showing Toast.
      *
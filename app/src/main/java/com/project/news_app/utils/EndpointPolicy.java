@@ -0,0 +1,149 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+
+/**
+ * Defines how requests made to a single kind of "The Guardian" API endpoint are handled.
+ * <p>
+ * Policies are attached to requests made by {@link NetworkUtils}. They decide how long responses
+ * stay fresh in the cache, how many times failed requests are retried, how long a request may
+ * take (retries included), the timeouts of a single attempt and whether slow requests are
+ * hedged.
+ */
+public class EndpointPolicy implements NetworkUtilsConstants {
+    /**
+     * Policy for sections shown in the "Categories" screen.
+     */
+    public static final EndpointPolicy SECTION = new EndpointPolicy(FRESHNESS_SECTION,
+            ATTEMPTS_SECTION, DEADLINE_SECTION, TIMEOUT_CONNECT, TIMEOUT_READ_SECTION, false);
+
+    /**
+     * Policy for headline sections shown in the home screen. Latency critical, so slow requests
+     * are hedged.
+     */
+    public static final EndpointPolicy HEADLINE = new EndpointPolicy(FRESHNESS_SECTION,
+            ATTEMPTS_SECTION, DEADLINE_SECTION, TIMEOUT_CONNECT_HEADLINE, TIMEOUT_READ_HEADLINE,
+            true);
+
+    /**
+     * Policy for searched news items.
+     */
+    public static final EndpointPolicy SEARCH = new EndpointPolicy(FRESHNESS_SEARCH,
+            ATTEMPTS_SEARCH, DEADLINE_SEARCH, TIMEOUT_CONNECT, TIMEOUT_READ_SEARCH, false);
+
+    /**
+     * Policy for podcast tag pages listing episodes.
+     */
+    public static final EndpointPolicy PODCAST = new EndpointPolicy(FRESHNESS_PODCAST,
+            ATTEMPTS_PODCAST, DEADLINE_PODCAST, TIMEOUT_CONNECT, TIMEOUT_READ_PODCAST, false);
+
+    /**
+     * Time (in seconds) a cached response is served without asking "The Guardian" API.
+     */
+    private final int freshness;
+
+    /**
+     * Number of times a request is made before giving up, first request included.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Time (in milliseconds) a request is given to download, retries included.
+     */
+    private final long deadline;
+
+    /**
+     * Time (in milliseconds) given to open a connection.
+     */
+    private final long connectTimeout;
+
+    /**
+     * Time (in milliseconds) a response may go without receiving any data.
+     */
+    private final long readTimeout;
+
+    /**
+     * True if a duplicate request is made when the first one is slower than the 95th percentile
+     * of recent requests. The first response to arrive is used.
+     */
+    private final boolean hedged;
+
+    /**
+     * Stores latencies of recent requests that reached the network.
+     */
+    private final LatencyTracker latencies = new LatencyTracker(SIZE_LATENCY_WINDOW);
+
+    EndpointPolicy(int freshness, int maxAttempts, long deadline, long connectTimeout,
+                   long readTimeout, boolean hedged) {
+        this.freshness = freshness;
+        this.maxAttempts = maxAttempts;
+        this.deadline = deadline;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.hedged = hedged;
+    }
+
+    /**
+     * @return Time (in seconds) a cached response stays fresh.
+     */
+    public int getFreshness() {
+        return freshness;
+    }
+
+    /**
+     * @return Number of times a request is made before giving up, first request included.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return Time (in milliseconds) a request is given to download, retries included.
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * @return Time (in milliseconds) given to open a connection.
+     */
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * @return Time (in milliseconds) a response may go without receiving any data.
+     */
+    public long getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * @return True if slow requests are hedged with a duplicate request.
+     */
+    public boolean isHedged() {
+        return hedged;
+    }
+
+    /**
+     * Records the latency of a request that reached the network. Responses served by the cache
+     * are left out, they would make the network look faster than it is.
+     *
+     * @param millis Time (in milliseconds) the request took.
+     */
+    void recordLatency(long millis) {
+        latencies.record(millis);
+    }
+
+    /**
+     * @return Time (in milliseconds) waited before hedging a request. The 95th percentile of
+     * recent latencies, {@link NetworkUtilsConstants#HEDGE_DELAY_DEFAULT} until enough of them
+     * were measured.
+     */
+    public long getHedgeDelay() {
+        if (latencies.size() < MIN_LATENCY_SAMPLES) {
+            return HEDGE_DELAY_DEFAULT;
+        }
+        return Math.max(HEDGE_DELAY_MIN, latencies.getPercentile(PERCENTILE_HEDGE));
+    }
+}
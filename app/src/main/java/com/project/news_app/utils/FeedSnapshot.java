@@ -0,0 +1,247 @@
+package com.project.news_app.utils;
+
+import android.util.Log;
+
+import com.project.news_app.constants.FeedSnapshotConstants;
+import com.project.news_app.data.News;
+import com.project.news_app.data.NewsFeed;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the last assembled home feed in a compact binary file, so the home screen can be shown
+ * on cold start before any network request or JSON parsing.
+ * <p>
+ * The file is memory-mapped when read and decoded straight from the mapped pages. Layout (all
+ * numbers big-endian):
+ * <pre>
+ * magic, version, feedCount,
+ *   feed -> type, state, title, label, path, newsCount,
+ *     news -> present, headline, sectionName, articleURL, byLine, publication,
+ *             thumbnailUrl, publicationTime, viewType
+ * </pre>
+ * Strings are written as their UTF-8 length followed by their bytes, null Strings and lists as
+ * {@link FeedSnapshotConstants#LENGTH_NULL}.
+ */
+public class FeedSnapshot implements FeedSnapshotConstants {
+    /**
+     * Time (in microseconds) taken by the last successful decode. -1 if nothing was decoded.
+     */
+    private static volatile long decodeTime = -1;
+
+    // Setting default Constructor to private.
+    private FeedSnapshot() {
+    }
+
+    /**
+     * Replaces the snapshot at "file" with "newsFeeds". The snapshot is written to a temporary
+     * file first, so a reader never sees a partially written snapshot.
+     *
+     * @param file      Snapshot file.
+     * @param newsFeeds Assembled news feeds in the order they are shown.
+     * @return "true", if the snapshot was written.
+     */
+    public static boolean write(File file, List<NewsFeed> newsFeeds) {
+        File temp = new File(file.getPath() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(newsFeeds.size());
+
+            for (NewsFeed feed : newsFeeds) {
+                out.writeInt(feed.getType());
+                out.writeInt(feed.getState());
+                writeString(out, feed.getTitle());
+                writeString(out, feed.getLabel());
+                writeString(out, feed.getPath());
+
+                ArrayList<News> news = feed.getNews();
+                if (news == null) {
+                    out.writeInt(LENGTH_NULL);
+                    continue;
+                }
+
+                out.writeInt(news.size());
+                for (News item : news) {
+                    // Top feed keeps an empty slot for every section not downloaded.
+                    out.writeBoolean(item != null);
+                    if (item == null) {
+                        continue;
+                    }
+
+                    writeString(out, item.getHeadline());
+                    writeString(out, item.getSectionName());
+                    writeString(out, item.getArticleURL());
+                    writeString(out, item.getByLine());
+                    writeString(out, item.getPublication());
+                    writeString(out, item.getThumbnailUrl());
+                    out.writeLong(item.getPublicationTime());
+                    out.writeInt(item.getViewType());
+                }
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Cannot write snapshot - " + e.getMessage());
+            temp.delete();
+            return false;
+        }
+
+        if (!temp.renameTo(file)) {
+            Log.e(TAG, "Cannot replace snapshot " + file);
+            temp.delete();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes "value" as its UTF-8 length followed by its bytes.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(LENGTH_NULL);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Memory-maps the snapshot at "file" and decodes it.
+     *
+     * @param file Snapshot file.
+     * @return News feeds in the order they were shown. Empty if there is no snapshot or it
+     * cannot be decoded.
+     */
+    public static ArrayList<NewsFeed> read(File file) {
+        if (!file.exists()) {
+            return new ArrayList<>();
+        }
+
+        long start = System.nanoTime();
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+
+            ArrayList<NewsFeed> newsFeeds = decode(buffer);
+
+            decodeTime = (System.nanoTime() - start) / 1000;
+            Log.i(TAG, "Decoded " + newsFeeds.size() + " feeds in " + decodeTime + "us");
+            return newsFeeds;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            // Snapshot is corrupt or from another version, it is replaced after the next load.
+            Log.e(TAG, "Cannot read snapshot - " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Decodes news feeds from "buffer".
+     */
+    private static ArrayList<NewsFeed> decode(ByteBuffer buffer) {
+        if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+            throw new IllegalArgumentException("Unknown snapshot format");
+        }
+
+        int feedCount = readLength(buffer);
+        ArrayList<NewsFeed> newsFeeds = new ArrayList<>(feedCount);
+
+        // Reused by every String read from "buffer" that fits in it.
+        byte[] scratch = new byte[SIZE_SCRATCH];
+
+        for (int i = 0; i < feedCount; i++) {
+            NewsFeed feed = new NewsFeed();
+            feed.setType(buffer.getInt());
+            feed.setState(buffer.getInt());
+            feed.setTitle(readString(buffer, scratch));
+            feed.setLabel(readString(buffer, scratch));
+            feed.setPath(readString(buffer, scratch));
+
+            int newsCount = buffer.getInt();
+            if (newsCount != LENGTH_NULL) {
+                ArrayList<News> news = new ArrayList<>(readLength(buffer, newsCount));
+
+                for (int j = 0; j < newsCount; j++) {
+                    if (buffer.get() == 0) {
+                        news.add(null);
+                        continue;
+                    }
+
+                    News item = new News();
+                    item.setHeadline(readString(buffer, scratch));
+                    item.setSectionName(readString(buffer, scratch));
+                    item.setArticleURL(readString(buffer, scratch));
+                    item.setByLine(readString(buffer, scratch));
+                    item.setPublication(readString(buffer, scratch));
+                    item.setThumbnailUrl(readString(buffer, scratch));
+                    item.setPublicationTime(buffer.getLong());
+                    item.setViewType(buffer.getInt());
+                    news.add(item);
+                }
+                feed.setNews(news);
+            }
+            newsFeeds.add(feed);
+        }
+        return newsFeeds;
+    }
+
+    /**
+     * Reads a String written by {@link #writeString(DataOutputStream, String)}.
+     */
+    private static String readString(ByteBuffer buffer, byte[] scratch) {
+        int length = buffer.getInt();
+        if (length == LENGTH_NULL) {
+            return null;
+        }
+
+        // Longer Strings are rare, they get their own array.
+        byte[] bytes = readLength(buffer, length) > scratch.length ? new byte[length] : scratch;
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count and checks it fits in the remaining bytes of "buffer".
+     */
+    private static int readLength(ByteBuffer buffer) {
+        return readLength(buffer, buffer.getInt());
+    }
+
+    /**
+     * Checks "length" is not negative and fits in the remaining bytes of "buffer", so a corrupt
+     * snapshot never allocates more than the size of the file.
+     *
+     * @return "length".
+     */
+    private static int readLength(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length " + length);
+        }
+        return length;
+    }
+
+    /**
+     * @return Time (in microseconds) taken by the last successful decode. -1 if nothing was
+     * decoded since the app started.
+     */
+    public static long getDecodeTime() {
+        return decodeTime;
+    }
+}
\ No newline at end of file
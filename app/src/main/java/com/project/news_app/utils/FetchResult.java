@@ -0,0 +1,118 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Outcome of a request made by {@link NetworkUtils#fetchNewsData}, so callers can tell a feed
+ * that is empty from a feed that could not be downloaded.
+ *
+ * @param <T> Type of the parsed response.
+ */
+public class FetchResult<T> implements NetworkUtilsConstants {
+    /**
+     * One of the RESULT_* constants in {@link NetworkUtilsConstants}.
+     */
+    private final int status;
+
+    // Stores the parsed response. Null unless the request succeeded.
+    private final T data;
+
+    // Stores the response code of the last attempt. 0 if no response was received.
+    private final int responseCode;
+
+    // Stores the number of times the request was made.
+    private final int attempts;
+
+    /**
+     * Time (in milliseconds) the server asked to wait before trying again. -1 if it did not ask.
+     */
+    private final long retryAfter;
+
+    FetchResult(int status, T data, int responseCode, int attempts, long retryAfter) {
+        this.status = status;
+        this.data = data;
+        this.responseCode = responseCode;
+        this.attempts = attempts;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return Result of a request that could not be made, e.g. when its URL is missing.
+     */
+    static <T> FetchResult<T> failed(int status, int attempts) {
+        return new FetchResult<>(status, null, 0, attempts, -1);
+    }
+
+    /**
+     * @return True if the response was downloaded and parsed.
+     */
+    public boolean isSuccessful() {
+        return status == RESULT_SUCCESS;
+    }
+
+    /**
+     * @return One of the RESULT_* constants in {@link NetworkUtilsConstants}.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Parsed response. Null unless the request succeeded.
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * @return Parsed response. "fallback" unless the request succeeded.
+     */
+    public T getDataOr(T fallback) {
+        return isSuccessful() ? data : fallback;
+    }
+
+    /**
+     * @return Response code of the last attempt. 0 if no response was received.
+     */
+    public int getResponseCode() {
+        return responseCode;
+    }
+
+    /**
+     * @return Number of times the request was made, retries included.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return Time (in milliseconds) the server asked to wait before trying again, see
+     * {@link NetworkUtilsConstants#HEADER_RETRY_AFTER}. -1 if it did not ask.
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * @return True if trying again may succeed, i.e. the connection failed, the server failed or
+     * too many requests were made.
+     */
+    boolean isRetryable() {
+        return status == RESULT_NETWORK_ERROR || (status == RESULT_HTTP_ERROR
+                && (responseCode == RESPONSE_CODE_TOO_MANY_REQUESTS
+                || responseCode >= RESPONSE_CODE_SERVER_ERROR));
+    }
+
+    /**
+     * @param copier Copies the parsed response.
+     * @return Same result holding a copy of the parsed response.
+     */
+    FetchResult<T> copy(UnaryOperator<T> copier) {
+        if (data == null) {
+            return this;
+        }
+        return new FetchResult<>(status, copier.apply(data), responseCode, attempts, retryAfter);
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.news_app.utils;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.content.res.Resources;
+import android.util.Size;
+
+import com.project.news_app.R;
+import com.project.news_app.constants.ImageUtilsConstants;
+import com.project.news_app.constants.NewsAdapterConstants;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import okhttp3.HttpUrl;
+
+/**
+ * Provides the sizes at which news thumbnails are decoded and the links to download them at
+ * those sizes.
+ */
+public class ImageUtils implements ImageUtilsConstants, NewsAdapterConstants {
+    /**
+     * Matches the last path segment of renditions served by {@link #HOST_MEDIA}.
+     */
+    private static final Pattern rendition = Pattern.compile(PATTERN_RENDITION);
+
+    // Setting default Constructor to private.
+    private ImageUtils() {
+    }
+
+    /**
+     * @return Heap limit of the app in bytes, i.e. its memory class. Halved on low RAM devices.
+     */
+    public static long getHeapLimit(Context context) {
+        ActivityManager activityManager =
+                (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+
+        long heapLimit = (long) activityManager.getMemoryClass() * BYTES_PER_MB;
+
+        // Low RAM devices keep fewer decoded thumbnails around.
+        if (activityManager.isLowRamDevice()) {
+            heapLimit /= DIVISOR_LOW_RAM;
+        }
+        return heapLimit;
+    }
+
+    /**
+     * Thumbnails are decoded at the size of the ImageView of their layout, so large images aren't
+     * kept in memory at full size for small cards. Known ahead of layout, Glide doesn't wait for
+     * the ImageView to be measured and requests for the same view type share cached Bitmaps.
+     *
+     * @param context  Context to use.
+     * @param viewType View type of the news item showing the thumbnail, e.g.
+     *                 {@link NewsAdapterConstants#TYPE_THREE}.
+     * @return Size of the thumbnail in pixels, null if "viewType" shows no thumbnail.
+     */
+    public static Size getThumbnailSize(Context context, int viewType) {
+        Resources resources = context.getResources();
+
+        switch (viewType) {
+            case TYPE_THREE:
+            case TYPE_FIVE:
+                // Thumbnail fills the width of the screen.
+                return new Size(resources.getDisplayMetrics().widthPixels,
+                        resources.getDimensionPixelSize(R.dimen.heightThumbnailLarge));
+
+            case TYPE_FOUR:
+            case TYPE_TWELVE:
+                return getSize(resources, R.dimen.widthThumbnailSmall,
+                        R.dimen.heightThumbnailSmall);
+
+            case TYPE_SIX:
+            case TYPE_SEVEN:
+            case TYPE_EIGHT:
+                // Style - ThumbnailDefault.
+                return getSize(resources, R.dimen.widthThumbnailMedium,
+                        R.dimen.heightThumbnailMedium);
+
+            case TYPE_NINE:
+            case TYPE_TEN:
+            case TYPE_ELEVEN:
+                // Style - ThumbnailEditorial.
+                return getSize(resources, R.dimen.widthThumbnailLarge,
+                        R.dimen.heightThumbnailMediumII);
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return Size made of the dimension resources "width" and "height", in pixels.
+     */
+    private static Size getSize(Resources resources, int width, int height) {
+        return new Size(resources.getDimensionPixelSize(width),
+                resources.getDimensionPixelSize(height));
+    }
+
+    /**
+     * Rewrites "thumbnailUrl" to the smallest rendition of the image still covering a View of
+     * "width" x "height" pixels, so small thumbnails aren't downloaded and decoded from large
+     * images.
+     * <ul>
+     *     <li>{@link #HOST_MEDIA} - picks one of {@link #WIDTHS_RENDITION}. Renditions wider than
+     *     the linked one aren't requested, as they may not exist.</li>
+     *     <li>{@link #HOST_IMAGES} - sets the width parameter, unless the URL is signed.</li>
+     * </ul>
+     *
+     * @param thumbnailUrl Link points to the image, as returned by "The Guardian" API.
+     * @param width        Width of the View in pixels, i.e. screen density included.
+     * @param height       Height of the View in pixels.
+     * @return Link to the image at the required size, "thumbnailUrl" if it can't be resized.
+     */
+    public static String getThumbnailUrl(String thumbnailUrl, int width, int height) {
+        HttpUrl url = thumbnailUrl == null ? null : HttpUrl.parse(thumbnailUrl);
+        if (url == null || width <= 0 || height <= 0) {
+            return thumbnailUrl;
+        }
+
+        // Thumbnails are cropped to fill their View, the image must cover both dimensions.
+        int required = Math.max(width, (int) Math.ceil(height * RATIO_THUMBNAIL));
+
+        switch (url.host()) {
+            case HOST_MEDIA:
+                return getRendition(url, thumbnailUrl, required);
+
+            case HOST_IMAGES:
+                if (url.queryParameter(QP_KEY_SIGNATURE) != null) {
+                    return thumbnailUrl;
+                }
+                return url.newBuilder()
+                        .setQueryParameter(QP_KEY_WIDTH, String.valueOf(required))
+                        .build()
+                        .toString();
+
+            default:
+                return thumbnailUrl;
+        }
+    }
+
+    /**
+     * @param url      Link to a rendition served by {@link #HOST_MEDIA}.
+     * @param original "url" as a String.
+     * @param required Minimum width of the image in pixels.
+     * @return Link to the smallest rendition at least "required" pixels wide and not wider than
+     * "url".
+     */
+    private static String getRendition(HttpUrl url, String original, int required) {
+        List<String> segments = url.pathSegments();
+        int last = segments.size() - 1;
+
+        Matcher matcher = rendition.matcher(segments.get(last));
+        if (!matcher.matches()) {
+            return original;
+        }
+        int linked = Integer.parseInt(matcher.group(1));
+
+        for (int candidate : WIDTHS_RENDITION) {
+            if (candidate >= linked) {
+                // No smaller rendition covers "required".
+                return original;
+            }
+            if (candidate >= required) {
+                return url.newBuilder()
+                        .setPathSegment(last, candidate + matcher.group(2))
+                        .build()
+                        .toString();
+            }
+        }
+        return original;
+    }
+}
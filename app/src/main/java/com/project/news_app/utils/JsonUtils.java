@@ -11,20 +11,64 @@ import com.project.news_app.constants.JsonUtilsConstants;
 import com.project.news_app.data.Podcast;
 import com.project.news_app.fragments.PodcastFragment;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.text.SimpleDateFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class contains methods to parse the downloaded JSON response.
  */
 public class JsonUtils implements JsonUtilsConstants {
+    /**
+     * Stores a formatter per date pattern.
+     */
+    private static final Map<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+    /**
+     * Stores formatted dates per date pattern, keyed by publication time.
+     */
+    private static final Map<String, Map<Long, String>> dateCaches =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Parses news lists downloaded by {@link NetworkUtils}. Every caller sharing a download gets
+     * its own copy of the list, as view types are set on the parsed items.
+     */
+    public static final NetworkUtils.StreamParser<ArrayList<News>> NEWS_LIST_PARSER =
+            new NetworkUtils.StreamParser<ArrayList<News>>() {
+                @Override
+                public ArrayList<News> parse(InputStream in) throws IOException {
+                    return parseNewsList(in);
+                }
+
+                @Override
+                public ArrayList<News> copy(ArrayList<News> result) {
+                    ArrayList<News> news = new ArrayList<>(result.size());
+                    for (News item : result) {
+                        news.add(new News(item));
+                    }
+                    return news;
+                }
+            };
 
     // Setting default Constructor to private.
     private JsonUtils() {
@@ -64,9 +108,9 @@ public class JsonUtils implements JsonUtilsConstants {
                     // Setting News section.
                     mNews.setSectionName(jsonResultObject.optString(PRIMITIVE_SECTION, EMPTY));
 
-                    // Setting News published date.
-                    mNews.setDate(formatDate(jsonResultObject.optString(PRIMITIVE_DATE, EMPTY),
-                            PATTERN_CATEGORY));
+                    // Setting News published time.
+                    mNews.setPublicationTime(parsePublicationTime(jsonResultObject.optString(
+                            PRIMITIVE_DATE, EMPTY)));
 
                     // Setting News article url.
                     mNews.setArticleURL(jsonResultObject.optString(PRIMITIVE_ARTICLE_URL, EMPTY));
@@ -107,27 +151,245 @@ public class JsonUtils implements JsonUtilsConstants {
     }
 
     /**
-     * Converts (String) date in [ISO-8601 Date and time in UTC] format to a (String) data
-     * having a custom pattern.
+     * Parses JSON response from one of "The Guardian" API Endpoint to an ArrayList of type
+     * {@link News} while it is being downloaded.
+     * <p>
+     * Unlike {@link #parseNewsList(String)}, the response is never held in memory as a whole.
+     * Tokens are pulled straight from "in" and only the fields shown by the app are read, the
+     * rest of the response is skipped.
+     *
+     * @param in Response from the API as a stream.
+     * @return ArrayList containing news info. EMPTY if the response is not valid JSON.
+     * @throws IOException If reading "in" failed, e.g. the connection dropped mid-response. The
+     *                     items read so far are not returned, as the list is incomplete.
+     */
+    public static ArrayList<News> parseNewsList(InputStream in) throws IOException {
+
+        // Initializing list of type News.
+        ArrayList<News> news = new ArrayList<>();
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(in,
+                StandardCharsets.UTF_8))) {
+            // Traverse to JSONObject having key "response".
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals(OBJECT_RESPONSE)) {
+                    readResponse(reader, news);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (MalformedJsonException | IllegalStateException e) {
+            // Not the expected JSON. Failures of reading "in" are thrown to the caller.
+            Log.e(TAG, "Failed to parse JSON - " + e.getMessage());
+        }
+        return news;
+    }
+
+    /**
+     * Reads JSONObject having key "response" and adds every item of its "results" to "news".
+     */
+    private static void readResponse(JsonReader reader, ArrayList<News> news)
+            throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            // Traverse to JSONArray having key "results".
+            String name = reader.nextName();
+            if (name.equals(ARRAY_RESULTS) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                // Iterating through "results".
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    news.add(readNews(reader));
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Reads a single JSONObject in "results" to a {@link News} item.
+     */
+    private static News readNews(JsonReader reader) throws IOException {
+        // Initialize News object. Values not in the response are set to val. EMPTY.
+        News news = new News();
+        news.setSectionName(EMPTY);
+        news.setArticleURL(EMPTY);
+        news.setHeadline(EMPTY);
+        news.setByLine(EMPTY);
+        news.setPublication(EMPTY);
+        news.setThumbnailUrl(EMPTY);
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case PRIMITIVE_SECTION:
+                    news.setSectionName(nextString(reader));
+                    break;
+
+                case PRIMITIVE_DATE:
+                    news.setPublicationTime(parsePublicationTime(nextString(reader)));
+                    break;
+
+                case PRIMITIVE_ARTICLE_URL:
+                    news.setArticleURL(nextString(reader));
+                    break;
+
+                case OBJECT_FIELDS:
+                    readNewsFields(reader, news);
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return news;
+    }
+
+    /**
+     * Reads JSONObject having key "fields" to "news".
+     */
+    private static void readNewsFields(JsonReader reader, News news) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case PRIMITIVE_HEADLINE:
+                    news.setHeadline(nextString(reader));
+                    break;
+
+                case PRIMITIVE_BYLINE:
+                    news.setByLine(nextString(reader));
+                    break;
+
+                case PRIMITIVE_PUBLICATION:
+                    news.setPublication(nextString(reader));
+                    break;
+
+                case PRIMITIVE_THUMBNAIL:
+                    news.setThumbnailUrl(nextString(reader));
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * @return Next JSON Primitive as a String. EMPTY if it's null or not a primitive.
+     */
+    private static String nextString(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+
+            case BOOLEAN:
+                return String.valueOf(reader.nextBoolean());
+
+            default:
+                reader.skipValue();
+                return EMPTY;
+        }
+    }
+
+    /**
+     * Converts (String) date in [ISO-8601 Date and time in UTC] format to time in milliseconds
+     * since epoch.
      *
      * @param publicationDate (String) Date when news/podcast feed was published on "The Guardian"
      *                        api in [ISO-8601 Date and time in UTC] format.
      *                        <br/>
      *                        Example - 2021-12-03T10:15:30Z.
+     * @return Publication time. {@link JsonUtilsConstants#TIME_UNKNOWN} if "publicationDate" is
+     * not a valid date.
+     * @see <a href="https://en.wikipedia.org/wiki/ISO_8601">ISO 8601</a>
+     */
+    public static long parsePublicationTime(String publicationDate) {
+        try {
+            return Instant.parse(publicationDate).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return TIME_UNKNOWN;
+        }
+    }
+
+    /**
+     * Converts (String) date in [ISO-8601 Date and time in UTC] format to a (String) data
+     * having a custom pattern.
+     *
+     * @param publicationDate (String) Date when news/podcast feed was published on "The Guardian"
+     *                        api in [ISO-8601 Date and time in UTC] format.
      * @param pattern         Formats the publication data to a desired pattern.
      * @return Formatted publication date.
-     * @see <a href="https://en.wikipedia.org/wiki/ISO_8601">ISO 8601</a>
+     * @see #formatDate(long, String)
+     */
+    public static String formatDate(String publicationDate, String pattern) {
+        return formatDate(parsePublicationTime(publicationDate), pattern);
+    }
+
+    /**
+     * Converts publication time to a (String) date having a custom pattern.
+     * <p>
+     * Formatters are built once per pattern and are immutable, so this method can be called from
+     * any thread. Refreshed feeds repeat the same publication times, so the
+     * {@link JsonUtilsConstants#SIZE_DATE_CACHE} most recently used dates of every pattern are
+     * cached.
+     *
+     * @param publicationTime Time (in milliseconds since epoch) when news/podcast feed was
+     *                        published on "The Guardian" api.
+     * @param pattern         Formats the publication data to a desired pattern.
+     * @return Formatted publication date. EMPTY if publication time is not available.
      */
-    private static String formatDate(String publicationDate, String pattern) {
-        Instant instant = Instant.parse(publicationDate);
-        Date date = new Date(instant.getEpochSecond() * 1000);
+    public static String formatDate(long publicationTime, String pattern) {
+        if (publicationTime == TIME_UNKNOWN) {
+            return EMPTY;
+        }
+
+        Map<Long, String> cache = dateCaches.computeIfAbsent(pattern,
+                key -> newDateCache());
+
+        String date = cache.get(publicationTime);
+        if (date == null) {
+            date = getFormatter(pattern).format(Instant.ofEpochMilli(publicationTime));
+            cache.put(publicationTime, date);
+        }
+        return date;
+    }
 
-        // Parsing to Indian Local Time (UTC+5:30)
-        SimpleDateFormat dateFormat = new SimpleDateFormat(pattern, new Locale("eng",
-                "IN"));
+    /**
+     * @return Cache of formatted dates keyed by publication time, holding at most
+     * {@link JsonUtilsConstants#SIZE_DATE_CACHE} dates. Least recently used dates are evicted
+     * first, dates of older responses are rarely shown again.
+     */
+    private static Map<Long, String> newDateCache() {
+        // Access ordered, so reading a date makes it the most recently used one.
+        return Collections.synchronizedMap(new LinkedHashMap<Long, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > SIZE_DATE_CACHE;
+            }
+        });
+    }
 
-        // Set date for News.
-        return dateFormat.format(date);
+    /**
+     * @param pattern Formats the publication data to a desired pattern.
+     * @return Formatter for "pattern" in Indian English, showing the date in device's time zone.
+     */
+    private static DateTimeFormatter getFormatter(String pattern) {
+        return formatters.computeIfAbsent(pattern, key -> DateTimeFormatter
+                .ofPattern(key, new Locale("eng", "IN"))
+                .withZone(ZoneId.systemDefault()));
     }
 
     /**
@@ -210,9 +472,9 @@ public class JsonUtils implements JsonUtilsConstants {
                     // Initializes Episode object.
                     Episode episode = new Episode();
 
-                    // Setting Episode date.
-                    episode.setDate(formatDate(jsonResultObject.optString(PRIMITIVE_DATE),
-                            PATTERN_PODCAST));
+                    // Setting Episode published time.
+                    episode.setPublicationTime(parsePublicationTime(jsonResultObject.optString(
+                            PRIMITIVE_DATE, EMPTY)));
 
                     // Setting Episode URL.
                     episode.setEpisodeUrl(jsonResultObject.optString(PRIMITIVE_WEB_URL, EMPTY));
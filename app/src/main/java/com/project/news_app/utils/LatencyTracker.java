@@ -0,0 +1,59 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent latencies of an endpoint and reports their percentiles.
+ * <p>
+ * Used by {@link EndpointPolicy} to decide when a request is slow enough to be hedged.
+ */
+public class LatencyTracker implements NetworkUtilsConstants {
+    // Stores the most recent latencies (in milliseconds), oldest one is overwritten first.
+    private final long[] samples;
+
+    // Stores the number of latencies recorded so far.
+    private long count;
+
+    public LatencyTracker(int size) {
+        samples = new long[size];
+    }
+
+    /**
+     * Records the latency of a single request.
+     *
+     * @param millis Time (in milliseconds) the request took.
+     */
+    public synchronized void record(long millis) {
+        samples[(int) (count % samples.length)] = millis;
+        count++;
+    }
+
+    /**
+     * @return Number of latencies kept, at most the size of the window.
+     */
+    public synchronized int size() {
+        return (int) Math.min(count, samples.length);
+    }
+
+    /**
+     * Computes a percentile with the nearest-rank method.
+     *
+     * @param percentile Between 0 (exclusive) and 1 (inclusive), e.g. 0.95.
+     * @return Latency (in milliseconds) at "percentile". -1 if no latency was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(samples, size());
+        }
+        if (sorted.length == 0) {
+            return -1;
+        }
+
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+}
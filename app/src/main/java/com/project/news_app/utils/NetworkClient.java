@@ -0,0 +1,127 @@
+package com.project.news_app.utils;
+
+import android.content.Context;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Provides a single {@link OkHttpClient} shared by every request made to "The Guardian" API.
+ * <p>
+ * Sharing one client keeps sockets alive in its connection pool, multiplexes concurrent requests
+ * over HTTP/2 where the server supports it and resumes TLS sessions from the client's session
+ * cache instead of performing a full handshake per request.
+ * <p>
+ * Once {@link #init(Context)} is called, responses are also stored in an on-disk HTTP cache.
+ * Fresh responses are served without touching the network and stale ones are revalidated with a
+ * conditional GET (If-None-Match / If-Modified-Since), so unchanged feeds cost a 304 instead of a
+ * full download.
+ */
+public class NetworkClient implements NetworkUtilsConstants {
+    /**
+     * Shared client. Created on first use.
+     */
+    private static volatile OkHttpClient client;
+
+    // Setting default Constructor to private.
+    private NetworkClient() {
+    }
+
+    /**
+     * Creates the shared client backed by an on-disk HTTP cache. Called once when the app starts.
+     *
+     * @param context Locates the app's cache directory.
+     */
+    public static void init(Context context) {
+        Cache cache = new Cache(new File(context.getCacheDir(), DIR_HTTP_CACHE), SIZE_HTTP_CACHE);
+
+        synchronized (NetworkClient.class) {
+            client = newBuilder().cache(cache).build();
+        }
+    }
+
+    /**
+     * @return The {@link OkHttpClient} shared across the app.
+     */
+    public static OkHttpClient getInstance() {
+        if (client == null) {
+            synchronized (NetworkClient.class) {
+                if (client == null) {
+                    // Not initialized (e.g. in unit tests), requests are not cached.
+                    client = newBuilder().build();
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * @return Builder configured with settings common to every shared client.
+     */
+    private static OkHttpClient.Builder newBuilder() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS,
+                        KEEP_ALIVE_CONNECTION, TimeUnit.MINUTES))
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .addInterceptor(NetworkClient::applyTimeouts)
+                .addNetworkInterceptor(NetworkClient::applyFreshness);
+    }
+
+    /**
+     * Sets the connect and read timeouts of a request according to the {@link EndpointPolicy}
+     * attached to it, so a stalled socket fails fast instead of holding its caller.
+     */
+    private static Response applyTimeouts(Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+
+        EndpointPolicy policy = request.tag(EndpointPolicy.class);
+        if (policy == null) {
+            return chain.proceed(request);
+        }
+
+        return chain.withConnectTimeout((int) policy.getConnectTimeout(), TimeUnit.MILLISECONDS)
+                .withReadTimeout((int) policy.getReadTimeout(), TimeUnit.MILLISECONDS)
+                .proceed(request);
+    }
+
+    /**
+     * Sets how long a response stays fresh in the cache according to the {@link EndpointPolicy}
+     * attached to its request. Validators (ETag / Last-Modified) sent by the server are kept, so
+     * stale responses can still be revalidated.
+     */
+    private static Response applyFreshness(Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        // A 304 refreshes the headers of the cached response, so it gets the same freshness.
+        boolean cacheable = response.isSuccessful()
+                || response.code() == RESPONSE_CODE_NOT_MODIFIED;
+
+        EndpointPolicy policy = request.tag(EndpointPolicy.class);
+        if (policy == null || !cacheable) {
+            return response;
+        }
+
+        return response.newBuilder()
+                .removeHeader(HEADER_PRAGMA)
+                .header(HEADER_CACHE_CONTROL, "public, max-age=" + policy.getFreshness())
+                .build();
+    }
+}
@@ -0,0 +1,234 @@
+package com.project.news_app.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts how requests made by {@link NetworkUtils} were served by the HTTP cache.
+ * <ul>
+ *     <li>Hit - served from the cache without touching the network.</li>
+ *     <li>Revalidation - cached response was confirmed unchanged by "The Guardian" API.</li>
+ *     <li>Miss - full response was downloaded.</li>
+ * </ul>
+ * Also counts response bytes on the wire and after decompression, requests issued, failed
+ * requests retried, slow requests hedged with a duplicate, requests cancelled before they
+ * finished, callers that shared the request of another caller ({@link SingleFlight}) and
+ * searches answered by {@link SearchResultCache} without any request.
+ */
+public class NetworkStats {
+    // Stores the number of responses served from the cache.
+    private static final AtomicLong cacheHits = new AtomicLong();
+
+    // Stores the number of cached responses confirmed unchanged by the server.
+    private static final AtomicLong revalidations = new AtomicLong();
+
+    // Stores the number of responses downloaded in full.
+    private static final AtomicLong cacheMisses = new AtomicLong();
+
+    // Stores the number of response bytes that did not have to be downloaded.
+    private static final AtomicLong bytesSaved = new AtomicLong();
+
+    // Stores the number of response bytes downloaded, as they were sent.
+    private static final AtomicLong wireBytes = new AtomicLong();
+
+    // Stores the number of downloaded response bytes after decompression.
+    private static final AtomicLong decodedBytes = new AtomicLong();
+
+    // Stores the number of requests issued.
+    private static final AtomicLong requests = new AtomicLong();
+
+    // Stores the number of failed requests that were made again.
+    private static final AtomicLong retries = new AtomicLong();
+
+    // Stores the number of slow requests that were hedged with a duplicate.
+    private static final AtomicLong hedges = new AtomicLong();
+
+    // Stores the number of requests cancelled before they finished.
+    private static final AtomicLong cancellations = new AtomicLong();
+
+    // Stores the number of searches answered from previous results.
+    private static final AtomicLong queryCacheHits = new AtomicLong();
+
+    // Stores the number of callers that shared the request of another caller.
+    private static final AtomicLong coalesced = new AtomicLong();
+
+    // Setting default Constructor to private.
+    private NetworkStats() {
+    }
+
+    /**
+     * Records a response served from the cache.
+     *
+     * @param bytes Size of the served response body.
+     */
+    static void recordHit(long bytes) {
+        cacheHits.incrementAndGet();
+        bytesSaved.addAndGet(bytes);
+    }
+
+    /**
+     * Records a cached response confirmed unchanged by the server.
+     *
+     * @param bytes Size of the served response body.
+     */
+    static void recordRevalidation(long bytes) {
+        revalidations.incrementAndGet();
+        bytesSaved.addAndGet(bytes);
+    }
+
+    /**
+     * Records a response downloaded in full.
+     */
+    static void recordMiss() {
+        cacheMisses.incrementAndGet();
+    }
+
+    /**
+     * Records a response downloaded from the network.
+     *
+     * @param wire    Size of the body as it was sent.
+     * @param decoded Size of the body after decompression.
+     */
+    static void recordTransfer(long wire, long decoded) {
+        wireBytes.addAndGet(wire);
+        decodedBytes.addAndGet(decoded);
+    }
+
+    /**
+     * Records a request issued.
+     */
+    static void recordRequest() {
+        requests.incrementAndGet();
+    }
+
+    /**
+     * Records a failed request that is made again.
+     */
+    static void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    /**
+     * Records a slow request hedged with a duplicate.
+     */
+    static void recordHedge() {
+        hedges.incrementAndGet();
+    }
+
+    /**
+     * Records a request cancelled before it finished.
+     */
+    static void recordCancellation() {
+        cancellations.incrementAndGet();
+    }
+
+    /**
+     * Records a search answered from previous results.
+     */
+    static void recordQueryCacheHit() {
+        queryCacheHits.incrementAndGet();
+    }
+
+    /**
+     * Records a caller that shared the request of another caller.
+     */
+    static void recordCoalesced() {
+        coalesced.incrementAndGet();
+    }
+
+    /**
+     * @return Number of responses served from the cache.
+     */
+    public static long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * @return Number of cached responses confirmed unchanged by the server.
+     */
+    public static long getRevalidations() {
+        return revalidations.get();
+    }
+
+    /**
+     * @return Number of responses downloaded in full.
+     */
+    public static long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    /**
+     * @return Number of response bytes that did not have to be downloaded.
+     */
+    public static long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * @return Number of response bytes downloaded, as they were sent.
+     */
+    public static long getWireBytes() {
+        return wireBytes.get();
+    }
+
+    /**
+     * @return Number of downloaded response bytes after decompression.
+     */
+    public static long getDecodedBytes() {
+        return decodedBytes.get();
+    }
+
+    /**
+     * @return Number of requests issued.
+     */
+    public static long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * @return Number of failed requests that were made again.
+     */
+    public static long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return Number of slow requests that were hedged with a duplicate.
+     */
+    public static long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * @return Number of requests cancelled before they finished.
+     */
+    public static long getCancellations() {
+        return cancellations.get();
+    }
+
+    /**
+     * @return Number of searches answered from previous results without any request.
+     */
+    public static long getQueryCacheHits() {
+        return queryCacheHits.get();
+    }
+
+    /**
+     * @return Number of callers that shared the request of another caller instead of issuing
+     * their own.
+     */
+    public static long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * @return All counters in a single line, used for Logs.
+     */
+    public static String summary() {
+        return "hits=" + getCacheHits() + ", revalidations=" + getRevalidations() +
+                ", misses=" + getCacheMisses() + ", bytesSaved=" + getBytesSaved() +
+                ", wireBytes=" + getWireBytes() + ", decodedBytes=" + getDecodedBytes() +
+                ", requests=" + getRequests() + ", retries=" + getRetries() +
+                ", hedges=" + getHedges() + ", cancelled=" + getCancellations() +
+                ", queryCacheHits=" + getQueryCacheHits() + ", coalesced=" + getCoalesced();
+    }
+}
@@ -4,15 +4,44 @@ import android.content.Context;
 import android.net.Uri;
 import android.util.Log;
 
+import androidx.annotation.NonNull;
+
 import com.project.news_app.R;
 import com.project.news_app.constants.NetworkUtilsConstants;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
+import java.io.InterruptedIOException;
+import java.io.PushbackInputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.Scanner;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import okhttp3.CacheControl;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Okio;
 
 /**
  * Class responsible for creating a HTTP Network Request to download news feed from "The Guardian"
@@ -21,6 +50,12 @@ import java.util.Scanner;
  * @see <a href="https://open-platform.theguardian.com/documentation/">The Guardian API</a>
  */
 public class NetworkUtils implements NetworkUtilsConstants {
+    /**
+     * Reads the whole response as a String. Shared by every caller, so their requests can be
+     * coalesced.
+     */
+    private static final StreamParser<String> STRING_PARSER =
+            in -> Okio.buffer(Okio.source(in)).readUtf8();
 
     // Setting default Constructor to private.
     private NetworkUtils() {
@@ -37,15 +72,38 @@ public class NetworkUtils implements NetworkUtilsConstants {
      * API.
      */
     public static URL makeNewsUrl(Context context, String path, String fields, int number) {
+        return makeNewsUrl(context, path, fields, number, 1);
+    }
+
+    /**
+     * Forms a {@link URL} that points to a single page of "Section" endpoint of "The Guardian" API.
+     *
+     * @param context Sets the API Key.
+     * @param path    Downloads feed from this section.
+     * @param fields  Picks custom components from the selected section.
+     * @param number  Number of items in each page.
+     * @param page    Number of the page, starting from 1.
+     * @return A custom {@link URL} that points to a page of a custom news feed available from
+     * "The Guardian" API.
+     */
+    public static URL makeNewsUrl(Context context, String path, String fields, int number,
+                                  int page) {
         // Initializing URL.
         URL url = null;
 
         try {
             // Building URL.
-            Uri uri = Uri.parse(DOMAIN).buildUpon()
+            Uri.Builder builder = Uri.parse(DOMAIN).buildUpon()
                     .encodedPath(path)
                     .appendQueryParameter(QP_KEY_FIELDS, fields)
-                    .appendQueryParameter(QP_KEY_PAGE_SIZE, String.valueOf(number))
+                    .appendQueryParameter(QP_KEY_PAGE_SIZE, String.valueOf(number));
+
+            // First page is left out, so its URL (and cached response) is shared by both overloads.
+            if (page > 1) {
+                builder.appendQueryParameter(QP_KEY_PAGE, String.valueOf(page));
+            }
+
+            Uri uri = builder
                     .appendQueryParameter(QP_KEY_API, context.getString(R.string.api_key))
                     .build();
 
@@ -61,75 +119,631 @@ public class NetworkUtils implements NetworkUtilsConstants {
      *
      * @param url Points to one of "The Guardian" API Endpoints.
      * @return String containing the downloaded news info.
+     * @see #downloadNewsData(URL, EndpointPolicy, boolean)
      */
     public static String downloadNewsData(URL url) {
-        if (url != null) {
+        return downloadNewsData(url, EndpointPolicy.SECTION, false);
+    }
+
+    /**
+     * Connects to one of "The Guardian" API endpoint to download news info.
+     *
+     * @param url     Points to one of "The Guardian" API Endpoints.
+     * @param policy  Decides how long the response stays fresh in the cache.
+     * @param refresh True if the cached response must be revalidated with the server, used when
+     *                user refreshes the feed.
+     * @return String containing the downloaded news info.
+     */
+    public static String downloadNewsData(URL url, EndpointPolicy policy, boolean refresh) {
+        return downloadNewsData(url, policy, refresh, STRING_PARSER, EMPTY);
+    }
+
+    /**
+     * Connects to one of "The Guardian" API endpoint and hands the response to "parser" while it
+     * is being downloaded.
+     *
+     * @param url      Points to one of "The Guardian" API Endpoints.
+     * @param policy   Decides how long the response stays fresh in the cache.
+     * @param refresh  True if the cached response must be revalidated with the server, used when
+     *                 user refreshes the feed.
+     * @param parser   Converts the response to news info.
+     * @param fallback Returned when the request fails.
+     * @return News info. returned by "parser".
+     * @see #fetchNewsData(URL, EndpointPolicy, boolean, StreamParser)
+     */
+    public static <T> T downloadNewsData(URL url, EndpointPolicy policy, boolean refresh,
+                                         StreamParser<T> parser, T fallback) {
+        return fetchNewsData(url, policy, refresh, parser).getDataOr(fallback);
+    }
+
+    /**
+     * Connects to one of "The Guardian" API endpoint and hands the response to "parser" while it
+     * is being downloaded.
+     * <p>
+     * Requests are made through the shared {@link NetworkClient}, so connections are reused
+     * across calls and fresh responses are served from the HTTP cache.
+     * <p>
+     * Dropped connections, server errors and "Too Many Requests" are retried with exponential
+     * backoff, as long as "policy" allows another attempt, its deadline leaves time for it and
+     * the {@link RetryBudget} is not spent. A "Retry-After" sent by the server replaces the
+     * backoff. Attempts of a hedged "policy" race a duplicate request once they are slower than
+     * the 95th percentile of recent requests.
+     * <p>
+     * Concurrent callers asking for the same URL with the same "parser" share a single request
+     * and a single parse, see {@link SingleFlight}.
+     *
+     * @param url     Points to one of "The Guardian" API Endpoints.
+     * @param policy  Decides freshness in the cache, retries and deadline of the request.
+     * @param refresh True if the cached response must be revalidated with the server, used when
+     *                user refreshes the feed.
+     * @param parser  Converts the response to news info.
+     * @return News info. returned by "parser", or why it is not available.
+     */
+    public static <T> FetchResult<T> fetchNewsData(URL url, EndpointPolicy policy,
+                                                   boolean refresh, StreamParser<T> parser) {
+        if (url == null) {
+            return FetchResult.failed(RESULT_NETWORK_ERROR, 0);
+        }
+
+        // Same response parsed the same way, so concurrent callers can share a single request.
+        List<Object> key = Arrays.asList(canonicalize(url), refresh, parser);
+
+        try {
+            return SingleFlight.execute(key, () -> fetchWithRetries(url, policy, refresh, parser),
+                    result -> result.copy(parser::copy));
+        } catch (CancellationException e) {
+            // Request was superseded, see cancelRequests(URL).
+            return FetchResult.failed(RESULT_CANCELLED, 0);
+        } catch (InterruptedException e) {
+            // Caller was cancelled while waiting for the request of another caller.
+            Thread.currentThread().interrupt();
+            return FetchResult.failed(RESULT_CANCELLED, 0);
+        }
+    }
+
+    /**
+     * Forms a single key for every {@link URL} pointing to the same resource, whatever the order
+     * and encoding of its query parameters.
+     *
+     * @param url Points to one of "The Guardian" API Endpoints.
+     * @return {@link HttpUrl} with sorted query parameters. "url" as a String if it is not a HTTP
+     * URL.
+     */
+    static Object canonicalize(URL url) {
+        HttpUrl httpUrl = HttpUrl.get(url);
+        if (httpUrl == null) {
+            return url.toString();
+        }
+
+        // Sorting parameter names, the values of a repeated parameter keep their order.
+        List<String> names = new ArrayList<>(httpUrl.queryParameterNames());
+        Collections.sort(names);
+
+        HttpUrl.Builder builder = httpUrl.newBuilder()
+                .query(null)
+                .fragment(null);
+        for (String name : names) {
+            for (String value : httpUrl.queryParameterValues(name)) {
+                builder.addQueryParameter(name, value);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Requests "url" until it succeeds, fails for good or runs out of attempts, deadline or
+     * {@link RetryBudget}. Run by a single caller per request, see {@link SingleFlight}.
+     *
+     * @return Result of the last attempt.
+     * @throws CancellationException If the request was cancelled before it finished.
+     */
+    private static <T> FetchResult<T> fetchWithRetries(URL url, EndpointPolicy policy,
+                                                       boolean refresh, StreamParser<T> parser) {
+        // Every attempt has to finish before the deadline of the endpoint.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(policy.getDeadline());
+
+        for (int attempt = 1; ; attempt++) {
+            FetchResult<T> result = fetchOnce(url, policy, refresh, parser, deadline, attempt);
+
+            if (result.isSuccessful()) {
+                RetryBudget.recordSuccess();
+                return result;
+            }
+            if (!result.isRetryable() || attempt >= policy.getMaxAttempts()) {
+                return result;
+            }
+
+            // Server knows best when it can take the request again.
+            long delay = result.getRetryAfter() >= 0
+                    ? result.getRetryAfter()
+                    : getBackoff(attempt, ThreadLocalRandom.current().nextDouble());
+
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (delay >= remaining) {
+                Log.i(TAG, "Not retrying, deadline is too close - " + url);
+                return result;
+            }
+            if (!RetryBudget.tryAcquire()) {
+                Log.i(TAG, "Not retrying, retry budget is spent - " + url);
+                return result;
+            }
+
+            NetworkStats.recordRetry();
+            Log.i(TAG, "Retrying in " + delay + " ms (attempt " + (attempt + 1) + ") - " + url);
+
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                // Caller was cancelled while waiting to retry.
+                Thread.currentThread().interrupt();
+                NetworkStats.recordCancellation();
+                throw new CancellationException(url.toString());
+            }
+        }
+    }
+
+    /**
+     * Time (in milliseconds) waited before a retry. The backoff doubles with every attempt up to
+     * {@link NetworkUtilsConstants#BACKOFF_MAX}, and half of it is random, so clients that
+     * failed together do not retry together.
+     *
+     * @param attempt Number of the attempt that failed, starting from 1.
+     * @param random  Random number between 0 (inclusive) and 1 (exclusive).
+     * @return Delay between half and all of the backoff of "attempt".
+     */
+    static long getBackoff(int attempt, double random) {
+        long backoff = BACKOFF_MAX;
+        if (attempt <= 30) {
+            backoff = Math.min(BACKOFF_MAX, BACKOFF_INITIAL << (attempt - 1));
+        }
+        return backoff / 2 + (long) (backoff / 2 * random);
+    }
+
+    /**
+     * Reads the "Retry-After" header, given either in seconds or as a HTTP date.
+     *
+     * @param value Value of the header. Can be null.
+     * @param now   Current time (in milliseconds since epoch).
+     * @return Time (in milliseconds) to wait before trying again. -1 if "value" is missing or
+     * malformed.
+     */
+    static long parseRetryAfter(String value, long now) {
+        if (value == null) {
+            return -1;
+        }
+        value = value.trim();
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // Not in seconds, trying as a HTTP date.
+        }
+
+        try {
+            long date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant()
+                    .toEpochMilli();
+            return Math.max(0, date - now);
+        } catch (DateTimeParseException e) {
+            Log.e(TAG, "Cannot read Retry-After - " + value);
+            return -1;
+        }
+    }
+
+    /**
+     * Downloads the response of "url" once and hands it to "parser" while it is being
+     * downloaded.
+     *
+     * @param deadline Value of {@link System#nanoTime()} the attempt has to finish by.
+     * @param attempt  Number of this attempt, starting from 1.
+     * @return News info. returned by "parser", or why it is not available.
+     * @throws CancellationException If the request was cancelled before it finished.
+     */
+    private static <T> FetchResult<T> fetchOnce(URL url, EndpointPolicy policy, boolean refresh,
+                                                 StreamParser<T> parser, long deadline,
+                                                 int attempt) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return FetchResult.failed(RESULT_TIMED_OUT, attempt - 1);
+        }
+
+        // Forms a HTTP Network Request. HTTP method is set to "GET" by default.
+        Request.Builder builder = new Request.Builder()
+                .url(url)
+                .tag(EndpointPolicy.class, policy)
+                .header(HEADER_ACCEPT_ENCODING, VALUE_ACCEPT_ENCODING);
+
+        /*
+         * Treats the cached response as stale, so a conditional GET is sent instead of using it
+         * directly. ("no-cache" would skip the cache without sending its validators.)
+         */
+        if (refresh) {
+            builder.cacheControl(new CacheControl.Builder()
+                    .maxAge(0, TimeUnit.SECONDS)
+                    .build());
+        }
+
+        Request request = builder.build();
+
+        // Stores calls made for this attempt, a second one if it is hedged.
+        List<Call> calls = new ArrayList<>(2);
+
+        try {
+            if (policy.isHedged()) {
+                return fetchHedged(request, policy, parser, deadline, attempt, calls);
+            }
+
             /*
-             * Forms a HTTP Network Request and establishes a Connection to one of the API
-             * Endpoints provided by "The Guardian" API.
+             * Establishes a Connection to one of the API Endpoints provided by "The Guardian"
+             * API. Closing the response returns the connection to the pool.
              */
-            HttpURLConnection urlConnection = null;
+            long start = System.nanoTime();
+            try (Response response = newCall(request, deadline, calls).execute()) {
+                return readResponse(response, policy, parser, attempt, start);
+            }
+        } catch (IOException e) {
+            if (System.nanoTime() - deadline >= 0) {
+                // Call was cancelled by its timeout.
+                Log.e(TAG, "Request timed out - " + url);
+                return FetchResult.failed(RESULT_TIMED_OUT, attempt);
+            }
 
-            // Downloads stream of bytes from the web-servers of "The Guardian".
-            InputStream inputStream = null;
+            // Interrupted callers were cancelled by TaskScheduler.
+            if (isCanceled(calls) || Thread.currentThread().isInterrupted()) {
+                // Request was superseded, see cancelRequests(URL).
+                NetworkStats.recordCancellation();
+                Log.i(TAG, "Request cancelled - " + url);
+                throw new CancellationException(url.toString());
+            }
+            Log.e(TAG, "Cannot create a network connection - " + e.getMessage());
+            return FetchResult.failed(RESULT_NETWORK_ERROR, attempt);
+        }
+    }
 
-            // Parses the downloaded stream of bytes to a single String.
-            Scanner scanner = null;
+    /**
+     * Makes "request" and, if it has not answered once the hedge delay of "policy" passes, a
+     * duplicate of it. The first successful response is used and the other call is cancelled.
+     * <p>
+     * Duplicates spend the {@link RetryBudget}, so a struggling server is not sent twice the
+     * requests.
+     *
+     * @param deadline Value of {@link System#nanoTime()} both calls have to finish by.
+     * @param calls    Collects the calls made.
+     * @return First successful result. The last failure if no call succeeded.
+     * @throws IOException If no call received a response.
+     */
+    private static <T> FetchResult<T> fetchHedged(Request request, EndpointPolicy policy,
+                                                  StreamParser<T> parser, long deadline,
+                                                  int attempt, List<Call> calls)
+            throws IOException {
+        // Stores results and failures of the calls, in the order they arrive.
+        BlockingQueue<Object> outcomes = new LinkedBlockingQueue<>();
 
-            try {
-                /*
-                 * Forms a network connection based on "url". HTTP method is set to "GET" by
-                 * default.
-                 */
-                urlConnection = (HttpURLConnection) url.openConnection();
-
-                // Establishes Connection.
-                urlConnection.connect();
-
-                // Get the response code from the servers off of "The Guardian" Api.
-                int responseCode = urlConnection.getResponseCode();
-
-                // Checks if request is granted.
-                if (responseCode == RESPONSE_CODE_OK) {
-                    // Request Granted by the API. Downloading news info.
-                    inputStream = urlConnection.getInputStream();
-
-                    // Parse stream of data in bytes to a SINGLE String.
-                    scanner = new Scanner(inputStream);
-                    scanner.useDelimiter("\\A");
-
-                    // Reads the available token.
-                    return scanner.hasNext() ? scanner.next() : EMPTY;
-                } else {
-                    // Request Failed.
-                    return parseResponseCode(responseCode);
+        enqueue(newCall(request, deadline, calls), policy, parser, attempt, outcomes);
+
+        try {
+            Object outcome = outcomes.poll(policy.getHedgeDelay(), TimeUnit.MILLISECONDS);
+
+            // Slower than 95% of recent requests, the duplicate races the first call.
+            if (outcome == null && RetryBudget.tryAcquire()) {
+                NetworkStats.recordHedge();
+                Log.i(TAG, "Hedging request - " + request.url());
+                enqueue(newCall(request, deadline, calls), policy, parser, attempt, outcomes);
+            }
+
+            // Every call ends by its deadline at the latest.
+            FetchResult<T> failure = null;
+            for (int pending = calls.size(); ; pending--) {
+                if (outcome == null) {
+                    outcome = outcomes.take();
                 }
-            } catch (IOException e) {
-                Log.e(TAG, "Cannot create a network connection - " + e.getMessage());
-            } finally {
-                // Closes connection.
-                if (urlConnection != null) {
-                    urlConnection.disconnect();
+
+                if (outcome instanceof FetchResult) {
+                    @SuppressWarnings("unchecked")
+                    FetchResult<T> result = (FetchResult<T>) outcome;
+                    if (result.isSuccessful()) {
+                        // Losing call is no longer needed.
+                        cancel(calls);
+                        return result;
+                    }
+                    failure = result;
                 }
 
-                // Releases InputStream related memory resources.
-                if (inputStream != null) {
-                    try {
-                        inputStream.close();
-                    } catch (IOException e) {
-                        Log.e(TAG, "Cannot close InputStream - " + e.getMessage());
+                if (pending == 1) {
+                    if (failure != null) {
+                        return failure;
                     }
+                    throw (IOException) outcome;
                 }
+                outcome = null;
+            }
+        } catch (InterruptedException e) {
+            // Caller was cancelled, so are its calls.
+            cancel(calls);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + request.url());
+        }
+    }
+
+    /**
+     * Makes "call" on a thread of the shared client and adds its result (or failure) to
+     * "outcomes".
+     */
+    private static <T> void enqueue(Call call, EndpointPolicy policy, StreamParser<T> parser,
+                                    int attempt, BlockingQueue<Object> outcomes) {
+        long start = System.nanoTime();
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                outcomes.add(e);
+            }
+
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                try (Response closed = response) {
+                    outcomes.add(readResponse(closed, policy, parser, attempt, start));
+                } catch (IOException e) {
+                    outcomes.add(e);
+                } catch (RuntimeException e) {
+                    outcomes.add(new IOException(e));
+                }
+            }
+        });
+    }
+
+    /**
+     * Creates a call for "request" that is cancelled once "deadline" passes.
+     *
+     * @param deadline Value of {@link System#nanoTime()} the call has to finish by.
+     * @param calls    Collects the created call.
+     */
+    private static Call newCall(Request request, long deadline, List<Call> calls) {
+        Call call = NetworkClient.getInstance().newCall(request);
+        NetworkStats.recordRequest();
+
+        // Call is cancelled once the deadline passes, whichever attempt it is.
+        call.timeout().timeout(Math.max(1, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+        calls.add(call);
+        return call;
+    }
+
+    /**
+     * Cancels every call in "calls", finished or not. Only called once a winner arrived or the
+     * caller was interrupted, so failed calls are not reported as cancelled.
+     */
+    private static void cancel(List<Call> calls) {
+        for (Call call : calls) {
+            call.cancel();
+        }
+    }
+
+    /**
+     * @return True if every call in "calls" was cancelled, e.g. by {@link #cancelRequests(URL)}.
+     */
+    private static boolean isCanceled(List<Call> calls) {
+        for (Call call : calls) {
+            if (!call.isCanceled()) {
+                return false;
+            }
+        }
+        return !calls.isEmpty();
+    }
+
+    /**
+     * Hands the body of "response" to "parser".
+     *
+     * @param start Value of {@link System#nanoTime()} when the call was made.
+     * @return News info. returned by "parser", or why it is not available.
+     */
+    private static <T> FetchResult<T> readResponse(Response response, EndpointPolicy policy,
+                                                   StreamParser<T> parser, int attempt,
+                                                   long start) throws IOException {
+        // Get the response code from the servers off of "The Guardian" Api.
+        int responseCode = response.code();
+
+        // Checks if request is granted.
+        if (responseCode == RESPONSE_CODE_OK) {
+            // Request Granted by the API. Downloading news info.
+            ResponseBody body = response.body();
+            if (body == null) {
+                return FetchResult.failed(RESULT_NETWORK_ERROR, attempt);
+            }
+
+            /*
+             * Response is decompressed while it is being parsed. Bytes are counted on both sides
+             * of the decoder, so the savings of compression can be seen.
+             */
+            CountingInputStream wire = new CountingInputStream(body.byteStream());
+            CountingInputStream in = new CountingInputStream(
+                    decode(wire, response.header(HEADER_CONTENT_ENCODING)));
+            T result = parser.parse(in);
+            recordCacheUsage(response, wire.getCount());
+            recordTransfer(response, wire.getCount(), in.getCount());
+
+            // Only the network decides when requests are hedged.
+            if (response.networkResponse() != null) {
+                policy.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return new FetchResult<>(RESULT_SUCCESS, result, responseCode, attempt, -1);
+        } else {
+            // Request Failed.
+            logResponseCode(responseCode);
+            return new FetchResult<>(RESULT_HTTP_ERROR, null, responseCode, attempt,
+                    parseRetryAfter(response.header(HEADER_RETRY_AFTER),
+                            System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Cancels every running request to "url". The socket is closed, so the request stops
+     * immediately instead of downloading a response nobody needs. The cancelled download returns
+     * its fallback.
+     *
+     * @param url Points to one of "The Guardian" API Endpoints.
+     */
+    public static void cancelRequests(URL url) {
+        HttpUrl httpUrl = url != null ? HttpUrl.get(url) : null;
+        if (httpUrl == null) {
+            return;
+        }
+
+        Dispatcher dispatcher = NetworkClient.getInstance().dispatcher();
+        for (Call call : dispatcher.runningCalls()) {
+            if (httpUrl.equals(call.request().url())) {
+                call.cancel();
+            }
+        }
+    }
+
+    /**
+     * Converts a response from "The Guardian" API to news info.
+     */
+    public interface StreamParser<T> {
+        /**
+         * Called on the downloading thread while the response is still being received.
+         *
+         * @param in Response body. Closed by the caller.
+         * @return News info. read from "in".
+         */
+        T parse(InputStream in) throws IOException;
+
+        /**
+         * Called for every caller sharing the request of another caller, see
+         * {@link SingleFlight}. Parsers returning mutable results give each caller its own copy.
+         *
+         * @param result Returned by {@link #parse(InputStream)} for another caller.
+         * @return Result handed to this caller. "result" itself by default.
+         */
+        default T copy(T result) {
+            return result;
+        }
+    }
 
-                // Releases Scanner related memory resources.
-                if (scanner != null) {
-                    scanner.close();
+    /**
+     * Wraps "in" with a decoder of "encoding". The header asking for compression is set by
+     * {@link #fetchNewsData}, so OkHttp hands over the body as it was sent.
+     *
+     * @param in       Body of a response.
+     * @param encoding Value of "Content-Encoding". Null if the body is not compressed.
+     * @return Decompressed body, read as it is being downloaded.
+     */
+    static InputStream decode(InputStream in, String encoding) throws IOException {
+        if (encoding == null) {
+            return in;
+        }
+
+        switch (encoding.trim().toLowerCase(Locale.US)) {
+            case ENCODING_GZIP:
+                return new GZIPInputStream(in);
+
+            case ENCODING_DEFLATE:
+                // zlib header tells apart zlib streams from raw deflate streams.
+                PushbackInputStream pushback = new PushbackInputStream(in, 2);
+                int first = pushback.read();
+                int second = pushback.read();
+                if (second != -1) {
+                    pushback.unread(second);
+                }
+                if (first != -1) {
+                    pushback.unread(first);
                 }
+                boolean zlib = (first & 0x0F) == 8 && ((first << 8) | second) % 31 == 0;
+
+                Inflater inflater = new Inflater(!zlib);
+                return new InflaterInputStream(pushback, inflater) {
+                    @Override
+                    public void close() throws IOException {
+                        // Inflater passed in is not released by InflaterInputStream.
+                        super.close();
+                        inflater.end();
+                    }
+                };
+
+            default:
+                Log.i(TAG, "Unknown Content-Encoding - " + encoding);
+                return in;
+        }
+    }
+
+    /**
+     * Records in {@link NetworkStats} the bytes of a response on the wire and after decoding.
+     *
+     * @param response Response returned by the shared client.
+     * @param wire     Number of bytes read from the body, as it was sent.
+     * @param decoded  Number of bytes handed to the parser.
+     */
+    private static void recordTransfer(Response response, long wire, long decoded) {
+        // Responses served by the cache did not use the network.
+        if (response.networkResponse() != null) {
+            NetworkStats.recordTransfer(wire, decoded);
+        }
+        Log.d(TAG, "Transfer - wire=" + wire + ", decoded=" + decoded + " - "
+                + response.request().url().encodedPath());
+    }
+
+    /**
+     * Records in {@link NetworkStats} whether "response" was served by the HTTP cache.
+     *
+     * @param response Response returned by the shared client.
+     * @param bytes    Number of bytes of "response" on the wire.
+     */
+    private static void recordCacheUsage(Response response, long bytes) {
+        Response networkResponse = response.networkResponse();
+
+        if (networkResponse == null) {
+            NetworkStats.recordHit(bytes);
+        } else if (networkResponse.code() == RESPONSE_CODE_NOT_MODIFIED) {
+            NetworkStats.recordRevalidation(bytes);
+        } else {
+            NetworkStats.recordMiss();
+        }
+        Log.d(TAG, "Cache - " + NetworkStats.summary());
+    }
+
+    /**
+     * Counts bytes read from the wrapped stream.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        // Stores the number of bytes read so far.
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
             }
+            return b;
         }
 
-        // No data available.
-        return EMPTY;
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read != -1) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        /**
+         * @return Number of bytes read so far.
+         */
+        long getCount() {
+            return count;
+        }
     }
 
     /**
@@ -137,29 +751,31 @@ public class NetworkUtils implements NetworkUtilsConstants {
      *
      * @param responseCode Determines the result of the app's request to download news information
      *                     from the "The Guardian" API.
-     * @return An EMPTY String.
      */
-    private static String parseResponseCode(int responseCode) {
+    private static void logResponseCode(int responseCode) {
         switch (responseCode) {
             case RESPONSE_CODE_BAD_REQUEST:
                 Log.i(TAG, "Bad Request (" + responseCode + ")");
-                return EMPTY;
+                break;
 
             case RESPONSE_CODE_UNAUTHORIZED_REQUEST:
                 Log.i(TAG, "Authentication Failed (" + responseCode + ")");
-                return EMPTY;
+                break;
 
             case RESPONSE_CODE_FORBIDDEN:
                 Log.i(TAG, "Restricted Access (" + responseCode + ")");
-                return EMPTY;
+                break;
 
             case RESPONSE_CODE_NOT_FOUND:
                 Log.i(TAG, "Not Found (" + responseCode + ")");
-                return EMPTY;
+                break;
+
+            case RESPONSE_CODE_TOO_MANY_REQUESTS:
+                Log.i(TAG, "Too Many Requests (" + responseCode + ")");
+                break;
 
             default:
                 Log.e(TAG, "Error, Response Code - " + responseCode);
-                return EMPTY;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.project.news_app.utils;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.bumptech.glide.GlideBuilder;
+import com.bumptech.glide.annotation.GlideModule;
+import com.bumptech.glide.load.DecodeFormat;
+import com.bumptech.glide.load.engine.bitmap_recycle.LruBitmapPool;
+import com.bumptech.glide.load.engine.cache.InternalCacheDiskCacheFactory;
+import com.bumptech.glide.load.engine.cache.LruResourceCache;
+import com.bumptech.glide.module.AppGlideModule;
+import com.bumptech.glide.request.RequestOptions;
+import com.project.news_app.constants.ImageUtilsConstants;
+
+/**
+ * Configures Glide for news thumbnails.
+ * <ul>
+ *     <li>Memory cache and Bitmap pool are sized from the device's memory class, i.e. the heap
+ *     limit of the app, instead of the screen size.</li>
+ *     <li>Thumbnails are decoded as RGB_565, half the size of ARGB_8888. Glide still decodes
+ *     images having an alpha channel as ARGB_8888.</li>
+ * </ul>
+ * Thumbnails are decoded at the size of the View showing them, see
+ * {@link ImageUtils#getThumbnailSize(Context, int)}.
+ */
+@GlideModule
+public class NewsGlideModule extends AppGlideModule implements ImageUtilsConstants {
+
+    @Override
+    public void applyOptions(@NonNull Context context, @NonNull GlideBuilder builder) {
+        // Heap limit of the app, in bytes.
+        long heapLimit = ImageUtils.getHeapLimit(context);
+
+        long memoryCacheSize = heapLimit / DIVISOR_MEMORY_CACHE;
+        long bitmapPoolSize = heapLimit / DIVISOR_BITMAP_POOL;
+
+        Log.i(TAG, "Memory cache: " + memoryCacheSize + " bytes, Bitmap pool: "
+                + bitmapPoolSize + " bytes");
+
+        builder.setMemoryCache(new LruResourceCache(memoryCacheSize))
+                .setBitmapPool(new LruBitmapPool(bitmapPoolSize))
+                .setDiskCache(new InternalCacheDiskCacheFactory(context, DIRECTORY_DISK_CACHE,
+                        SIZE_DISK_CACHE))
+                /*
+                 * Hardware Bitmaps are always ARGB_8888, disallowing them lets thumbnails be
+                 * decoded as RGB_565.
+                 */
+                .setDefaultRequestOptions(new RequestOptions()
+                        .format(DecodeFormat.PREFER_RGB_565)
+                        .disallowHardwareConfig());
+    }
+
+    @Override
+    public boolean isManifestParsingEnabled() {
+        // No Glide modules are declared in the manifest.
+        return false;
+    }
+}
@@ -0,0 +1,267 @@
+package com.project.news_app.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.constants.TaskSchedulerConstants;
+import com.project.news_app.data.News;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads a feed from "The Guardian" API one page at a time while the user scrolls.
+ * <p>
+ * The first page is supplied by the screen's ViewModel, optionally with items to show once every
+ * page was loaded, e.g. results found on the device. The next page is downloaded once the user
+ * scrolls within {@link NetworkUtilsConstants#PREFETCH_DISTANCE} items of the end. At most
+ * {@link NetworkUtilsConstants#MAX_PAGES_IN_MEMORY} pages are kept, the page furthest from the
+ * user is dropped and downloaded again if the user scrolls back to it, so memory stays flat
+ * however far the user scrolls.
+ * <p>
+ * Every method must be called from the main thread. Pages are downloaded one at a time on the
+ * network lane of {@link TaskScheduler}, after anything the user is waiting for.
+ */
+public class NewsPager implements NetworkUtilsConstants {
+    /**
+     * Downloads pages of news items.
+     */
+    public interface PageSource {
+        /**
+         * Called on a background thread.
+         *
+         * @param page Number of the page, starting from 1.
+         * @return News items of "page" with their view types set. Empty if "page" is past the
+         * end. Null if the download failed, "page" is asked for again on the next scroll.
+         */
+        ArrayList<News> loadPage(int page);
+    }
+
+    /**
+     * Listener gets notified whenever pages are added or dropped.
+     */
+    public interface OnPagesChangedListener {
+        /**
+         * Called on the main thread.
+         *
+         * @param news News items of every page kept in memory, in order.
+         */
+        void onPagesChanged(ArrayList<News> news);
+    }
+
+    private final PageSource source;
+
+    private final OnPagesChangedListener listener;
+
+    // Downloads pages.
+    private final Executor backgroundExecutor;
+
+    // Delivers downloaded pages.
+    private final Executor mainExecutor;
+
+    // Stores the pages kept in memory, in order.
+    private final ArrayDeque<ArrayList<News>> pages = new ArrayDeque<>();
+
+    // Stores the items shown after the last page.
+    private ArrayList<News> lastItems = new ArrayList<>();
+
+    // Number of the first page kept in memory.
+    private int firstPage = 1;
+
+    // Set once a page comes back short or empty.
+    private boolean endReached;
+
+    // Set while a page is being downloaded.
+    private boolean loading;
+
+    // Incremented on every reset, pages downloaded before it are dropped.
+    private int generation;
+
+    /**
+     * @param source   Downloads pages of news items.
+     * @param listener Notified whenever pages are added or dropped.
+     */
+    public NewsPager(PageSource source, OnPagesChangedListener listener) {
+        this(source, listener, TaskScheduler.asExecutor(TaskSchedulerConstants.LANE_NETWORK,
+                TaskSchedulerConstants.PRIORITY_PREFETCH),
+                new Handler(Looper.getMainLooper())::post);
+    }
+
+    NewsPager(PageSource source, OnPagesChangedListener listener, Executor backgroundExecutor,
+              Executor mainExecutor) {
+        this.source = source;
+        this.listener = listener;
+        this.backgroundExecutor = backgroundExecutor;
+        this.mainExecutor = mainExecutor;
+    }
+
+    /**
+     * Starts paging over. Pages being downloaded are dropped. Doesn't notify the listener.
+     *
+     * @param news News items of the first page, e.g. downloaded by a ViewModel.
+     */
+    public void setFirstPage(ArrayList<News> news) {
+        setFirstPage(news, null);
+    }
+
+    /**
+     * Starts paging over. Pages being downloaded are dropped. Doesn't notify the listener.
+     *
+     * @param news      News items of the first page, e.g. downloaded by a ViewModel.
+     * @param lastItems News items shown once the last page was loaded, so they never come between
+     *                  two pages. Items listed by a page are not shown again.
+     */
+    public void setFirstPage(ArrayList<News> news, ArrayList<News> lastItems) {
+        this.lastItems = lastItems != null ? lastItems : new ArrayList<>();
+        generation++;
+        loading = false;
+        pages.clear();
+        firstPage = 1;
+        endReached = news == null || news.isEmpty();
+
+        if (!endReached) {
+            pages.add(news);
+        }
+    }
+
+    /**
+     * Downloads the next or previous page if the user is about to reach the end or the start of
+     * the pages kept in memory.
+     *
+     * @param firstVisible Position of the first visible item.
+     * @param lastVisible  Position of the last visible item.
+     */
+    public void onScrolled(int firstVisible, int lastVisible) {
+        if (loading || pages.isEmpty()) {
+            return;
+        }
+
+        if (!endReached && lastVisible >= getItemCount() - PREFETCH_DISTANCE) {
+            loadPage(firstPage + pages.size(), true);
+        } else if (firstPage > 1 && firstVisible < PREFETCH_DISTANCE) {
+            loadPage(firstPage - 1, false);
+        }
+    }
+
+    /**
+     * Downloads "page" in the background.
+     *
+     * @param append True to add it after the last page, false to add it before the first page.
+     */
+    private void loadPage(int page, boolean append) {
+        loading = true;
+        int requestGeneration = generation;
+
+        backgroundExecutor.execute(() -> {
+            ArrayList<News> news = source.loadPage(page);
+            mainExecutor.execute(() -> {
+                // Paging started over while the page was downloaded.
+                if (requestGeneration != generation) {
+                    return;
+                }
+                loading = false;
+                onPageLoaded(news, append);
+            });
+        });
+    }
+
+    /**
+     * Adds a downloaded page and drops the page furthest from the user if too many are kept.
+     */
+    private void onPageLoaded(ArrayList<News> news, boolean append) {
+        // Download failed, the page is asked for again on the next scroll.
+        if (news == null) {
+            return;
+        }
+
+        if (append) {
+            // Short page is the last one. Empty page is past the end.
+            if (news.size() < SIZE_PAGE) {
+                endReached = true;
+            }
+            if (news.isEmpty()) {
+                // Items shown after the last page are due now.
+                if (!lastItems.isEmpty()) {
+                    listener.onPagesChanged(getNews());
+                }
+                return;
+            }
+
+            pages.addLast(news);
+            if (pages.size() > MAX_PAGES_IN_MEMORY) {
+                pages.removeFirst();
+                firstPage++;
+            }
+        } else {
+            if (news.isEmpty()) {
+                return;
+            }
+
+            pages.addFirst(news);
+            firstPage--;
+            if (pages.size() > MAX_PAGES_IN_MEMORY) {
+                pages.removeLast();
+                endReached = false;
+            }
+        }
+        listener.onPagesChanged(getNews());
+    }
+
+    /**
+     * @return News items of every page kept in memory, in order, followed by the items shown
+     * after the last page once it was loaded. Articles listed by more than one page (the feed
+     * shifts as news is published) are kept only once, where they were listed first.
+     */
+    public ArrayList<News> getNews() {
+        ArrayList<News> news = new ArrayList<>(getItemCount());
+
+        // Stores URLs of the articles already added.
+        Set<String> urls = new HashSet<>();
+
+        for (ArrayList<News> page : pages) {
+            for (News item : page) {
+                if (urls.add(item.getArticleURL())) {
+                    news.add(item);
+                }
+            }
+        }
+
+        if (endReached) {
+            for (News item : lastItems) {
+                if (urls.add(item.getArticleURL())) {
+                    news.add(item);
+                }
+            }
+        }
+        return news;
+    }
+
+    /**
+     * @return Number of the first page kept in memory.
+     */
+    public int getFirstPage() {
+        return firstPage;
+    }
+
+    /**
+     * @return Number of pages kept in memory.
+     */
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * @return Number of news items kept in memory, duplicates included.
+     */
+    private int getItemCount() {
+        int count = 0;
+        for (ArrayList<News> page : pages) {
+            count += page.size();
+        }
+        return count;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package com.project.news_app.utils;
+
+import android.util.Log;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.constants.TaskSchedulerConstants;
+import com.project.news_app.data.News;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Downloads news info. from multiple "The Guardian" API Endpoints at once.
+ * <p>
+ * All requests are issued together on the network lane of {@link TaskScheduler} and their
+ * responses are merged back in the order of the supplied URLs. Total latency is therefore bound by
+ * the slowest request instead of the sum of all of them.
+ */
+public class ParallelDownloader implements NetworkUtilsConstants {
+
+    // Setting default Constructor to private.
+    private ParallelDownloader() {
+    }
+
+    /**
+     * Listener gets notified as soon as a single request finishes.
+     */
+    public interface OnDownloadListener {
+        /**
+         * Called on a background thread exactly once per request, either when the request
+         * finishes or when it misses its deadline.
+         *
+         * @param index Position of the request in the supplied URLs.
+         * @param news  Downloaded news items. Empty if the request failed.
+         */
+        void onDownloaded(int index, ArrayList<News> news);
+    }
+
+    /**
+     * Downloads news info. from every URL concurrently.
+     *
+     * @param urls           Points to "The Guardian" API Endpoints.
+     * @param deadlineMillis Time (in milliseconds) each request is given to finish. A request that
+     *                       misses its deadline is cancelled and its news list is left empty.
+     * @return Downloaded news items in the same order as "urls".
+     */
+    public static List<ArrayList<News>> downloadAll(URL[] urls, long deadlineMillis) {
+        return downloadAll(urls, deadlineMillis, EndpointPolicy.SECTION, false, null);
+    }
+
+    /**
+     * Downloads news info. from every URL concurrently and notifies "listener" as soon as each
+     * request finishes.
+     *
+     * @param urls           Points to "The Guardian" API Endpoints.
+     * @param deadlineMillis Time (in milliseconds) each request is given to finish. A request that
+     *                       misses its deadline is cancelled and its news list is left empty.
+     * @param policy         Decides how long responses stay fresh in the cache.
+     * @param refresh        True if cached responses must be revalidated with the server.
+     * @param listener       Notified per finished request. Can be null.
+     * @return Downloaded news items in the same order as "urls".
+     */
+    public static List<ArrayList<News>> downloadAll(URL[] urls, long deadlineMillis,
+                                                    EndpointPolicy policy, boolean refresh,
+                                                    OnDownloadListener listener) {
+        // Makes sure "listener" is notified only once per request.
+        AtomicBoolean[] delivered = new AtomicBoolean[urls.length];
+
+        // Issuing all requests at once.
+        ArrayList<Future<ArrayList<News>>> futures = new ArrayList<>(urls.length);
+        for (int i = 0; i < urls.length; i++) {
+            int index = i;
+            delivered[index] = new AtomicBoolean();
+
+            futures.add(TaskScheduler.submit(TaskSchedulerConstants.LANE_NETWORK,
+                    TaskSchedulerConstants.PRIORITY_VISIBLE, task -> {
+                // Missing the deadline closes the socket of the request.
+                task.setOnCancelListener(() -> NetworkUtils.cancelRequests(urls[index]));
+
+                // Responses are parsed while they are being downloaded.
+                ArrayList<News> news = NetworkUtils.downloadNewsData(urls[index], policy,
+                        refresh, JsonUtils.NEWS_LIST_PARSER, new ArrayList<>());
+                deliver(listener, delivered[index], index, news);
+                return news;
+            }));
+        }
+
+        // Every request was submitted at the same moment, so they share the same deadline.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        // Stores news items in the order of "urls".
+        List<ArrayList<News>> responses = new ArrayList<>(urls.length);
+
+        for (int i = 0; i < futures.size(); i++) {
+            Future<ArrayList<News>> future = futures.get(i);
+
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                responses.add(future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                Log.e(TAG, "Request timed out - " + urls[i]);
+                future.cancel(true);
+                responses.add(new ArrayList<>());
+                deliver(listener, delivered[i], i, new ArrayList<>());
+            } catch (ExecutionException | CancellationException e) {
+                Log.e(TAG, "Request failed - " + e.getMessage());
+                responses.add(new ArrayList<>());
+                deliver(listener, delivered[i], i, new ArrayList<>());
+            } catch (InterruptedException e) {
+                // Task was cancelled, dropping the remaining requests.
+                for (Future<ArrayList<News>> pending : futures) {
+                    pending.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                while (responses.size() < urls.length) {
+                    responses.add(new ArrayList<>());
+                }
+                break;
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Notifies "listener" unless it was already notified for the request at "index".
+     */
+    private static void deliver(OnDownloadListener listener, AtomicBoolean delivered, int index,
+                                ArrayList<News> news) {
+        if (listener != null && delivered.compareAndSet(false, true)) {
+            listener.onDownloaded(index, news);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.news_app.utils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Decides which prefetches run, within a limit on prefetches in flight and on the bytes held by
+ * prefetched items.
+ * <p>
+ * Callers pass every item they would like prefetched, most wanted first. Items are kept in that
+ * order as long as their bytes fit the budget, the rest are dropped. Kept items count towards the
+ * budget until they're no longer wanted, so prefetching can't push the items being shown out of
+ * the caches.
+ *
+ * @param <K> Identifies an item, compared with equals().
+ */
+public class PrefetchBudget<K> {
+    // Maximum number of prefetches in flight.
+    private final int maxInFlight;
+
+    // Maximum number of bytes held by kept items.
+    private final long maxBytes;
+
+    // Items started, in flight or finished, with their bytes.
+    private final Map<K, Long> kept = new LinkedHashMap<>();
+
+    // Kept items whose prefetch is in flight.
+    private final Set<K> inFlight = new HashSet<>();
+
+    /**
+     * @param maxInFlight Maximum number of prefetches in flight.
+     * @param maxBytes    Maximum number of bytes held by prefetched items.
+     */
+    PrefetchBudget(int maxInFlight, long maxBytes) {
+        this.maxInFlight = maxInFlight;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Replaces the wanted items.
+     *
+     * @param wanted Items to prefetch with their bytes, most wanted first.
+     * @param cancel Called with each item in flight that is no longer kept.
+     * @param start  Called with each item to start prefetching, most wanted first.
+     */
+    void update(LinkedHashMap<K, Long> wanted, Consumer<K> cancel, Consumer<K> start) {
+        // Most wanted items fitting the budget.
+        LinkedHashMap<K, Long> fitting = new LinkedHashMap<>();
+        long bytes = 0;
+        for (Map.Entry<K, Long> item : wanted.entrySet()) {
+            bytes += item.getValue();
+            if (bytes > maxBytes) {
+                break;
+            }
+            fitting.put(item.getKey(), item.getValue());
+        }
+
+        // Dropping items no longer fitting.
+        Iterator<K> iterator = kept.keySet().iterator();
+        while (iterator.hasNext()) {
+            K key = iterator.next();
+            if (!fitting.containsKey(key)) {
+                iterator.remove();
+                if (inFlight.remove(key)) {
+                    cancel.accept(key);
+                }
+            }
+        }
+
+        // Starting new items while prefetches are available.
+        for (Map.Entry<K, Long> item : fitting.entrySet()) {
+            if (inFlight.size() >= maxInFlight) {
+                break;
+            }
+            K key = item.getKey();
+            if (!kept.containsKey(key)) {
+                kept.put(key, item.getValue());
+                inFlight.add(key);
+                start.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Marks the prefetch of "key" done, whether it succeeded or not. Its bytes still count and it
+     * isn't prefetched again until it's no longer wanted.
+     */
+    void onFinished(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Forgets every item, e.g. once prefetches were cancelled.
+     *
+     * @return Items that were in flight.
+     */
+    ArrayList<K> clear() {
+        ArrayList<K> cancelled = new ArrayList<>(inFlight);
+        inFlight.clear();
+        kept.clear();
+        return cancelled;
+    }
+
+    /**
+     * @return Number of prefetches in flight.
+     */
+    int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return Bytes held by kept items.
+     */
+    long getBytes() {
+        long bytes = 0;
+        for (long itemBytes : kept.values()) {
+            bytes += itemBytes;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.news_app.utils;
+
+/**
+ * Picks the positions to preload ahead of a scrolling list.
+ * <p>
+ * The window starts right after the last visible item in the scroll direction and grows with the
+ * scroll speed, so fast flings look further ahead. Every position is handed out once per
+ * direction, the window starts over when the direction reverses.
+ */
+public class PreloadWindow {
+    /**
+     * Returned by {@link #next()} when every position of the window was handed out.
+     */
+    static final int NO_POSITION = -1;
+
+    // Items preloaded when scrolling slowly.
+    private final int minItems;
+
+    // Items preloaded when scrolling fast.
+    private final int maxItems;
+
+    // Scroll speed (pixels per frame) adding one item to the window.
+    private final int speedPerItem;
+
+    // 1 when scrolling forward, -1 when scrolling backward, 0 before the first scroll.
+    private int direction;
+
+    // Next position to hand out.
+    private int next;
+
+    // Last position of the window, in the scroll direction.
+    private int limit = NO_POSITION;
+
+    /**
+     * @param minItems     Items preloaded when scrolling slowly.
+     * @param maxItems     Items preloaded when scrolling fast.
+     * @param speedPerItem Scroll speed (pixels per frame) adding one item to the window.
+     */
+    PreloadWindow(int minItems, int maxItems, int speedPerItem) {
+        this.minItems = minItems;
+        this.maxItems = maxItems;
+        this.speedPerItem = speedPerItem;
+    }
+
+    /**
+     * Moves the window along with the visible items.
+     *
+     * @param delta     Pixels scrolled since the last frame, negative when scrolling backward.
+     * @param first     Position of the first visible item.
+     * @param last      Position of the last visible item.
+     * @param itemCount Number of items in the list.
+     * @return true if the scroll direction reversed, i.e. preloads in flight are no longer
+     * needed.
+     */
+    boolean onScrolled(int delta, int first, int last, int itemCount) {
+        if (delta == 0 || first < 0 || last < 0) {
+            return false;
+        }
+
+        int direction = Integer.signum(delta);
+        boolean reversed = this.direction != 0 && direction != this.direction;
+        if (direction != this.direction) {
+            this.direction = direction;
+
+            // Starting over from the visible items.
+            next = direction > 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        }
+
+        int size = getSize(Math.abs(delta));
+        if (direction > 0) {
+            limit = Math.min(itemCount - 1, last + size);
+
+            // Items up to "last" are already shown.
+            next = Math.max(next, last + 1);
+        } else {
+            limit = Math.max(0, first - size);
+
+            // Items from "first" are already shown.
+            next = Math.min(next, first - 1);
+        }
+        return reversed;
+    }
+
+    /**
+     * @return Next position to preload, {@link #NO_POSITION} if the window is exhausted.
+     */
+    int next() {
+        if (direction == 0 || next < 0 || (direction > 0 ? next > limit : next < limit)) {
+            return NO_POSITION;
+        }
+
+        int position = next;
+        next += direction;
+        return position;
+    }
+
+    /**
+     * @param speed Pixels scrolled since the last frame.
+     * @return Number of items to preload at "speed".
+     */
+    int getSize(int speed) {
+        return Math.min(maxItems, minItems + speed / speedPerItem);
+    }
+}
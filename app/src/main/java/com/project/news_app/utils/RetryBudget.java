@@ -0,0 +1,46 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+
+/**
+ * Limits retries made by {@link NetworkUtils} across every request.
+ * <p>
+ * Every retry spends a token and every successful request earns back a part of one. While
+ * "The Guardian" API keeps failing the tokens run out and requests fail after their first
+ * attempt, so retries never multiply the load on a server that is already struggling.
+ */
+public class RetryBudget implements NetworkUtilsConstants {
+    // Stores the number of retries that can still be made.
+    private static double tokens = SIZE_RETRY_BUDGET;
+
+    // Setting default Constructor to private.
+    private RetryBudget() {
+    }
+
+    /**
+     * Spends a token for a retry.
+     *
+     * @return False if the budget is spent and the request must not be retried.
+     */
+    static synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * Earns back a part of a retry after a successful request.
+     */
+    static synchronized void recordSuccess() {
+        tokens = Math.min(SIZE_RETRY_BUDGET, tokens + REFILL_RETRY_BUDGET);
+    }
+
+    /**
+     * Fills the budget back up, used by tests.
+     */
+    static synchronized void reset() {
+        tokens = SIZE_RETRY_BUDGET;
+    }
+}
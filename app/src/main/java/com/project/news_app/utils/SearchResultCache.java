@@ -0,0 +1,57 @@
+package com.project.news_app.utils;
+
+import android.util.LruCache;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.data.News;
+
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Keeps the results of the most recent searches in memory, so going back to an earlier query
+ * (e.g. by deleting the last few letters) shows its results without any request.
+ */
+public class SearchResultCache implements NetworkUtilsConstants {
+    /**
+     * Maps a query to its results. Least recently used queries are evicted first.
+     */
+    private static final LruCache<String, ArrayList<News>> results =
+            new LruCache<>(SIZE_QUERY_CACHE);
+
+    // Setting default Constructor to private.
+    private SearchResultCache() {
+    }
+
+    /**
+     * @param query Words entered by the user.
+     * @return Results of "query" if it was searched recently, otherwise null.
+     */
+    public static ArrayList<News> get(String query) {
+        ArrayList<News> news = results.get(toKey(query));
+        if (news != null) {
+            NetworkStats.recordQueryCacheHit();
+        }
+        return news;
+    }
+
+    /**
+     * Stores the results of "query". Empty results are not stored, so a failed search is tried
+     * again next time.
+     *
+     * @param query Words entered by the user.
+     * @param news  Results of "query".
+     */
+    public static void put(String query, ArrayList<News> news) {
+        if (news != null && news.size() > 0) {
+            results.put(toKey(query), news);
+        }
+    }
+
+    /**
+     * @return Key of "query", queries differing only in case share their results.
+     */
+    private static String toKey(String query) {
+        return query.trim().toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
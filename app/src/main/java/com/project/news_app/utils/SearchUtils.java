@@ -0,0 +1,47 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.data.NewsStore;
+
+import java.util.Locale;
+
+/**
+ * Helps searching news info. on the device with {@link NewsStore} alongside "The Guardian" API.
+ */
+public class SearchUtils implements NetworkUtilsConstants {
+
+    // Setting default Constructor to private.
+    private SearchUtils() {
+    }
+
+    /**
+     * Converts words entered by the user to a full-text query. Every word is matched as a prefix,
+     * so results show up while the last word is still being typed, and all words must match.
+     * Characters with a meaning in the query syntax (quotes, "*", "-", ...) are dropped.
+     *
+     * @param query Words entered by the user.
+     * @return Full-text query, e.g. "climate change" -> "climate* change*". EMPTY if "query" has
+     * no words.
+     */
+    public static String toMatchQuery(String query) {
+        if (query == null) {
+            return EMPTY;
+        }
+
+        StringBuilder matchQuery = new StringBuilder();
+
+        // Lower case keeps words like "OR" and "NEAR" from being read as operators.
+        for (String word : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            // Splitting leaves an empty word if "query" starts with a separator.
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            if (matchQuery.length() > 0) {
+                matchQuery.append(' ');
+            }
+            matchQuery.append(word).append('*');
+        }
+        return matchQuery.toString();
+    }
+}
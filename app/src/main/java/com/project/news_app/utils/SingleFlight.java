@@ -0,0 +1,100 @@
+package com.project.news_app.utils;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shares a request in flight between every caller asking for the same key, so concurrent callers
+ * cost a single request and a single parse.
+ * <p>
+ * The first caller (the leader) runs the request on its own thread while later callers wait for
+ * its result. Nothing is kept once the request finishes, callers arriving afterwards start a new
+ * one. If the request is cancelled, waiting callers that were not cancelled themselves start it
+ * again instead of sharing the cancellation.
+ */
+public class SingleFlight {
+    /**
+     * Stores the requests in flight, keyed by whatever identifies their result.
+     */
+    private static final Map<Object, FutureTask<?>> flights = new ConcurrentHashMap<>();
+
+    // Setting default Constructor to private.
+    private SingleFlight() {
+    }
+
+    /**
+     * Runs "request", or waits for the request in flight under "key".
+     *
+     * @param key     Identifies the result of "request". Compared with equals().
+     * @param request Produces the result. Throws {@link CancellationException} if it was
+     *                cancelled before it finished.
+     * @param share   Converts the result for callers waiting on another caller's request, e.g.
+     *                copies it when callers modify their result.
+     * @return Result of the request. Leader gets the result as is, the others get it through
+     * "share".
+     * @throws CancellationException If the request of this caller was cancelled.
+     * @throws InterruptedException  If this caller was interrupted while waiting.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T execute(Object key, Callable<T> request, UnaryOperator<T> share)
+            throws InterruptedException {
+        while (true) {
+            FutureTask<T> flight = new FutureTask<>(request);
+            FutureTask<T> running = (FutureTask<T>) flights.putIfAbsent(key, flight);
+
+            if (running == null) {
+                // Leader, nobody else is requesting "key".
+                try {
+                    flight.run();
+                } finally {
+                    flights.remove(key, flight);
+                }
+                return get(flight);
+            }
+
+            // Another caller is requesting "key", waiting for its result.
+            try {
+                T result = get(running);
+                NetworkStats.recordCoalesced();
+                return share.apply(result);
+            } catch (CancellationException e) {
+                // Leader was cancelled, this caller still needs the result.
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Number of requests in flight.
+     */
+    static int size() {
+        return flights.size();
+    }
+
+    /**
+     * Waits for "flight" and unwraps its failure.
+     *
+     * @return Result of "flight".
+     */
+    private static <T> T get(FutureTask<T> flight) throws InterruptedException {
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.project.news_app.utils;
+
+import android.util.Log;
+
+import com.project.news_app.constants.TaskSchedulerConstants;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs every background task of the app on one of three lanes.
+ * <ul>
+ *     <li>{@link TaskSchedulerConstants#LANE_NETWORK} - tasks waiting on "The Guardian" API.</li>
+ *     <li>{@link TaskSchedulerConstants#LANE_CPU} - CPU-bound tasks, one thread per core.</li>
+ *     <li>{@link TaskSchedulerConstants#LANE_DISK} - tasks reading or writing storage.</li>
+ * </ul>
+ * Each lane queues its tasks by priority, so what the user is looking at runs before prefetching,
+ * which runs before background work. Tasks of the same priority run in the order submitted.
+ * <p>
+ * Cancellation is cooperative. A cancelled task is interrupted, long running tasks check
+ * {@link Task#isCancelled()} between steps and register an on-cancel listener to abort blocking
+ * I/O, e.g. closing the socket of a request in flight.
+ */
+public class TaskScheduler implements TaskSchedulerConstants {
+    /**
+     * Thread pools of every lane, indexed by lane.
+     */
+    private static final ThreadPoolExecutor[] lanes = {
+            newLane("network", POOL_SIZE_NETWORK),
+            newLane("cpu", Math.max(2, Runtime.getRuntime().availableProcessors())),
+            newLane("disk", POOL_SIZE_DISK)
+    };
+
+    /**
+     * Orders tasks of the same priority by the time they were submitted.
+     */
+    private static final AtomicLong sequence = new AtomicLong();
+
+    // Setting default Constructor to private.
+    private TaskScheduler() {
+    }
+
+    /**
+     * Work done by a {@link Task}.
+     */
+    public interface Job<V> {
+        /**
+         * Called on a background thread of the task's lane.
+         *
+         * @param task Task running this job, checked for cancellation.
+         * @return Result of the job.
+         */
+        V run(Task<V> task) throws Exception;
+    }
+
+    /**
+     * Task queued on one of the lanes. Can be cancelled while queued or running.
+     */
+    public static class Task<V> extends FutureTask<V> implements Comparable<Task<?>> {
+        // Lower values run first.
+        private final int priority;
+
+        // Position in submission order.
+        private final long position;
+
+        // Called once the task is cancelled.
+        private Runnable onCancelListener;
+
+        private Task(JobCallable<V> callable, int priority) {
+            super(callable);
+            this.priority = priority;
+            this.position = sequence.getAndIncrement();
+            callable.task = this;
+        }
+
+        /**
+         * Sets "listener" to be called once this task is cancelled. Called right away if the task
+         * is already cancelled.
+         *
+         * @param listener Aborts blocking work of the task. Called on the cancelling thread.
+         */
+        public void setOnCancelListener(Runnable listener) {
+            synchronized (this) {
+                if (!isCancelled()) {
+                    onCancelListener = listener;
+                    return;
+                }
+            }
+            listener.run();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+            // Listener registered before cancelling is called exactly once.
+            Runnable listener;
+            synchronized (this) {
+                listener = onCancelListener;
+                onCancelListener = null;
+            }
+            if (cancelled && listener != null) {
+                listener.run();
+            }
+            return cancelled;
+        }
+
+        /**
+         * Cancels the task and interrupts it if it is running.
+         */
+        public void cancel() {
+            cancel(true);
+        }
+
+        /**
+         * Waits for the result of this task, e.g. a task of another lane waiting for a read of
+         * the disk lane.
+         *
+         * @param fallback Returned if the task failed or was cancelled.
+         * @return Result of this task. "fallback" if there is none or the waiting thread was
+         * interrupted, in which case the thread stays interrupted.
+         */
+        public V getOrDefault(V fallback) {
+            try {
+                return get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return fallback;
+            } catch (ExecutionException | CancellationException e) {
+                return fallback;
+            }
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            // Cancelled tasks fail by design, e.g. when interrupted.
+            if (!isCancelled()) {
+                Log.e(TAG, "Task failed - " + t);
+            }
+            super.setException(t);
+        }
+
+        @Override
+        public int compareTo(Task<?> other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(position, other.position);
+        }
+    }
+
+    /**
+     * Lets a {@link Job} access the {@link Task} running it.
+     */
+    private static class JobCallable<V> implements Callable<V> {
+        private final Job<V> job;
+
+        private Task<V> task;
+
+        private JobCallable(Job<V> job) {
+            this.job = job;
+        }
+
+        @Override
+        public V call() throws Exception {
+            return job.run(task);
+        }
+    }
+
+    /**
+     * Creates a lane running tasks by priority on at most "threads" threads. Idle threads are
+     * released after {@link TaskSchedulerConstants#KEEP_ALIVE_TASK} seconds.
+     */
+    private static ThreadPoolExecutor newLane(String name, int threads) {
+        // Numbers every thread created by the lane.
+        AtomicInteger threadCount = new AtomicInteger();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_TASK,
+                TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+                runnable -> new Thread(runnable, name + "-" + threadCount.incrementAndGet()));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Queues "job" on "lane".
+     *
+     * @param lane     One of LANE_NETWORK, LANE_CPU or LANE_DISK.
+     * @param priority One of PRIORITY_VISIBLE, PRIORITY_PREFETCH or PRIORITY_BACKGROUND.
+     * @param job      Work to run in the background.
+     * @return Task running "job", used to wait for its result or to cancel it.
+     */
+    public static <V> Task<V> submit(int lane, int priority, Job<V> job) {
+        Task<V> task = new Task<>(new JobCallable<>(job), priority);
+        lanes[lane].execute(task);
+        return task;
+    }
+
+    /**
+     * Queues "runnable" on "lane".
+     *
+     * @return Task running "runnable", used to cancel it.
+     */
+    public static Task<Void> execute(int lane, int priority, Runnable runnable) {
+        return submit(lane, priority, task -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return Executor queuing every runnable on "lane" with "priority", e.g. for libraries
+     * taking their own background executor.
+     */
+    public static Executor asExecutor(int lane, int priority) {
+        return runnable -> execute(lane, priority, runnable);
+    }
+}
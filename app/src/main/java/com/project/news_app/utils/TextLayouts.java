@@ -0,0 +1,172 @@
+package com.project.news_app.utils;
+
+import android.text.TextUtils;
+import android.util.Log;
+import android.util.LruCache;
+import android.util.SparseArray;
+import android.view.View;
+import android.widget.TextView;
+
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
+
+import com.project.news_app.constants.TextLayoutsConstants;
+import com.project.news_app.data.News;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the text layouts of news items computed in the background, so binding a news item
+ * attaches ready layouts instead of measuring long headlines on the main thread.
+ * <p>
+ * Layouts are cached per text and text style ({@link PrecomputedTextCompat.Params}), a layout is
+ * only valid for TextViews having the style it was computed with. Styles are recorded here as
+ * TextViews are bound, not by the Adapter binding them, since ViewHolders move between the
+ * Adapters sharing a RecycledViewPool.
+ */
+public class TextLayouts implements TextLayoutsConstants {
+    /**
+     * Maps a text and its style to its layout. Least recently used layouts are evicted first.
+     */
+    private static final LruCache<List<Object>, PrecomputedTextCompat> layouts =
+            new LruCache<>(SIZE_TEXT_LAYOUT_CACHE);
+
+    /**
+     * Stores the style of every TextView showing a headline, section name or author info., keyed
+     * by view type and role. Taken from the first TextView bound for each key. Only used on the
+     * main thread.
+     */
+    private static final SparseArray<PrecomputedTextCompat.Params> styles = new SparseArray<>();
+
+    // Setting default Constructor to private.
+    private TextLayouts() {
+    }
+
+    /**
+     * @param news News item.
+     * @param role One of ROLE_HEADLINE, ROLE_SECTION or ROLE_BY_LINE.
+     * @return Text of "news" shown in "role".
+     */
+    public static String getText(News news, int role) {
+        switch (role) {
+            case ROLE_SECTION:
+                return news.getSectionName();
+            case ROLE_BY_LINE:
+                return news.getByLine();
+            case ROLE_HEADLINE:
+            default:
+                return news.getHeadline();
+        }
+    }
+
+    /**
+     * @return Key of the style of TextViews showing "role" in "viewType".
+     */
+    public static int getStyleKey(int viewType, int role) {
+        return viewType * COUNT_ROLES + role;
+    }
+
+    /**
+     * Returns the style of TextViews showing "role" in "viewType", recording the style of
+     * "textView" if it is the first one bound. Called on the main thread.
+     *
+     * @param textView TextView being bound.
+     * @param viewType View type of the news item.
+     * @param role     One of ROLE_HEADLINE, ROLE_SECTION or ROLE_BY_LINE.
+     * @return Style of "textView".
+     */
+    public static PrecomputedTextCompat.Params getStyle(TextView textView, int viewType,
+                                                        int role) {
+        int key = getStyleKey(viewType, role);
+
+        PrecomputedTextCompat.Params params = styles.get(key);
+        if (params == null) {
+            params = TextViewCompat.getTextMetricsParams(textView);
+            styles.put(key, params);
+        }
+        return params;
+    }
+
+    /**
+     * @return Copy of every style recorded so far, keyed by {@link #getStyleKey(int, int)}. Safe
+     * to read in the background. Called on the main thread.
+     */
+    public static SparseArray<PrecomputedTextCompat.Params> getStyles() {
+        return styles.clone();
+    }
+
+    /**
+     * @return Number of styles recorded so far, grows whenever a TextView of a new style is bound.
+     * Called on the main thread.
+     */
+    public static int getStyleCount() {
+        return styles.size();
+    }
+
+    /**
+     * Computes and caches the layout of "text", unless it is cached already. Slow, runs in the
+     * background.
+     *
+     * @param text   Text to lay out.
+     * @param params Style of the TextViews showing "text".
+     */
+    public static void precompute(String text, PrecomputedTextCompat.Params params) {
+        if (TextUtils.isEmpty(text)) {
+            return;
+        }
+
+        List<Object> key = Arrays.asList(text, params);
+        if (layouts.get(key) == null) {
+            layouts.put(key, PrecomputedTextCompat.create(text, params));
+        }
+    }
+
+    /**
+     * Sets text to a {@link TextView}, using its cached layout if there is one. If text is EMPTY,
+     * visibility is set to GONE.
+     *
+     * @param textView TextView to set "text" to.
+     * @param text     Text to show.
+     * @param params   Style of "textView".
+     */
+    public static void setText(TextView textView, String text,
+                               PrecomputedTextCompat.Params params) {
+        if (TextUtils.isEmpty(text)) {
+            textView.setVisibility(View.GONE);
+            return;
+        }
+
+        PrecomputedTextCompat layout = getLayout(text, params);
+        if (layout == null) {
+            // Not computed yet, laid out on the main thread.
+            textView.setText(text);
+        } else {
+            try {
+                TextViewCompat.setPrecomputedText(textView, layout);
+            } catch (IllegalArgumentException e) {
+                // Style of "textView" changed since "params" was taken.
+                Log.w(TAG, "Text style changed - " + e);
+                textView.setText(text);
+            }
+        }
+        textView.setVisibility(View.VISIBLE);
+    }
+
+    /**
+     * @param text   Text shown.
+     * @param params Style of the TextViews showing "text".
+     * @return Cached layout of "text", null if it was not computed yet.
+     */
+    public static PrecomputedTextCompat getLayout(String text,
+                                                  PrecomputedTextCompat.Params params) {
+        return layouts.get(Arrays.asList(text, params));
+    }
+
+    /**
+     * Drops every cached layout, e.g. when memory runs low.
+     */
+    public static void clear() {
+        layouts.evictAll();
+    }
+}
@@ -0,0 +1,150 @@
+package com.project.news_app.utils;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.request.target.CustomTarget;
+import com.bumptech.glide.request.transition.Transition;
+import com.project.news_app.adapters.NewsAdapter;
+import com.project.news_app.constants.ImageUtilsConstants;
+import com.project.news_app.data.News;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Downloads and decodes the thumbnails of the items about to be scrolled into view, so they're
+ * shown from Glide's memory cache once bound instead of blank.
+ * <ul>
+ *     <li>The faster the list scrolls, the more items are preloaded, see {@link PreloadWindow}.
+ *     </li>
+ *     <li>At most {@link ImageUtilsConstants#MAX_OUTSTANDING_PRELOADS} preloads are in flight,
+ *     the rest wait for the following frames.</li>
+ *     <li>Preloads in flight are cancelled when the scroll direction reverses.</li>
+ * </ul>
+ * Works with lists linked with a {@link LinearLayoutManager} of either orientation.
+ */
+public class ThumbnailPreloader extends RecyclerView.OnScrollListener implements
+        ImageUtilsConstants {
+    // Used to start preloads.
+    private final Context context;
+
+    // Provides the news items of the list.
+    private final NewsAdapter adapter;
+
+    // Picks the positions to preload.
+    private final PreloadWindow window;
+
+    // Preloads in flight.
+    private final List<PreloadTarget> outstanding = new ArrayList<>();
+
+    // Clears preloads, also once "context" is destroyed.
+    private final RequestManager requestManager;
+
+    // Finished preloads are cleared on the main thread, outside of Glide's callbacks.
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * @param context Context to use, preloads are tied to its lifecycle.
+     * @param adapter Provides the news items of the list.
+     */
+    public ThumbnailPreloader(Context context, NewsAdapter adapter) {
+        this.context = context;
+        this.adapter = adapter;
+        requestManager = Glide.with(context);
+
+        // Scroll speeds are measured in pixels.
+        float density = context.getResources().getDisplayMetrics().density;
+        window = new PreloadWindow(PRELOAD_MIN_ITEMS, PRELOAD_MAX_ITEMS,
+                Math.max(1, Math.round(PRELOAD_SPEED_PER_ITEM * density)));
+    }
+
+    @Override
+    public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+        LinearLayoutManager layoutManager = (LinearLayoutManager) recyclerView.getLayoutManager();
+        if (layoutManager == null) {
+            return;
+        }
+
+        int delta = layoutManager.getOrientation() == RecyclerView.HORIZONTAL ? dx : dy;
+        if (window.onScrolled(delta, layoutManager.findFirstVisibleItemPosition(),
+                layoutManager.findLastVisibleItemPosition(), adapter.getItemCount())) {
+            // Items preloaded in the other direction won't be shown soon.
+            cancel();
+        }
+
+        while (outstanding.size() < MAX_OUTSTANDING_PRELOADS) {
+            int position = window.next();
+            if (position == PreloadWindow.NO_POSITION) {
+                break;
+            }
+            preload(adapter.getItem(position));
+        }
+    }
+
+    /**
+     * Cancels every preload in flight.
+     */
+    public void cancel() {
+        for (PreloadTarget target : new ArrayList<>(outstanding)) {
+            requestManager.clear(target);
+        }
+        outstanding.clear();
+    }
+
+    /**
+     * Starts preloading the thumbnail of "news", if it shows one.
+     */
+    private void preload(News news) {
+        String thumbnailUrl = news.getThumbnailUrl();
+        if (TextUtils.isEmpty(thumbnailUrl)) {
+            return;
+        }
+
+        RequestBuilder<Drawable> request = CommonUtils.getThumbnailRequest(context, thumbnailUrl,
+                news.getViewType());
+        if (request == null) {
+            return;
+        }
+
+        PreloadTarget target = new PreloadTarget();
+        outstanding.add(target);
+        request.into(target);
+    }
+
+    /**
+     * Holds a preloaded thumbnail until Glide moves it to its memory cache.
+     */
+    private class PreloadTarget extends CustomTarget<Drawable> {
+
+        @Override
+        public void onResourceReady(@NonNull Drawable resource,
+                                    @Nullable Transition<? super Drawable> transition) {
+            outstanding.remove(this);
+
+            // Clearing a finished request keeps its thumbnail in the memory cache.
+            handler.post(() -> requestManager.clear(this));
+        }
+
+        @Override
+        public void onLoadFailed(@Nullable Drawable errorDrawable) {
+            outstanding.remove(this);
+        }
+
+        @Override
+        public void onLoadCleared(@Nullable Drawable placeholder) {
+            outstanding.remove(this);
+        }
+    }
+}
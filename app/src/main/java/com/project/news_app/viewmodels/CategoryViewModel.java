@@ -0,0 +1,313 @@
+package com.project.news_app.viewmodels;
+
+import android.app.Application;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.project.news_app.activities.CategoryActivity;
+import com.project.news_app.adapters.NewsAdapter;
+import com.project.news_app.constants.CategoryActivityConstants;
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.constants.NewsStoreConstants;
+import com.project.news_app.constants.TaskSchedulerConstants;
+import com.project.news_app.data.News;
+import com.project.news_app.data.NewsStore;
+import com.project.news_app.utils.EndpointPolicy;
+import com.project.news_app.utils.FetchResult;
+import com.project.news_app.utils.JsonUtils;
+import com.project.news_app.utils.NetworkUtils;
+import com.project.news_app.utils.NewsPager;
+import com.project.news_app.utils.TaskScheduler;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Downloads the news category shown by {@link CategoryActivity} page by page and keeps the
+ * downloaded pages across configuration changes.
+ */
+public class CategoryViewModel extends AndroidViewModel implements CategoryActivityConstants {
+    /**
+     * News items stored the last time this category was downloaded. Null once the fresh feed is
+     * available.
+     */
+    private final MutableLiveData<ArrayList<News>> storedNews = new MutableLiveData<>();
+
+    /**
+     * News items of every page kept in memory. Empty if the category is not available.
+     */
+    private final MutableLiveData<ArrayList<News>> news = new MutableLiveData<>();
+
+    /**
+     * Downloads the following pages as the user scrolls.
+     */
+    private final NewsPager pager = new NewsPager(this::downloadPage, news::setValue);
+
+    /**
+     * Posts downloaded news items to the main thread.
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Path that locates the news category in "The Guardian" API.
+     */
+    private String path;
+
+    /**
+     * Downloads the first page. Null until the first load.
+     */
+    private TaskScheduler.Task<ArrayList<News>> loadTask;
+
+    public CategoryViewModel(@NonNull Application application) {
+        super(application);
+    }
+
+    /**
+     * @return News items stored the last time this category was downloaded.
+     */
+    public LiveData<ArrayList<News>> getStoredNews() {
+        return storedNews;
+    }
+
+    /**
+     * @return News items of every page kept in memory.
+     */
+    public LiveData<ArrayList<News>> getNews() {
+        return news;
+    }
+
+    /**
+     * @return Provides the pages shown by the RecyclerView.
+     */
+    public NewsPager getPager() {
+        return pager;
+    }
+
+    /**
+     * Downloads the news category unless it was already downloaded (or is being downloaded),
+     * e.g. before a configuration change.
+     *
+     * @param path Path that locates the news category in "The Guardian" API.
+     */
+    public void loadIfNeeded(String path) {
+        if (loadTask == null) {
+            this.path = path;
+            load(false);
+        }
+    }
+
+    /**
+     * Downloads the first page of the news category, dropping the download in flight.
+     *
+     * @param refresh True if cached responses must be revalidated with the server.
+     */
+    public void load(boolean refresh) {
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+
+        // Runs on the network lane, the stored feed is read and written by disk lane tasks.
+        loadTask = TaskScheduler.submit(TaskSchedulerConstants.LANE_NETWORK,
+                TaskSchedulerConstants.PRIORITY_VISIBLE, task -> {
+                    ArrayList<News> newsFeed = loadFirstPage(task, refresh);
+                    handler.post(() -> {
+                        if (!task.isCancelled()) {
+                            // Paging starts over from the delivered feed.
+                            pager.setFirstPage(newsFeed);
+                            storedNews.setValue(null);
+                            news.setValue(newsFeed);
+                        }
+                    });
+                    return newsFeed;
+                });
+    }
+
+    @Override
+    protected void onCleared() {
+        // Screen is gone for good, dropping the downloads in flight.
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+        pager.setFirstPage(null);
+    }
+
+    /**
+     * Downloads the first page of the news category. The stored feed is posted while the fresh
+     * one is being downloaded.
+     *
+     * @param task    Task running this load, checked for cancellation.
+     * @param refresh True if cached responses must be revalidated with the server.
+     * @return News items of the first page. The stored feed if the download failed.
+     */
+    private ArrayList<News> loadFirstPage(TaskScheduler.Task<?> task, boolean refresh) {
+        /*
+         * Reads news info. shown the last time this category was downloaded on the disk lane,
+         * and shows it while the fresh feed is being downloaded.
+         */
+        NewsStore store = NewsStore.getInstance(getApplication());
+        String feed = NewsStoreConstants.FEED_CATEGORY + path;
+        TaskScheduler.Task<ArrayList<News>> storedTask = TaskScheduler.submit(
+                TaskSchedulerConstants.LANE_DISK, TaskSchedulerConstants.PRIORITY_VISIBLE,
+                readTask -> {
+                    ArrayList<News> storedFeed = store.loadNews(feed);
+                    if (!refresh && storedFeed.size() > 0) {
+                        handler.post(() -> {
+                            if (!task.isCancelled()) {
+                                storedNews.setValue(storedFeed);
+                            }
+                        });
+                    }
+                    return storedFeed;
+                });
+
+        /*
+         * Downloads the first page of news feed from "The Guardian" API's Section Endpoint.
+         * JSON response is parsed to a list of type News while it is being downloaded. The
+         * following pages are downloaded by NewsPager as the user scrolls.
+         */
+        URL url = NetworkUtils.makeNewsUrl(getApplication(), path,
+                NetworkUtilsConstants.QP_VALUE_FIELDS, NetworkUtilsConstants.SIZE_PAGE);
+
+        // Refreshing again closes the socket of the request.
+        task.setOnCancelListener(() -> NetworkUtils.cancelRequests(url));
+
+        FetchResult<ArrayList<News>> result = NetworkUtils.fetchNewsData(url,
+                EndpointPolicy.SECTION, refresh, JsonUtils.NEWS_LIST_PARSER);
+
+        // Stored feed is posted before the fresh one.
+        ArrayList<News> storedFeed = storedTask.getOrDefault(new ArrayList<>());
+
+        // Download failed, falling back to the stored feed.
+        if (!result.isSuccessful() || result.getData().isEmpty()) {
+            return storedFeed;
+        }
+        ArrayList<News> newsFeed = result.getData();
+
+        // Sets "viewType" off all elements in "newsFeed" ArrayList.
+        setViewType(newsFeed);
+
+        /*
+         * Keeps the layout of the stored feed, so reconciling it with the fresh feed only
+         * changes the contents of its items.
+         */
+        keepViewTypes(newsFeed, storedFeed);
+
+        // Write-through, the fresh feed is shown from disk next time.
+        TaskScheduler.execute(TaskSchedulerConstants.LANE_DISK,
+                TaskSchedulerConstants.PRIORITY_BACKGROUND, () -> store.saveNews(feed, newsFeed));
+
+        return newsFeed;
+    }
+
+    /**
+     * Downloads a single page of the news category. Called on a background thread by
+     * {@link NewsPager}.
+     *
+     * @param page Number of the page, starting from 1.
+     * @return News items of "page" with their view types set. Null if the download failed.
+     */
+    private ArrayList<News> downloadPage(int page) {
+        FetchResult<ArrayList<News>> result = NetworkUtils.fetchNewsData(
+                NetworkUtils.makeNewsUrl(getApplication(), path,
+                        NetworkUtilsConstants.QP_VALUE_FIELDS, NetworkUtilsConstants.SIZE_PAGE,
+                        page),
+                EndpointPolicy.SECTION, false, JsonUtils.NEWS_LIST_PARSER);
+        if (!result.isSuccessful()) {
+            return null;
+        }
+        ArrayList<News> newsFeed = result.getData();
+
+        // Sets "viewType" off all elements in "newsFeed" ArrayList.
+        setViewType(newsFeed);
+
+        return newsFeed;
+    }
+
+    /**
+     * Gives the news items of "newsFeed" already listed by "shownFeed" their view types there,
+     * matched by article URL. Articles published since keep the view type of their position, so
+     * inserting one doesn't shift every following item onto another layout.
+     *
+     * @param newsFeed  News items with their view types set.
+     * @param shownFeed News items shown before, e.g. the stored feed.
+     */
+    static void keepViewTypes(ArrayList<News> newsFeed, List<News> shownFeed) {
+        // Maps the article URL of every shown item to its view type.
+        Map<String, Integer> viewTypes = new HashMap<>();
+        for (News item : shownFeed) {
+            viewTypes.put(item.getArticleURL(), item.getViewType());
+        }
+
+        for (News item : newsFeed) {
+            Integer viewType = viewTypes.get(item.getArticleURL());
+            if (viewType != null) {
+                item.setViewType(viewType);
+            }
+        }
+    }
+
+    /**
+     * Chooses a random pattern for listing news items.
+     * <br/>
+     * Available Patterns - 6.
+     *
+     * @return Integer array containing view types.
+     */
+    private static int[] getNewsPattern() {
+        // Picks a random number between 1 to 6.
+        int type = (int) (Math.random() * 6 + 1);
+
+        // Returns a random pattern.
+        switch (type) {
+            case 2:
+                return PATTERN_TWO;
+            case 3:
+                return PATTERN_THREE;
+            case 4:
+                return PATTERN_FOUR;
+            case 5:
+                return PATTERN_FIVE;
+            case 6:
+                return PATTERN_SIX;
+            case 1:
+            default:
+                return PATTERN_ONE;
+        }
+    }
+
+    /**
+     * Sets view type for all {@link News} items stored in the list.
+     * <br/>
+     * View type is used by {@link NewsAdapter} to set custom item layout at every position.
+     */
+    static void setViewType(ArrayList<News> newsList) {
+        // Stores different view types that will be applied to the download news list.
+        int[] viewTypeArray = getNewsPattern();
+
+        // Used as "index" to access contents of "viewTypeArray".
+        int index = 0;
+
+        // Lopping through the downloaded news items in order to set view types.
+        for (int i = 0; i < newsList.size(); i++) {
+            News item = newsList.get(i);
+
+            // Changes pattern after every 10th news item.
+            if (i % 10 == 0) {
+                index = 0;
+                viewTypeArray = getNewsPattern();
+            }
+
+            // Set view type to news item.
+            item.setViewType(viewTypeArray[index]);
+            index++;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.project.news_app.viewmodels;
+
+import android.app.Application;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.project.news_app.activities.EpisodeActivity;
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.constants.TaskSchedulerConstants;
+import com.project.news_app.data.Episode;
+import com.project.news_app.data.NewsStore;
+import com.project.news_app.data.Podcast;
+import com.project.news_app.utils.EndpointPolicy;
+import com.project.news_app.utils.JsonUtils;
+import com.project.news_app.utils.NetworkUtils;
+import com.project.news_app.utils.TaskScheduler;
+
+import java.net.URL;
+import java.util.ArrayList;
+
+/**
+ * Downloads the episodes shown by {@link EpisodeActivity} and keeps them across configuration
+ * changes.
+ */
+public class EpisodeViewModel extends AndroidViewModel {
+    /**
+     * Episodes stored the last time the Podcast was downloaded. Null once the fresh episodes are
+     * available.
+     */
+    private final MutableLiveData<ArrayList<Episode>> storedEpisodes = new MutableLiveData<>();
+
+    /**
+     * Downloaded episodes, led by the info. of the Podcast. Empty if the Podcast is not
+     * available.
+     */
+    private final MutableLiveData<ArrayList<Episode>> episodes = new MutableLiveData<>();
+
+    /**
+     * Posts downloaded episodes to the main thread.
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Podcast whose episodes are downloaded.
+     */
+    private Podcast podcast;
+
+    /**
+     * Downloads the episodes. Null until the first load.
+     */
+    private TaskScheduler.Task<ArrayList<Episode>> loadTask;
+
+    public EpisodeViewModel(@NonNull Application application) {
+        super(application);
+    }
+
+    /**
+     * @return Episodes stored the last time the Podcast was downloaded.
+     */
+    public LiveData<ArrayList<Episode>> getStoredEpisodes() {
+        return storedEpisodes;
+    }
+
+    /**
+     * @return Downloaded episodes, led by the info. of the Podcast.
+     */
+    public LiveData<ArrayList<Episode>> getEpisodes() {
+        return episodes;
+    }
+
+    /**
+     * Downloads the episodes of "podcast" unless they were already downloaded (or are being
+     * downloaded), e.g. before a configuration change.
+     *
+     * @param podcast Basic title, path and thumbnail of the clicked Podcast.
+     */
+    public void loadIfNeeded(Podcast podcast) {
+        if (loadTask == null) {
+            this.podcast = podcast;
+            load(false);
+        }
+    }
+
+    /**
+     * Downloads the episodes, dropping the download in flight.
+     *
+     * @param refresh True if cached responses must be revalidated with the server.
+     */
+    public void load(boolean refresh) {
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+
+        // Runs on the network lane, stored episodes are read and written by disk lane tasks.
+        loadTask = TaskScheduler.submit(TaskSchedulerConstants.LANE_NETWORK,
+                TaskSchedulerConstants.PRIORITY_VISIBLE, task -> {
+                    ArrayList<Episode> podcastEpisodes = loadEpisodes(task, refresh);
+                    handler.post(() -> {
+                        if (!task.isCancelled()) {
+                            storedEpisodes.setValue(null);
+                            episodes.setValue(podcastEpisodes);
+                        }
+                    });
+                    return podcastEpisodes;
+                });
+    }
+
+    @Override
+    protected void onCleared() {
+        // Screen is gone for good, dropping the download in flight.
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+    }
+
+    /**
+     * Downloads the episodes of the Podcast. The stored episodes are posted while the fresh ones
+     * are being downloaded.
+     *
+     * @param task    Task running this load, checked for cancellation.
+     * @param refresh True if cached responses must be revalidated with the server.
+     * @return Downloaded episodes. The stored episodes if the download failed.
+     */
+    private ArrayList<Episode> loadEpisodes(TaskScheduler.Task<?> task, boolean refresh) {
+        // Path of the clicked Podcast in "The Guardian" API.
+        String path = getApplication().getString(podcast.getPath());
+
+        /*
+         * Reads episodes shown the last time this Podcast was downloaded on the disk lane, and
+         * shows them while the fresh ones are being downloaded.
+         */
+        NewsStore store = NewsStore.getInstance(getApplication());
+        TaskScheduler.Task<ArrayList<Episode>> storedTask = TaskScheduler.submit(
+                TaskSchedulerConstants.LANE_DISK, TaskSchedulerConstants.PRIORITY_VISIBLE,
+                readTask -> {
+                    ArrayList<Episode> stored = store.loadEpisodes(path, podcast);
+                    if (!refresh && stored.size() > 0) {
+                        handler.post(() -> {
+                            if (!task.isCancelled()) {
+                                storedEpisodes.setValue(stored);
+                            }
+                        });
+                    }
+                    return stored;
+                });
+
+        URL url = NetworkUtils.makeNewsUrl(getApplication(), path,
+                NetworkUtilsConstants.QP_VALUE_PODCAST, NetworkUtilsConstants.SIZE_PODCAST);
+
+        // Refreshing again closes the socket of the request.
+        task.setOnCancelListener(() -> NetworkUtils.cancelRequests(url));
+
+        // Downloads JSON response.
+        String jsonResponse = NetworkUtils.downloadNewsData(url, EndpointPolicy.PODCAST,
+                refresh);
+
+        /*
+         * Parses the downloaded response to a list of type "Episode".
+         *
+         * It also adds info. of the clicked Podcast in order to setup the
+         * "PodcastAboutViewHolder" ViewHolder in "PodcastAdapter".
+         */
+        ArrayList<Episode> freshEpisodes = JsonUtils.parsePodcastList(jsonResponse, podcast);
+
+        // Stored episodes are posted before the fresh ones.
+        ArrayList<Episode> stored = storedTask.getOrDefault(new ArrayList<>());
+
+        // Download failed, falling back to the stored episodes.
+        if (freshEpisodes.size() < 2) {
+            return stored.size() > 0 ? stored : freshEpisodes;
+        }
+
+        // Write-through, the fresh episodes are shown from disk next time.
+        TaskScheduler.execute(TaskSchedulerConstants.LANE_DISK,
+                TaskSchedulerConstants.PRIORITY_BACKGROUND,
+                () -> store.saveEpisodes(path, freshEpisodes));
+
+        return freshEpisodes;
+    }
+}
\ No newline at end of file
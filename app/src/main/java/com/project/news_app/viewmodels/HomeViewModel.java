@@ -0,0 +1,510 @@
+package com.project.news_app.viewmodels;
+
+import android.app.Application;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.project.news_app.R;
+import com.project.news_app.constants.FeedSnapshotConstants;
+import com.project.news_app.constants.HeadlineFragmentConstants;
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.constants.NewsAdapterConstants;
+import com.project.news_app.constants.NewsStoreConstants;
+import com.project.news_app.constants.TaskSchedulerConstants;
+import com.project.news_app.data.News;
+import com.project.news_app.data.NewsFeed;
+import com.project.news_app.data.NewsStore;
+import com.project.news_app.fragments.HomeFragment;
+import com.project.news_app.utils.EndpointPolicy;
+import com.project.news_app.utils.FeedSnapshot;
+import com.project.news_app.utils.NetworkUtils;
+import com.project.news_app.utils.ParallelDownloader;
+import com.project.news_app.utils.TaskScheduler;
+
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Downloads the news feeds shown by {@link HomeFragment} and keeps them across configuration
+ * changes.
+ */
+public class HomeViewModel extends AndroidViewModel implements HeadlineFragmentConstants {
+    /**
+     * Sections in the order of "pathArray", each one set as soon as it is downloaded. Null once
+     * all news feeds are available.
+     */
+    private final MutableLiveData<NewsFeed[]> sections = new MutableLiveData<>();
+
+    /**
+     * All news feeds in the order they are shown. Empty if no section has any news. Holds the
+     * last home feed read from its snapshot until the first load finishes.
+     */
+    private final MutableLiveData<ArrayList<NewsFeed>> newsFeeds = new MutableLiveData<>();
+
+    /**
+     * Posts downloaded sections to the main thread.
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Downloads the news feeds. Null until the first load.
+     */
+    private TaskScheduler.Task<ArrayList<NewsFeed>> loadTask;
+
+    public HomeViewModel(@NonNull Application application) {
+        super(application);
+    }
+
+    /**
+     * @return Sections downloaded so far, in the order of "pathArray".
+     */
+    public LiveData<NewsFeed[]> getSections() {
+        return sections;
+    }
+
+    /**
+     * @return All news feeds in the order they are shown.
+     */
+    public LiveData<ArrayList<NewsFeed>> getNewsFeeds() {
+        return newsFeeds;
+    }
+
+    /**
+     * Downloads the news feeds unless they were already downloaded (or are being downloaded),
+     * e.g. before a configuration change. The last home feed is shown from its snapshot in the
+     * meantime.
+     *
+     * @return True if the download was started by this call.
+     */
+    public boolean loadIfNeeded() {
+        if (loadTask != null) {
+            return false;
+        }
+        load(false, true);
+        return true;
+    }
+
+    /**
+     * Downloads the news feeds, dropping the download in flight.
+     *
+     * @param refresh True if cached responses must be revalidated with the server.
+     */
+    public void load(boolean refresh) {
+        load(refresh, false);
+    }
+
+    /**
+     * Downloads the news feeds, dropping the download in flight.
+     *
+     * @param refresh      True if cached responses must be revalidated with the server.
+     * @param showSnapshot True if the last home feed is posted from its snapshot first.
+     */
+    private void load(boolean refresh, boolean showSnapshot) {
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+
+        // Sections downloaded by this load, only touched on the main thread.
+        NewsFeed[] loadedSections = new NewsFeed[pathArray.length];
+
+        /*
+         * Runs on the network lane, as it waits on the sections downloading there. Stored
+         * sections and the snapshot are read and written by tasks of the disk lane.
+         */
+        loadTask = TaskScheduler.submit(TaskSchedulerConstants.LANE_NETWORK,
+                TaskSchedulerConstants.PRIORITY_VISIBLE, task -> {
+                    if (showSnapshot) {
+                        TaskScheduler.execute(TaskSchedulerConstants.LANE_DISK,
+                                TaskSchedulerConstants.PRIORITY_VISIBLE,
+                                () -> postSnapshot(task, loadedSections));
+                    }
+                    ArrayList<NewsFeed> feeds = loadNewsFeeds(task, refresh, loadedSections);
+                    handler.post(() -> {
+                        if (!task.isCancelled()) {
+                            sections.setValue(null);
+                            newsFeeds.setValue(feeds);
+                        }
+                    });
+                    return feeds;
+                });
+    }
+
+    @Override
+    protected void onCleared() {
+        // Screen is gone for good, dropping the download in flight.
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+    }
+
+    /**
+     * Reads the last home feed from its snapshot and posts it, unless it is missing or broken.
+     * Dropped if a section was downloaded first, downloaded sections replace the snapshot as
+     * they arrive.
+     *
+     * @param task           Task running the load, checked for cancellation.
+     * @param loadedSections Sections posted so far.
+     */
+    private void postSnapshot(TaskScheduler.Task<?> task, NewsFeed[] loadedSections) {
+        ArrayList<NewsFeed> snapshot = FeedSnapshot.read(getSnapshotFile());
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        handler.post(() -> {
+            if (task.isCancelled() || newsFeeds.getValue() != null) {
+                return;
+            }
+            for (NewsFeed section : loadedSections) {
+                if (section != null) {
+                    return;
+                }
+            }
+            newsFeeds.setValue(snapshot);
+        });
+    }
+
+    /**
+     * Downloads all sections at once and posts each one as soon as it is parsed.
+     *
+     * @param task           Task running this load, checked for cancellation.
+     * @param refresh        True if cached responses must be revalidated with the server.
+     * @param loadedSections Sections posted so far.
+     * @return All news feeds in the order they are shown. Empty if no section has any news.
+     */
+    private ArrayList<NewsFeed> loadNewsFeeds(TaskScheduler.Task<?> task, boolean refresh,
+                                              NewsFeed[] loadedSections) {
+        Application context = getApplication();
+
+        /*
+         * Reads sections shown the last time the feed was downloaded, while the fresh ones are
+         * being downloaded.
+         */
+        NewsStore store = NewsStore.getInstance(context);
+        TaskScheduler.Task<ArrayList<ArrayList<News>>> storedTask = TaskScheduler.submit(
+                TaskSchedulerConstants.LANE_DISK, TaskSchedulerConstants.PRIORITY_VISIBLE,
+                readTask -> {
+                    ArrayList<ArrayList<News>> storedNews = new ArrayList<>(pathArray.length);
+                    for (String path : pathArray) {
+                        storedNews.add(store.loadNews(NewsStoreConstants.FEED_HOME + path));
+                    }
+                    return storedNews;
+                });
+
+        // Forms a URL per section path.
+        URL[] urls = new URL[pathArray.length];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = NetworkUtils.makeNewsUrl(context, pathArray[i],
+                    NetworkUtilsConstants.QP_VALUE_HEADLINE_FIELDS,
+                    NetworkUtilsConstants.SIZE_HEADLINES);
+        }
+
+        /*
+         * Array stores parsed sections - World, US, UK, Australia and Editorial. All sections
+         * are downloaded at the same time and each one is shown as soon as it is parsed.
+         */
+        NewsFeed[] sectionFeeds = new NewsFeed[pathArray.length];
+
+        ParallelDownloader.downloadAll(urls, NetworkUtilsConstants.DEADLINE_SECTION,
+                EndpointPolicy.HEADLINE, refresh,
+                (index, news) -> {
+                    // Section failed, falling back to the stored section.
+                    boolean downloaded = news.size() > 0;
+                    if (!downloaded) {
+                        news = getStoredSection(storedTask, index);
+                    }
+
+                    NewsFeed feed = createSectionFeed(index, news);
+                    sectionFeeds[index] = feed;
+                    handler.post(() -> {
+                        if (!task.isCancelled()) {
+                            loadedSections[index] = feed;
+                            sections.setValue(loadedSections.clone());
+                        }
+                    });
+
+                    // Write-through, the fresh section is shown from disk next time.
+                    if (downloaded) {
+                        ArrayList<News> freshNews = news;
+                        TaskScheduler.execute(TaskSchedulerConstants.LANE_DISK,
+                                TaskSchedulerConstants.PRIORITY_BACKGROUND, () ->
+                                        store.saveNews(NewsStoreConstants.FEED_HOME
+                                                + pathArray[index], freshNews));
+                    }
+                });
+
+        for (int i = 0; i < sectionFeeds.length; i++) {
+            // Section is missing if the load was cancelled midway.
+            if (sectionFeeds[i] == null) {
+                sectionFeeds[i] = createSectionFeed(i, getStoredSection(storedTask, i));
+            }
+        }
+
+        ArrayList<NewsFeed> feeds = assembleNewsFeeds(sectionFeeds);
+
+        // Home screen is shown from this snapshot on the next cold start.
+        if (feeds.size() > 0 && !task.isCancelled()) {
+            TaskScheduler.execute(TaskSchedulerConstants.LANE_DISK,
+                    TaskSchedulerConstants.PRIORITY_BACKGROUND,
+                    () -> FeedSnapshot.write(getSnapshotFile(), feeds));
+        }
+        return feeds;
+    }
+
+    /**
+     * Waits for the stored sections read by "storedTask".
+     *
+     * @param index Index of the section in "pathArray".
+     * @return Stored news items of the section at "index". Empty if they could not be read.
+     */
+    private static ArrayList<News> getStoredSection(
+            TaskScheduler.Task<ArrayList<ArrayList<News>>> storedTask, int index) {
+        ArrayList<ArrayList<News>> storedNews = storedTask.getOrDefault(null);
+        return storedNews != null ? storedNews.get(index) : new ArrayList<>();
+    }
+
+    /**
+     * @return File storing the snapshot of the last home feed.
+     */
+    private File getSnapshotFile() {
+        return new File(getApplication().getFilesDir(), FeedSnapshotConstants.FILE_HOME_SNAPSHOT);
+    }
+
+    /**
+     * Creates all {@link NewsFeed} shown by the RecyclerView. Sections from "The Guardian" api
+     * are set to {@link HeadlineFragmentConstants#FEED_STATE_LOADING}.
+     */
+    public ArrayList<NewsFeed> createNewsFeeds() {
+        // Stores all section info. that is shown by the RecyclerView.
+        ArrayList<NewsFeed> newsFeeds = new ArrayList<>();
+
+        /*
+         * Setting up Section 1 -> ViewPager2 showing top news in Fragments. Every section has
+         * its own slot which stays empty until the section is downloaded.
+         */
+        NewsFeed feedOne = new NewsFeed();
+        feedOne.setType(FEED_TYPE_TOP);
+        feedOne.setNews(new ArrayList<>(Collections.<News>nCopies(pathArray.length, null)));
+        newsFeeds.add(feedOne);
+
+        // Setting up sections showing news from "The Guardian" api.
+        for (int i = 0; i < pathArray.length; i++) {
+            NewsFeed feed = createSectionFeed(i);
+            feed.setState(FEED_STATE_LOADING);
+            newsFeeds.add(feed);
+        }
+
+        /*
+         * Setting up Section 4 -> Points to "Guardian Puzzles & Crosswords" app in Play
+         * Store.
+         */
+        NewsFeed feedThree = new NewsFeed();
+        feedThree.setType(FEED_TYPE_DISCOVER);
+        newsFeeds.add(3, feedThree);
+
+        /*
+         * Setting up Section 5 -> Points to "Guardian Weekly's Global Community" section
+         * in "The Guardian" website.
+         */
+        NewsFeed feedFour = new NewsFeed();
+        feedFour.setType(FEED_TYPE_READERS);
+        newsFeeds.add(4, feedFour);
+
+        /*
+         * Setting up Section 9 (Last Section) -> Shows all social platforms where users
+         * can access "The Guardian".
+         */
+        NewsFeed feedNine = new NewsFeed();
+        feedNine.setType(FEED_TYPE_SOCIAL);
+        newsFeeds.add(feedNine);
+
+        return newsFeeds;
+    }
+
+    /**
+     * Creates an empty {@link NewsFeed} for the section at "index" in "pathArray".
+     */
+    private NewsFeed createSectionFeed(int index) {
+        // Initializing a feed.
+        NewsFeed feed = new NewsFeed();
+
+        // Get current path.
+        String path = pathArray[index];
+
+        /*
+         * Sets NewsFeed type for each downloaded feed.
+         *
+         * The last feed from in "pathArray" i.e. "Editorial" is set to have a dark
+         * background. The rest of the news feed follow the same type.
+         */
+        if (index == pathArray.length - 1) {
+            feed.setType(FEED_TYPE_DARK);
+        } else {
+            feed.setType(FEED_TYPE_BLACK);
+        }
+
+        // Sets path of NewsFeed.
+        feed.setPath(path);
+
+        /*
+         * Sets title and label of NewsFeed. Title is passed as CategoryActivity's
+         * title.
+         */
+        setNewsFeedTitleAndLabel(feed, path);
+
+        return feed;
+    }
+
+    /**
+     * Creates the {@link NewsFeed} for the section at "index" in "pathArray" from its downloaded
+     * news items.
+     *
+     * @param index Index of the section in "pathArray".
+     * @param news  Downloaded news items. Empty if the section failed to download.
+     */
+    private NewsFeed createSectionFeed(int index, ArrayList<News> news) {
+        NewsFeed feed = createSectionFeed(index);
+
+        // Sets view type of news items in "news" based on NewsFeed view type.
+        setNewsViewType(news, feed.getType());
+
+        // Sets downloaded news items to NewsFeed.
+        feed.setNews(news);
+
+        // Section with no news is shown as failed.
+        feed.setState(news.size() > 0 ? FEED_STATE_LOADED : FEED_STATE_FAILED);
+
+        return feed;
+    }
+
+    /**
+     * Sets {@link NewsFeed} title and label based on path.
+     *
+     * @param feed Downloaded news feed.
+     * @param path Points to the section in "The Guardian" api.
+     */
+    private void setNewsFeedTitleAndLabel(NewsFeed feed, String path) {
+        Application context = getApplication();
+
+        switch (path) {
+            case NetworkUtilsConstants.PATH_WORLD:
+                feed.setTitle(context.getString(R.string.title_world_news));
+                feed.setLabel(context.getString(R.string.top_story_world));
+                break;
+
+            case NetworkUtilsConstants.PATH_US:
+                feed.setTitle(context.getString(R.string.title_us_news));
+                feed.setLabel(context.getString(R.string.top_story_us));
+                break;
+
+            case NetworkUtilsConstants.PATH_UK:
+                feed.setTitle(context.getString(R.string.title_uk_news));
+                feed.setLabel(context.getString(R.string.top_story_uk));
+                break;
+
+            case NetworkUtilsConstants.PATH_AUS:
+                feed.setTitle(context.getString(R.string.title_aus_news));
+                feed.setLabel(context.getString(R.string.top_story_aus));
+                break;
+
+            case NetworkUtilsConstants.PATH_GUARDIAN:
+                feed.setTitle(context.getString(R.string.title_editorial_news));
+                feed.setLabel(context.getString(R.string.title_editorial_news));
+                break;
+        }
+    }
+
+    /**
+     * Sets view type to each {@link News} item in the feed based on {@link NewsFeed} type.
+     */
+    private void setNewsViewType(ArrayList<News> news, int newsFeedType) {
+        // Checks if news data is available before setting view type.
+        if (news.size() > 0) {
+
+            // View type for the first news item in feed.
+            int firstItemViewType;
+
+            // View type for the last news item in feed.
+            int lastItemViewType;
+
+            // View type for news items in between the first and last.
+            int betweenItemViewType;
+
+            // Setting view type based on "newsFeedType".
+            if (newsFeedType == FEED_TYPE_BLACK) {
+                // View type contains 24dp padding (START) and 8dp padding (END).
+                firstItemViewType = NewsAdapterConstants.TYPE_SEVEN;
+
+                // View type contains 16dp padding (HORIZONTAL).
+                betweenItemViewType = NewsAdapterConstants.TYPE_SIX;
+
+                // View type contains 8dp padding (START) and 16dp padding (END).
+                lastItemViewType = NewsAdapterConstants.TYPE_EIGHT;
+            } else {
+                // View type contains 24dp padding (START) and 8dp padding (END).
+                firstItemViewType = NewsAdapterConstants.TYPE_TEN;
+
+                // View type contains 16dp padding (HORIZONTAL).
+                betweenItemViewType = NewsAdapterConstants.TYPE_NINE;
+
+                // View type contains 8dp padding (START) and 16dp padding (END).
+                lastItemViewType = NewsAdapterConstants.TYPE_ELEVEN;
+            }
+
+            // Setting view type for news item in the first position.
+            News firstItem = news.get(0);
+            firstItem.setViewType(firstItemViewType);
+
+            // Setting view type for news item in the last position.
+            int lastItemPos = news.size() - 1;
+            News lastItem = news.get(lastItemPos);
+            lastItem.setViewType(lastItemViewType);
+
+            // Setting view type for news item in between.
+            for (int i = 1; i < lastItemPos; i++) {
+                News betweenItem = news.get(i);
+                betweenItem.setViewType(betweenItemViewType);
+            }
+        }
+    }
+
+    /**
+     * Assembles all {@link NewsFeed} shown by the RecyclerView around "sections".
+     *
+     * @param sections Sections in the order of "pathArray".
+     * @return News feeds in the order they are shown. Empty if no section has any news.
+     */
+    private ArrayList<NewsFeed> assembleNewsFeeds(NewsFeed[] sections) {
+        // Indicates at least one section has news.
+        boolean dataAvailable = false;
+
+        // Assembling all sections in order.
+        ArrayList<NewsFeed> newsFeeds = createNewsFeeds();
+        ArrayList<News> topNews = newsFeeds.get(POSITION_TOP).getNews();
+
+        for (int i = 0; i < sections.length; i++) {
+            NewsFeed feed = sections[i];
+
+            if (feed.getState() == FEED_STATE_LOADED) {
+                dataAvailable = true;
+
+                // Storing the first news to ViewPager2 showing top news.
+                topNews.set(i, feed.getNews().get(0));
+            }
+            newsFeeds.set(sectionPositions[i], feed);
+        }
+
+        // Checks if there is no news.
+        if (!dataAvailable) {
+            return new ArrayList<>();
+        }
+        return newsFeeds;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,295 @@
+package com.project.news_app.viewmodels;
+
+import android.app.Application;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.project.news_app.activities.SearchActivity;
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.constants.NewsAdapterConstants;
+import com.project.news_app.constants.TaskSchedulerConstants;
+import com.project.news_app.data.News;
+import com.project.news_app.data.NewsStore;
+import com.project.news_app.utils.EndpointPolicy;
+import com.project.news_app.utils.FetchResult;
+import com.project.news_app.utils.JsonUtils;
+import com.project.news_app.utils.NetworkUtils;
+import com.project.news_app.utils.NewsPager;
+import com.project.news_app.utils.SearchResultCache;
+import com.project.news_app.utils.TaskScheduler;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+
+/**
+ * Searches news items for {@link SearchActivity} and keeps the results across configuration
+ * changes.
+ * <p>
+ * Every search runs on two lanes at once. Articles downloaded before are searched on the disk
+ * lane and shown right away, while "The Guardian" API is searched on the network lane.
+ */
+public class SearchViewModel extends AndroidViewModel {
+    /**
+     * News items found on the device. Null once the results of "The Guardian" API are available.
+     */
+    private final MutableLiveData<ArrayList<News>> localResults = new MutableLiveData<>();
+
+    /**
+     * News items of every page kept in memory. Null while searching, empty if the search failed.
+     */
+    private final MutableLiveData<ArrayList<News>> results = new MutableLiveData<>();
+
+    /**
+     * Downloads the following pages of results as the user scrolls.
+     */
+    private final NewsPager pager = new NewsPager(this::downloadPage, results::setValue);
+
+    /**
+     * Posts search results to the main thread.
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Query being searched. Read by NewsPager on a background thread.
+     */
+    private volatile String query;
+
+    /**
+     * Searches articles downloaded before.
+     */
+    private TaskScheduler.Task<ArrayList<News>> localTask;
+
+    /**
+     * Searches "The Guardian" API.
+     */
+    private TaskScheduler.Task<ArrayList<News>> loadTask;
+
+    public SearchViewModel(@NonNull Application application) {
+        super(application);
+    }
+
+    /**
+     * @return News items found on the device.
+     */
+    public LiveData<ArrayList<News>> getLocalResults() {
+        return localResults;
+    }
+
+    /**
+     * @return News items of every page kept in memory.
+     */
+    public LiveData<ArrayList<News>> getResults() {
+        return results;
+    }
+
+    /**
+     * @return Provides the pages shown by the RecyclerView.
+     */
+    public NewsPager getPager() {
+        return pager;
+    }
+
+    /**
+     * @return Query being searched. Null before the first search.
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Searches news items matching "query", dropping the search in flight. Results of a recent
+     * query are set right away.
+     *
+     * @param query Trimmed query entered by the user.
+     * @return False if "query" is already being searched, e.g. before a configuration change.
+     */
+    public boolean search(String query) {
+        // Checks if entered query is same as the previous query.
+        if (query.equalsIgnoreCase(this.query)) {
+            return false;
+        }
+
+        // Updating the query.
+        this.query = query;
+
+        // Drops the search in flight, its results are no longer needed.
+        cancelSearch();
+        localResults.setValue(null);
+
+        // Checks if the query was searched recently.
+        ArrayList<News> cachedNews = SearchResultCache.get(query);
+        if (cachedNews != null) {
+            pager.setFirstPage(cachedNews);
+            results.setValue(cachedNews);
+            return true;
+        }
+
+        // Pages of the previous query are dropped.
+        pager.setFirstPage(null);
+        results.setValue(null);
+
+        // Searches every article downloaded before, answered without the network.
+        localTask = TaskScheduler.submit(TaskSchedulerConstants.LANE_DISK,
+                TaskSchedulerConstants.PRIORITY_VISIBLE, task -> {
+                    ArrayList<News> localNews = NewsStore.getInstance(getApplication())
+                            .searchNews(query);
+                    setViewType(localNews);
+
+                    // Shows local results while the search request is in flight.
+                    if (localNews.size() > 0) {
+                        handler.post(() -> {
+                            if (!task.isCancelled() && results.getValue() == null) {
+                                localResults.setValue(localNews);
+                            }
+                        });
+                    }
+                    return localNews;
+                });
+        TaskScheduler.Task<ArrayList<News>> local = localTask;
+
+        loadTask = TaskScheduler.submit(TaskSchedulerConstants.LANE_NETWORK,
+                TaskSchedulerConstants.PRIORITY_VISIBLE, task -> {
+                    ArrayList<News> searchedNews = loadResults(task, query);
+
+                    // Local search is long done by now, it only reads the device storage.
+                    ArrayList<News> localNews = local.getOrDefault(new ArrayList<>());
+
+                    handler.post(() -> {
+                        if (!task.isCancelled()) {
+                            // Paging starts over from the delivered results. Local results the
+                            // API missed follow its last page, never coming between two pages.
+                            pager.setFirstPage(searchedNews, localNews);
+                            localResults.setValue(null);
+                            results.setValue(pager.getNews());
+                        }
+                    });
+                    return searchedNews;
+                });
+        return true;
+    }
+
+    @Override
+    protected void onCleared() {
+        // Screen is gone for good, dropping the downloads in flight.
+        cancelSearch();
+        pager.setFirstPage(null);
+    }
+
+    /**
+     * Cancels both lanes of the search in flight.
+     */
+    private void cancelSearch() {
+        if (localTask != null) {
+            localTask.cancel();
+        }
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+    }
+
+    /**
+     * Searches "The Guardian" API.
+     *
+     * @param task          Task running this search, checked for cancellation.
+     * @param searchedQuery Query searched by this task.
+     * @return News items of the first page. Empty if the search failed.
+     */
+    private ArrayList<News> loadResults(TaskScheduler.Task<?> task, String searchedQuery) {
+        /*
+         * Downloads the first page of searched items from "The Guardian" API's Content Endpoint.
+         * JSON response is parsed to a list of type News while it is being downloaded. The
+         * following pages are downloaded by NewsPager as the user scrolls.
+         */
+        URL searchUrl = getSearchUrl(searchedQuery, 1);
+
+        // Query was superseded, closing the socket of its request.
+        task.setOnCancelListener(() -> NetworkUtils.cancelRequests(searchUrl));
+
+        ArrayList<News> searchedNews = NetworkUtils.downloadNewsData(searchUrl,
+                EndpointPolicy.SEARCH, false, JsonUtils.NEWS_LIST_PARSER, new ArrayList<>());
+        setViewType(searchedNews);
+
+        // Downloaded results can be found on the device from now on.
+        indexInBackground(searchedNews);
+
+        // Going back to this query shows these results right away.
+        if (searchedNews.size() > 0) {
+            SearchResultCache.put(searchedQuery, searchedNews);
+        }
+        return searchedNews;
+    }
+
+    /**
+     * Downloads a single page of search results for the current query. Called on a background
+     * thread by {@link NewsPager}.
+     *
+     * @param page Number of the page, starting from 1.
+     * @return News items of "page" with their view types set. Null if the download failed.
+     */
+    private ArrayList<News> downloadPage(int page) {
+        FetchResult<ArrayList<News>> result = NetworkUtils.fetchNewsData(
+                getSearchUrl(query, page), EndpointPolicy.SEARCH, false,
+                JsonUtils.NEWS_LIST_PARSER);
+        if (!result.isSuccessful()) {
+            return null;
+        }
+        ArrayList<News> searchedNews = result.getData();
+        setViewType(searchedNews);
+
+        // Downloaded results can be found on the device from now on.
+        indexInBackground(searchedNews);
+
+        return searchedNews;
+    }
+
+    /**
+     * Adds "news" to the full-text index on the disk lane, after anything the user waits for.
+     */
+    private void indexInBackground(ArrayList<News> news) {
+        if (news.size() > 0) {
+            TaskScheduler.execute(TaskSchedulerConstants.LANE_DISK,
+                    TaskSchedulerConstants.PRIORITY_BACKGROUND,
+                    () -> NewsStore.getInstance(getApplication()).indexNews(news));
+        }
+    }
+
+    /**
+     * Creates search news item URL that points to a page of "The Guardian" API's Content Endpoint.
+     *
+     * @param query Words entered by the user.
+     * @param page  Number of the page, starting from 1.
+     */
+    private URL getSearchUrl(String query, int page) {
+        URL url = NetworkUtils.makeNewsUrl(getApplication(), NetworkUtilsConstants.PATH_SEARCH,
+                NetworkUtilsConstants.QP_VALUE_FIELDS, NetworkUtilsConstants.SIZE_PAGE, page);
+
+        // Adding "query" to "url".
+        Uri uri = Uri.parse(url.toString());
+        uri = uri.buildUpon()
+                .appendQueryParameter(NetworkUtilsConstants.QP_KEY_SEARCH, query)
+                .build();
+
+        try {
+            // Updating search url.
+            return new URL(uri.toString());
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sets the view type of searched news items.
+     */
+    private void setViewType(ArrayList<News> newsList) {
+        for (News item : newsList) {
+            item.setViewType(NewsAdapterConstants.TYPE_TWELVE);
+        }
+    }
+}
\ No newline at end of file
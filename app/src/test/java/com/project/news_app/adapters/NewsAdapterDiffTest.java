@@ -0,0 +1,146 @@
+package com.project.news_app.adapters;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+import com.project.news_app.data.News;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that {@link NewsAdapter#DIFF_CALLBACK} turns a refresh into fine-grained updates.
+ */
+public class NewsAdapterDiffTest {
+
+    @Test
+    public void refreshWithOneNewItem_insertsOnlyThatItem() {
+        List<News> shown = createNews(0, 10);
+
+        // Refreshed response has a new item on top, the rest is downloaded again unchanged.
+        List<News> refreshed = new ArrayList<>();
+        refreshed.add(createNews(10));
+        refreshed.addAll(createNews(0, 10));
+
+        RecordingCallback updates = dispatch(shown, refreshed);
+
+        assertEquals("inserted 1 at 0", updates.toString());
+    }
+
+    @Test
+    public void refreshWithOneChangedHeadline_changesOnlyThatItem() {
+        List<News> shown = createNews(0, 10);
+
+        List<News> refreshed = createNews(0, 10);
+        refreshed.get(3).setHeadline("Updated headline");
+
+        RecordingCallback updates = dispatch(shown, refreshed);
+
+        assertEquals("changed 1 at 3", updates.toString());
+    }
+
+    @Test
+    public void refreshWithoutChanges_dispatchesNothing() {
+        RecordingCallback updates = dispatch(createNews(0, 10), createNews(0, 10));
+
+        assertEquals("", updates.toString());
+    }
+
+    /**
+     * Diffs "oldList" against "newList" the way AsyncListDiffer of {@link NewsAdapter} does and
+     * records the dispatched updates.
+     */
+    private static RecordingCallback dispatch(List<News> oldList, List<News> newList) {
+        DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldList.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newList.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldPosition, int newPosition) {
+                return NewsAdapter.DIFF_CALLBACK.areItemsTheSame(oldList.get(oldPosition),
+                        newList.get(newPosition));
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldPosition, int newPosition) {
+                return NewsAdapter.DIFF_CALLBACK.areContentsTheSame(oldList.get(oldPosition),
+                        newList.get(newPosition));
+            }
+        });
+
+        RecordingCallback callback = new RecordingCallback();
+        result.dispatchUpdatesTo(callback);
+        return callback;
+    }
+
+    /**
+     * @return New {@link News} items numbered from "from" (inclusive) to "to" (exclusive).
+     */
+    private static List<News> createNews(int from, int to) {
+        List<News> news = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            news.add(createNews(i));
+        }
+        return news;
+    }
+
+    /**
+     * @return A new {@link News} item, equal to every other item created with "number".
+     */
+    private static News createNews(int number) {
+        News news = new News();
+        news.setArticleURL("https://www.theguardian.com/world/story-" + number);
+        news.setHeadline("Headline " + number);
+        news.setSectionName("World news");
+        news.setByLine("Reporter " + number);
+        news.setPublication("The Guardian");
+        news.setThumbnailUrl("https://media.guim.co.uk/" + number + "/500.jpg");
+        news.setPublicationTime(1_640_000_000_000L + number);
+        return news;
+    }
+
+    /**
+     * Records updates dispatched to the Adapter.
+     */
+    private static class RecordingCallback implements ListUpdateCallback {
+        // Stores every dispatched update.
+        private final List<String> updates = new ArrayList<>();
+
+        @Override
+        public void onInserted(int position, int count) {
+            updates.add("inserted " + count + " at " + position);
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            updates.add("removed " + count + " at " + position);
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            updates.add("moved " + fromPosition + " to " + toPosition);
+        }
+
+        @Override
+        public void onChanged(int position, int count, @Nullable Object payload) {
+            updates.add("changed " + count + " at " + position);
+        }
+
+        @Override
+        public String toString() {
+            return String.join(", ", updates);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.news_app.adapters;
+
+import android.content.Context;
+import android.view.ContextThemeWrapper;
+import android.widget.FrameLayout;
+
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.project.news_app.R;
+import com.project.news_app.constants.NewsAdapterConstants;
+import com.project.news_app.constants.TextLayoutsConstants;
+import com.project.news_app.data.News;
+import com.project.news_app.utils.TextLayouts;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that {@link NewsAdapter} lays out the texts of its news items ahead of binding them,
+ * also when its ViewHolders come from a RecycledViewPool shared with other Adapters.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class NewsAdapterTextLayoutTest implements NewsAdapterConstants, TextLayoutsConstants {
+    /**
+     * Time (in milliseconds) the text layouts may take to be computed in the background.
+     */
+    private static final long TIMEOUT_LAYOUT = 5000;
+
+    private Context context;
+
+    @Before
+    public void setUp() {
+        context = new ContextThemeWrapper(RuntimeEnvironment.getApplication(),
+                R.style.AppTheme);
+        TextLayouts.clear();
+    }
+
+    @Test
+    public void bindPooledHolder_precomputesListOfBindingAdapter() throws Exception {
+        NewsAdapter creator = new NewsAdapter(context, createNews("First"));
+        NewsAdapter binder = new NewsAdapter(context, createNews("Second"));
+
+        // Holder created by one carousel, taken from the shared pool by another one.
+        RecyclerView.ViewHolder holder = creator.createViewHolder(new FrameLayout(context),
+                TYPE_FOUR);
+        binder.bindViewHolder(holder, 0);
+
+        // Second item of the binding Adapter is laid out before it is ever bound.
+        String headline = binder.getItem(1).getHeadline();
+        PrecomputedTextCompat.Params params = TextLayouts.getStyles()
+                .get(TextLayouts.getStyleKey(TYPE_FOUR, ROLE_HEADLINE));
+        assertNotNull(params);
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_LAYOUT;
+        while (TextLayouts.getLayout(headline, params) == null) {
+            assertTrue("Text layout was not computed", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * @return Two {@link News} items of {@link #TYPE_FOUR} with headlines starting with "name".
+     */
+    private static ArrayList<News> createNews(String name) {
+        ArrayList<News> newsList = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            News news = new News();
+            news.setArticleURL("https://www.theguardian.com/world/" + name + "-" + i);
+            news.setHeadline(name + " headline " + i);
+            news.setSectionName("World news");
+            news.setByLine("Reporter " + i);
+            news.setViewType(TYPE_FOUR);
+            newsList.add(news);
+        }
+        return newsList;
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.news_app.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of formatting a single publication date, i.e. the per-item cost paid while
+ * parsing a response.
+ * <ul>
+ *     <li>legacy - new SimpleDateFormat and Locale per item, as JsonUtils used to do.</li>
+ *     <li>formatDateMiss - cached formatter, date not seen before.</li>
+ *     <li>formatDateHit - date already formatted, e.g. when a feed is refreshed.</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateFormatBenchmark {
+    /**
+     * Number of distinct dates, more than the cache of JsonUtils holds so every
+     * "formatDateMiss" call formats the date.
+     */
+    private static final int SIZE = JsonUtils.SIZE_DATE_CACHE * 4;
+
+    // Stores publication dates in ISO-8601 format.
+    private final String[] dates = new String[SIZE];
+
+    // Index of the next date to format.
+    private int next;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = Instant.ofEpochSecond(1_640_000_000L + i * 60L).toString();
+        }
+    }
+
+    @Benchmark
+    public String legacy() {
+        return JsonUtilsTest.legacyFormatDate(nextDate(), JsonUtils.PATTERN_CATEGORY);
+    }
+
+    @Benchmark
+    public String formatDateMiss() {
+        return JsonUtils.formatDate(nextDate(), JsonUtils.PATTERN_CATEGORY);
+    }
+
+    @Benchmark
+    public String formatDateHit() {
+        return JsonUtils.formatDate(dates[0], JsonUtils.PATTERN_CATEGORY);
+    }
+
+    /**
+     * @return Dates in a round robin order.
+     */
+    private String nextDate() {
+        next = next + 1 == SIZE ? 0 : next + 1;
+        return dates[next];
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.data.News;
+import com.project.news_app.data.NewsFeed;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that {@link FeedSnapshot} restores the home feed it wrote and ignores broken snapshots.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class FeedSnapshotTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void read_returnsWrittenFeeds() throws Exception {
+        File file = new File(folder.getRoot(), "home.snapshot");
+
+        News first = newNews("World headline - caf\u00e9",
+                "https://www.theguardian.com/world/1", 7);
+        News second = newNews("Second headline", "https://www.theguardian.com/world/2", 6);
+        second.setByLine(null);
+
+        NewsFeed top = new NewsFeed();
+        top.setType(3);
+        top.setNews(new ArrayList<>(Arrays.asList(first, null)));
+
+        NewsFeed section = new NewsFeed();
+        section.setType(1);
+        section.setState(2);
+        section.setTitle("World News");
+        section.setLabel("Top Stories in World");
+        section.setPath("world");
+        section.setNews(new ArrayList<>(Arrays.asList(first, second)));
+
+        // Feeds advertising other apps carry no news.
+        NewsFeed social = new NewsFeed();
+        social.setType(4);
+
+        assertTrue(FeedSnapshot.write(file, Arrays.asList(top, section, social)));
+
+        ArrayList<NewsFeed> feeds = FeedSnapshot.read(file);
+        assertEquals(3, feeds.size());
+
+        assertEquals(3, feeds.get(0).getType());
+        assertEquals(2, feeds.get(0).getNews().size());
+        assertNull(feeds.get(0).getNews().get(1));
+        assertSameNews(first, feeds.get(0).getNews().get(0));
+
+        NewsFeed restored = feeds.get(1);
+        assertEquals(1, restored.getType());
+        assertEquals(2, restored.getState());
+        assertEquals("World News", restored.getTitle());
+        assertEquals("Top Stories in World", restored.getLabel());
+        assertEquals("world", restored.getPath());
+        assertSameNews(first, restored.getNews().get(0));
+        assertSameNews(second, restored.getNews().get(1));
+
+        assertNull(feeds.get(2).getNews());
+        assertNull(feeds.get(2).getPath());
+        assertTrue(FeedSnapshot.getDecodeTime() >= 0);
+    }
+
+    @Test
+    public void read_missingOrBrokenSnapshot_returnsEmpty() throws Exception {
+        File file = new File(folder.getRoot(), "home.snapshot");
+        assertTrue(FeedSnapshot.read(file).isEmpty());
+
+        NewsFeed section = new NewsFeed();
+        section.setPath("world");
+        section.setNews(new ArrayList<>(Arrays.asList(newNews("Headline", "url", 6))));
+        assertTrue(FeedSnapshot.write(file, Arrays.asList(section, section)));
+
+        // Cut off in the middle of the second feed.
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(randomAccessFile.length() - 10);
+        }
+        assertTrue(FeedSnapshot.read(file).isEmpty());
+
+        // Length that runs past the end of the file.
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.seek(8);
+            randomAccessFile.writeInt(Integer.MAX_VALUE);
+        }
+        assertTrue(FeedSnapshot.read(file).isEmpty());
+
+        // Not a snapshot.
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.seek(0);
+            randomAccessFile.writeInt(0);
+        }
+        assertTrue(FeedSnapshot.read(file).isEmpty());
+    }
+
+    private static News newNews(String headline, String url, int viewType) {
+        News news = new News();
+        news.setHeadline(headline);
+        news.setSectionName("World news");
+        news.setArticleURL(url);
+        news.setByLine("Staff and agencies");
+        news.setPublication("The Guardian");
+        news.setThumbnailUrl("https://media.guim.co.uk/1/500.jpg");
+        news.setPublicationTime(1640995200000L);
+        news.setViewType(viewType);
+        return news;
+    }
+
+    private static void assertSameNews(News expected, News actual) {
+        assertEquals(expected.getHeadline(), actual.getHeadline());
+        assertEquals(expected.getSectionName(), actual.getSectionName());
+        assertEquals(expected.getArticleURL(), actual.getArticleURL());
+        assertEquals(expected.getByLine(), actual.getByLine());
+        assertEquals(expected.getPublication(), actual.getPublication());
+        assertEquals(expected.getThumbnailUrl(), actual.getThumbnailUrl());
+        assertEquals(expected.getPublicationTime(), actual.getPublicationTime());
+        assertEquals(expected.getViewType(), actual.getViewType());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.project.news_app.utils;
+
+/**
+ * Synthesizes responses shaped like the ones returned by "The Guardian" API.
+ * <p>
+ * Every item carries the fields the API always sends (id, type, apiUrl etc.) next to the ones
+ * requested through "show-fields", so parsers have to skip values just like in production.
+ */
+public class GuardianJsonFixtures {
+
+    // Setting default Constructor to private.
+    private GuardianJsonFixtures() {
+    }
+
+    /**
+     * @param size Number of items in "results".
+     * @return Response of the "Section" / "Search" endpoints.
+     */
+    public static String newsResponse(int size) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"response\":{\"status\":\"ok\",\"userTier\":\"developer\",")
+                .append("\"total\":").append(size * 100).append(",\"startIndex\":1,")
+                .append("\"pageSize\":").append(size).append(",\"currentPage\":1,")
+                .append("\"pages\":100,\"orderBy\":\"newest\",\"section\":{\"id\":\"world\",")
+                .append("\"webTitle\":\"World news\",")
+                .append("\"webUrl\":\"https://www.theguardian.com/world\",")
+                .append("\"apiUrl\":\"https://content.guardianapis.com/world\"},")
+                .append("\"results\":[");
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendItem(json, i);
+        }
+
+        return json.append("]}}").toString();
+    }
+
+    /**
+     * Appends a single item of "results" to "json".
+     */
+    private static void appendItem(StringBuilder json, int i) {
+        String id = "world/2022/jan/" + (i % 28 + 1) + "/story-number-" + i;
+
+        json.append("{\"id\":\"").append(id).append("\",")
+                .append("\"type\":\"article\",\"sectionId\":\"world\",")
+                .append("\"sectionName\":\"World news\",")
+                .append("\"webPublicationDate\":\"2022-01-")
+                .append(String.format("%02d", i % 28 + 1)).append("T10:15:30Z\",")
+                .append("\"webTitle\":\"Headline of story ").append(i).append("\",")
+                .append("\"webUrl\":\"https://www.theguardian.com/").append(id).append("\",")
+                .append("\"apiUrl\":\"https://content.guardianapis.com/").append(id).append("\",")
+                .append("\"fields\":{")
+                .append("\"headline\":\"Headline of story ").append(i)
+                .append(" with \\\"quotes\\\" and \\u00e9scapes\",")
+                .append("\"byline\":\"Reporter ").append(i % 7).append(" in London\",")
+                .append("\"publication\":\"The Guardian\",")
+                .append("\"thumbnail\":\"https://media.guim.co.uk/").append(Integer.toHexString(i))
+                .append("/0_0_5000_3000/500.jpg\"},")
+                .append("\"isHosted\":false,\"pillarId\":\"pillar/news\",")
+                .append("\"pillarName\":\"News\"}");
+    }
+
+    /**
+     * @param size Number of episodes in "leadContent".
+     * @param html False to leave the HTML fields (description and standfirsts) EMPTY. Stripping
+     *             HTML needs the Android framework, which JMH benchmarks run without.
+     * @return Response of a podcast "Tag" endpoint e.g. "news/series/todayinfocus".
+     */
+    public static String podcastResponse(int size, boolean html) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"response\":{\"status\":\"ok\",\"userTier\":\"developer\",")
+                .append("\"total\":").append(size * 10).append(",\"startIndex\":1,")
+                .append("\"pageSize\":").append(size).append(",\"currentPage\":1,")
+                .append("\"pages\":10,\"orderBy\":\"newest\",")
+                .append("\"tag\":{\"id\":\"news/series/todayinfocus\",\"type\":\"series\",")
+                .append("\"webTitle\":\"Today in Focus\",")
+                .append("\"webUrl\":\"https://www.theguardian.com/news/series/todayinfocus\",")
+                .append("\"description\":\"")
+                .append(html ? "<p>Hosted by Nosheen Iqbal and Michael Safi, <strong>Today in "
+                        + "Focus</strong> tells the stories behind the headlines.</p>" : "")
+                .append("\",")
+                .append("\"podcast\":{\"linkUrl\":\"https://www.theguardian.com\",")
+                .append("\"copyright\":\"Guardian News and Media Limited\",")
+                .append("\"author\":\"The Guardian\",")
+                .append("\"subscriptionUrl\":\"https://podcasts.apple.com/podcast/id1440133626\",")
+                .append("\"explicit\":false,")
+                .append("\"googlePodcastsUrl\":\"https://www.google.com/podcasts?feed=aHR0cHM6\",")
+                .append("\"spotifyUrl\":\"https://open.spotify.com/show/2U7nvqTkv6nrZlEJ\"}},")
+                .append("\"leadContent\":[");
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendEpisode(json, i, html);
+        }
+
+        return json.append("],\"results\":[]}}").toString();
+    }
+
+    /**
+     * Appends a single episode of "leadContent" to "json".
+     */
+    private static void appendEpisode(StringBuilder json, int i, boolean html) {
+        String id = "news/audio/2022/jan/" + (i % 28 + 1) + "/episode-number-" + i;
+
+        json.append("{\"id\":\"").append(id).append("\",")
+                .append("\"type\":\"audio\",\"sectionId\":\"news\",")
+                .append("\"sectionName\":\"News\",")
+                .append("\"webPublicationDate\":\"2022-01-")
+                .append(String.format("%02d", i % 28 + 1)).append("T03:00:22Z\",")
+                .append("\"webTitle\":\"Episode ").append(i).append(" - podcast\",")
+                .append("\"webUrl\":\"https://www.theguardian.com/").append(id).append("\",")
+                .append("\"apiUrl\":\"https://content.guardianapis.com/").append(id).append("\",")
+                .append("\"fields\":{")
+                .append("\"headline\":\"Episode ").append(i).append(" - podcast\",")
+                .append("\"standfirst\":\"")
+                .append(html ? "<p>What happened in episode " + i + "? <a href=\\\""
+                        + "https://www.theguardian.com/" + id + "\\\">Read more</a></p>" : "")
+                .append("\",")
+                .append("\"byline\":\"Presented by Host ").append(i % 3)
+                .append(" and produced by Producer ").append(i % 5).append("\",")
+                .append("\"thumbnail\":\"https://media.guim.co.uk/").append(Integer.toHexString(i))
+                .append("/0_0_3000_1800/500.jpg\"},")
+                .append("\"isHosted\":false,\"pillarId\":\"pillar/news\",")
+                .append("\"pillarName\":\"News\"}");
+    }
+}
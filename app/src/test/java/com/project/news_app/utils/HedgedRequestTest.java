@@ -0,0 +1,221 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Okio;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks hedged requests made for {@link EndpointPolicy#HEADLINE} and measures their effect on
+ * the p99 latency of loading the home screen, against a local server that stalls some responses.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class HedgedRequestTest implements NetworkUtilsConstants {
+    /**
+     * Latency (in milliseconds) of a healthy response.
+     */
+    private static final long LATENCY_FAST = 20;
+
+    /**
+     * Latency (in milliseconds) of a stalled response.
+     */
+    private static final long LATENCY_STALLED = 500;
+
+    /**
+     * Every n-th request to the server is stalled.
+     */
+    private static final int STALL_EVERY = 25;
+
+    /**
+     * Number of home screen loads measured per run.
+     */
+    private static final int LOADS = 40;
+
+    /**
+     * Local server standing in for "The Guardian" API.
+     */
+    private MockWebServer server;
+
+    // Counts requests received by the server.
+    private final AtomicInteger received = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                long latency = received.incrementAndGet() % STALL_EVERY == 0
+                        ? LATENCY_STALLED : LATENCY_FAST;
+                return new MockResponse()
+                        .setBody("{}")
+                        .setHeadersDelay(latency, TimeUnit.MILLISECONDS);
+            }
+        });
+        server.start();
+        RetryBudget.reset();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void slowRequest_isHedgedAndFirstResponseWins() throws Exception {
+        EndpointPolicy policy = newPolicy(true);
+        learnLatency(policy, 50);
+        long hedges = NetworkStats.getHedges();
+
+        // Only the first request stalls.
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                boolean first = received.incrementAndGet() == 1;
+                return new MockResponse()
+                        .setBody(first ? "first" : "hedge")
+                        .setHeadersDelay(first ? 5 : 0, TimeUnit.SECONDS);
+            }
+        });
+
+        long start = System.nanoTime();
+        FetchResult<String> result = NetworkUtils.fetchNewsData(server.url("/world").url(),
+                policy, false, in -> new String(readAll(in)));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(result.isSuccessful());
+        assertEquals("hedge", result.getData());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(hedges + 1, NetworkStats.getHedges());
+        assertTrue("Answered after " + elapsed + " ms", elapsed < 1000);
+    }
+
+    @Test
+    public void fastRequest_isNotHedged() throws Exception {
+        EndpointPolicy policy = newPolicy(true);
+        learnLatency(policy, 1000);
+
+        FetchResult<String> result = NetworkUtils.fetchNewsData(server.url("/world").url(),
+                policy, false, in -> "parsed");
+
+        assertTrue(result.isSuccessful());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void droppedConnection_isRetriedNotCancelled() throws Exception {
+        EndpointPolicy policy = new EndpointPolicy(0, 2, DEADLINE_SECTION,
+                TIMEOUT_CONNECT_HEADLINE, TIMEOUT_READ_HEADLINE, true);
+        long cancellations = NetworkStats.getCancellations();
+
+        // Only the first connection is dropped.
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return received.incrementAndGet() == 1
+                        ? new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST)
+                        : new MockResponse().setBody("retried");
+            }
+        });
+
+        FetchResult<String> result = NetworkUtils.fetchNewsData(server.url("/world").url(),
+                policy, false, in -> new String(readAll(in)));
+
+        assertTrue(result.isSuccessful());
+        assertEquals("retried", result.getData());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(cancellations, NetworkStats.getCancellations());
+    }
+
+    @Test
+    public void homeLoad_hedgingCutsP99Latency() {
+        long before = measureHomeLoadP99(newPolicy(false));
+        long after = measureHomeLoadP99(newPolicy(true));
+
+        System.out.println("Home load p99 - without hedging " + before + " ms, with hedging "
+                + after + " ms");
+
+        assertTrue("Stalled responses never reached p99", before >= LATENCY_STALLED);
+        assertTrue("Hedging did not help - " + after + " ms", after < before / 2);
+    }
+
+    @Test
+    public void latencyTracker_reportsPercentilesOfRecentLatencies() {
+        LatencyTracker tracker = new LatencyTracker(100);
+        assertEquals(-1, tracker.getPercentile(0.95));
+
+        for (int i = 1; i <= 100; i++) {
+            tracker.record(i);
+        }
+        assertEquals(50, tracker.getPercentile(0.5));
+        assertEquals(95, tracker.getPercentile(0.95));
+        assertEquals(100, tracker.getPercentile(1));
+
+        // Oldest latencies are overwritten.
+        for (int i = 0; i < 100; i++) {
+            tracker.record(1000);
+        }
+        assertEquals(1000, tracker.getPercentile(0.5));
+    }
+
+    /**
+     * Loads the five headline sections of the home screen {@link #LOADS} times, after a warm up
+     * that lets "policy" learn the latency of the server.
+     *
+     * @return p99 latency (in milliseconds) of a whole home screen load.
+     */
+    private long measureHomeLoadP99(EndpointPolicy policy) {
+        URL[] urls = new URL[5];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = server.url("/section-" + i).url();
+        }
+
+        LatencyTracker loads = new LatencyTracker(LOADS);
+        for (int i = 0; i < LOADS + 10; i++) {
+            long start = System.nanoTime();
+            ParallelDownloader.downloadAll(urls, DEADLINE_SECTION, policy, false, null);
+
+            // First loads only warm up connections and latencies.
+            if (i >= 10) {
+                loads.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }
+        return loads.getPercentile(0.99);
+    }
+
+    /**
+     * Lets "policy" learn that requests take "millis".
+     */
+    private static void learnLatency(EndpointPolicy policy, long millis) {
+        for (int i = 0; i < MIN_LATENCY_SAMPLES; i++) {
+            policy.recordLatency(millis);
+        }
+    }
+
+    private static EndpointPolicy newPolicy(boolean hedged) {
+        return new EndpointPolicy(0, 1, DEADLINE_SECTION, TIMEOUT_CONNECT_HEADLINE,
+                TIMEOUT_READ_HEADLINE, hedged);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        return Okio.buffer(Okio.source(in)).readByteArray();
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.news_app.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the renditions picked by {@link ImageUtils#getThumbnailUrl(String, int, int)}.
+ */
+public class ImageUtilsTest {
+    private static final String MEDIA = "https://media.guim.co.uk/0a1b2c/0_0_3000_1800/";
+
+    @Test
+    public void getThumbnailUrl_smallView_picksSmallestCoveringRendition() {
+        // 120dp x 80dp at xhdpi.
+        assertEquals(MEDIA + "500.jpg", ImageUtils.getThumbnailUrl(MEDIA + "1000.jpg", 240, 160));
+
+        // 40dp x 24dp at mdpi.
+        assertEquals(MEDIA + "140.jpg", ImageUtils.getThumbnailUrl(MEDIA + "500.jpg", 40, 24));
+    }
+
+    @Test
+    public void getThumbnailUrl_heightNeedsWiderImage_coversHeight() {
+        // Cropped to fill 130 x 90, a 5:3 image must be at least 150 pixels wide.
+        assertEquals(MEDIA + "500.jpg", ImageUtils.getThumbnailUrl(MEDIA + "500.jpg", 130, 90));
+    }
+
+    @Test
+    public void getThumbnailUrl_largeView_keepsLinkedRendition() {
+        // Wider renditions may not exist.
+        assertEquals(MEDIA + "500.jpg", ImageUtils.getThumbnailUrl(MEDIA + "500.jpg", 1080, 750));
+    }
+
+    @Test
+    public void getThumbnailUrl_resizedImage_setsWidth() {
+        String url = "https://i.guim.co.uk/img/media/0a1b2c/0_0_3000_1800/master/3000.jpg"
+                + "?width=1000&quality=85";
+
+        assertEquals("https://i.guim.co.uk/img/media/0a1b2c/0_0_3000_1800/master/3000.jpg"
+                + "?quality=85&width=300", ImageUtils.getThumbnailUrl(url, 300, 150));
+    }
+
+    @Test
+    public void getThumbnailUrl_signedImage_unchanged() {
+        String url = "https://i.guim.co.uk/img/media/0a1b2c/0_0_3000_1800/master/3000.jpg"
+                + "?width=1000&s=3f2e1d";
+
+        assertEquals(url, ImageUtils.getThumbnailUrl(url, 300, 150));
+    }
+
+    @Test
+    public void getThumbnailUrl_unknownOrUnmeasured_unchanged() {
+        assertEquals("https://example.com/500.jpg",
+                ImageUtils.getThumbnailUrl("https://example.com/500.jpg", 40, 24));
+        assertEquals(MEDIA + "500.jpg", ImageUtils.getThumbnailUrl(MEDIA + "500.jpg", 0, 0));
+        assertEquals("", ImageUtils.getThumbnailUrl("", 40, 24));
+        assertNull(ImageUtils.getThumbnailUrl(null, 40, 24));
+    }
+}
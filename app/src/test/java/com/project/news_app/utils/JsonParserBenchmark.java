@@ -0,0 +1,82 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.R;
+import com.project.news_app.data.Episode;
+import com.project.news_app.data.News;
+import com.project.news_app.data.Podcast;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the JSON parsing layer in {@link JsonUtils}.
+ * <p>
+ * Every parser starts from the raw response bytes, so the tree parsers also pay for decoding the
+ * whole response to a String. Run with "./gradlew :app:jmh", which reports ops/ms (Throughput),
+ * the time distribution including p0.99 (SampleTime) and allocation rate ("-prof gc").
+ * <p>
+ * Benchmarks run without the Android framework, so the podcast response carries no HTML and
+ * stripping HTML from podcast descriptions is not part of the measured cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonParserBenchmark {
+    /**
+     * Number of items in the response. 15 for home sections, 100 for category and search, 500
+     * as a stress case.
+     */
+    @Param({"15", "100", "500"})
+    public int size;
+
+    // Stores the "Section" endpoint response.
+    private byte[] newsResponse;
+
+    // Stores the podcast "Tag" endpoint response.
+    private byte[] podcastResponse;
+
+    @Setup
+    public void setUp() {
+        newsResponse = GuardianJsonFixtures.newsResponse(size)
+                .getBytes(StandardCharsets.UTF_8);
+        podcastResponse = GuardianJsonFixtures.podcastResponse(size, false)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ArrayList<News> parseNewsListTree() {
+        return JsonUtils.parseNewsList(new String(newsResponse, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public ArrayList<News> parseNewsListStream() throws IOException {
+        return JsonUtils.parseNewsList(new ByteArrayInputStream(newsResponse));
+    }
+
+    @Benchmark
+    public ArrayList<Episode> parsePodcastList() {
+        Podcast podcast = new Podcast(R.string.podcast_title_today_in_focus,
+                R.string.podcast_path_today_in_focus, R.drawable.thumbnail_today_in_focus);
+
+        return JsonUtils.parsePodcastList(new String(podcastResponse, StandardCharsets.UTF_8),
+                podcast);
+    }
+}
@@ -0,0 +1,188 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.R;
+import com.project.news_app.data.Episode;
+import com.project.news_app.data.News;
+import com.project.news_app.data.Podcast;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the streaming parser of {@link JsonUtils} reads the same news info. as the tree
+ * parser and that cached date formatting matches the original {@link SimpleDateFormat} output.
+ * Runs on Robolectric, as parsing logs and strips HTML through the Android framework.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class JsonUtilsTest {
+
+    @Test
+    public void parseNewsList_streamMatchesTree() throws Exception {
+        String json = GuardianJsonFixtures.newsResponse(100);
+
+        ArrayList<News> tree = JsonUtils.parseNewsList(json);
+        ArrayList<News> stream = JsonUtils.parseNewsList(new ByteArrayInputStream(
+                json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(100, tree.size());
+        assertEquals(tree.size(), stream.size());
+
+        for (int i = 0; i < tree.size(); i++) {
+            News expected = tree.get(i);
+            News actual = stream.get(i);
+
+            assertEquals(expected.getSectionName(), actual.getSectionName());
+            assertEquals(expected.getDate(), actual.getDate());
+            assertEquals(expected.getArticleURL(), actual.getArticleURL());
+            assertEquals(expected.getHeadline(), actual.getHeadline());
+            assertEquals(expected.getByLine(), actual.getByLine());
+            assertEquals(expected.getPublication(), actual.getPublication());
+            assertEquals(expected.getThumbnailUrl(), actual.getThumbnailUrl());
+        }
+    }
+
+    @Test
+    public void parseNewsList_streamSkipsMissingAndNullFields() throws Exception {
+        String json = "{\"response\":{\"results\":[{\"webUrl\":\"https://a\",\"fields\":null},"
+                + "{\"sectionName\":\"World news\",\"fields\":{\"headline\":null,"
+                + "\"thumbnail\":\"https://t\",\"body\":{\"nested\":[1,2]}}}]}}";
+
+        ArrayList<News> news = JsonUtils.parseNewsList(new ByteArrayInputStream(
+                json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, news.size());
+        assertEquals("https://a", news.get(0).getArticleURL());
+        assertEquals("", news.get(0).getHeadline());
+        assertEquals("World news", news.get(1).getSectionName());
+        assertEquals("", news.get(1).getHeadline());
+        assertEquals("https://t", news.get(1).getThumbnailUrl());
+        assertEquals("", news.get(1).getDate());
+    }
+
+    @Test
+    public void parseNewsList_streamReturnsEmptyListOnMalformedResponse() throws Exception {
+        ArrayList<News> news = JsonUtils.parseNewsList(new ByteArrayInputStream(
+                "<html>".getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(news.isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void parseNewsList_streamThrowsOnTruncatedBody() throws Exception {
+        byte[] json = GuardianJsonFixtures.newsResponse(3).getBytes(StandardCharsets.UTF_8);
+
+        // Connection drops halfway through the response.
+        InputStream in = new SequenceInputStream(
+                new ByteArrayInputStream(json, 0, json.length / 2), new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("unexpected end of stream");
+                    }
+                });
+
+        JsonUtils.parseNewsList(in);
+    }
+
+    @Test
+    public void formatDate_matchesSimpleDateFormat() {
+        String[] patterns = {JsonUtils.PATTERN_CATEGORY, JsonUtils.PATTERN_PODCAST};
+
+        for (String pattern : patterns) {
+            for (int day = 1; day <= 28; day++) {
+                String date = String.format(Locale.ROOT, "2022-02-%02dT23:45:10Z", day);
+
+                // Called twice, the second call is served from the cache.
+                assertEquals(legacyFormatDate(date, pattern), JsonUtils.formatDate(date, pattern));
+                assertEquals(legacyFormatDate(date, pattern), JsonUtils.formatDate(date, pattern));
+            }
+        }
+    }
+
+    @Test
+    public void formatDate_isSafeAcrossThreads() throws Exception {
+        // More dates than the cache holds, so dates are evicted while other threads use them.
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int task = 0; task < 8; task++) {
+            tasks.add(() -> {
+                for (int i = 0; i < JsonUtils.SIZE_DATE_CACHE * 2; i++) {
+                    String date = Instant.ofEpochSecond(1_600_000_000L + i * 3_600L).toString();
+                    if (!legacyFormatDate(date, JsonUtils.PATTERN_CATEGORY).equals(
+                            JsonUtils.formatDate(date, JsonUtils.PATTERN_CATEGORY))) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parseNewsList_keepsPublicationTimeAndFormatsOnDemand() throws Exception {
+        String json = "{\"response\":{\"results\":[{\"webPublicationDate\":"
+                + "\"2022-02-03T10:15:30Z\"},{\"webPublicationDate\":\"yesterday\"}]}}";
+
+        ArrayList<News> news = JsonUtils.parseNewsList(new ByteArrayInputStream(
+                json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(Instant.parse("2022-02-03T10:15:30Z").toEpochMilli(),
+                news.get(0).getPublicationTime());
+        assertEquals(legacyFormatDate("2022-02-03T10:15:30Z", JsonUtils.PATTERN_CATEGORY),
+                news.get(0).getDate());
+
+        // Invalid dates are shown as EMPTY instead of failing the whole response.
+        assertEquals(JsonUtils.TIME_UNKNOWN, news.get(1).getPublicationTime());
+        assertEquals("", news.get(1).getDate());
+    }
+
+    @Test
+    public void parsePodcastList_stripsHtmlTags() {
+        Podcast podcast = new Podcast(R.string.podcast_title_today_in_focus,
+                R.string.podcast_path_today_in_focus, R.drawable.thumbnail_today_in_focus);
+
+        ArrayList<Episode> episodes = JsonUtils.parsePodcastList(
+                GuardianJsonFixtures.podcastResponse(2, true), podcast);
+
+        // Podcast info. is at index 0, followed by its episodes.
+        assertEquals(3, episodes.size());
+        assertEquals("Hosted by Nosheen Iqbal and Michael Safi, Today in Focus tells the stories"
+                + " behind the headlines.", episodes.get(0).getPodcast().getDescription());
+        assertEquals("What happened in episode 1? Read more", episodes.get(2).getStandFirst());
+    }
+
+    /**
+     * Formats "publicationDate" the way {@link JsonUtils} did before formatters were cached.
+     */
+    static String legacyFormatDate(String publicationDate, String pattern) {
+        Instant instant = Instant.parse(publicationDate);
+        Date date = new Date(instant.getEpochSecond() * 1000);
+        return new SimpleDateFormat(pattern, new Locale("eng", "IN")).format(date);
+    }
+}
@@ -0,0 +1,503 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.data.News;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that {@link NetworkUtils} reuses pooled connections of {@link NetworkClient}, cancels
+ * requests in flight, coalesces concurrent requests to the same URL and retries failed requests.
+ * Faults are injected by the local server.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class NetworkUtilsTest implements NetworkUtilsConstants {
+    /**
+     * Local server standing in for "The Guardian" API.
+     */
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        RetryBudget.reset();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void sequentialRequests_shareOneConnection() throws Exception {
+        URL url = server.url("/world").url();
+
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setBody("{}"));
+            assertEquals("{}", NetworkUtils.downloadNewsData(url));
+        }
+
+        // Sequence number is the index of the request on its connection.
+        assertEquals(0, server.takeRequest().getSequenceNumber());
+        assertEquals(1, server.takeRequest().getSequenceNumber());
+        assertEquals(2, server.takeRequest().getSequenceNumber());
+    }
+
+    @Test
+    public void concurrentRequests_returnConnectionsToPool() throws Exception {
+        int parallelism = 4;
+
+        for (int i = 0; i < parallelism * 2; i++) {
+            server.enqueue(new MockResponse().setBody("{}"));
+        }
+
+        // Distinct URLs, concurrent requests to the same URL would be coalesced.
+        List<Callable<String>> requests = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            URL pageUrl = server.url("/world?page=" + (i + 1)).url();
+            requests.add(() -> NetworkUtils.downloadNewsData(pageUrl));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            // Two concurrent rounds, the second one is served by connections of the first.
+            for (int round = 0; round < 2; round++) {
+                for (Future<String> response : executor.invokeAll(requests)) {
+                    assertEquals("{}", response.get());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Counts requests that had to open a new connection.
+        int newConnections = 0;
+        for (int i = 0; i < parallelism * 2; i++) {
+            if (server.takeRequest().getSequenceNumber() == 0) {
+                newConnections++;
+            }
+        }
+
+        assertEquals(parallelism * 2, server.getRequestCount());
+        assertTrue("Opened " + newConnections + " connections",
+                newConnections <= parallelism);
+    }
+
+    @Test
+    public void cancelRequests_stopsRequestInFlight() throws Exception {
+        URL url = server.url("/search?q=climate").url();
+        long cancellations = NetworkStats.getCancellations();
+
+        // Server never responds.
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> response = executor.submit(() -> NetworkUtils.downloadNewsData(url));
+
+            // Waits until the request reached the server.
+            server.takeRequest();
+            NetworkUtils.cancelRequests(url);
+
+            assertEquals("", response.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(cancellations + 1, NetworkStats.getCancellations());
+    }
+
+    @Test
+    public void concurrentCallers_shareOneRequest() throws Exception {
+        int callers = 8;
+        URL url = server.url("/world?show-fields=all&page-size=10").url();
+        long coalesced = NetworkStats.getCoalesced();
+
+        // Holds the response until every caller is waiting for it.
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch respond = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                received.countDown();
+                respond.await(5, TimeUnit.SECONDS);
+                return new MockResponse().setBody("{\"response\":{}}");
+            }
+        });
+
+        String[] responses = new String[callers];
+        Thread[] threads = new Thread[callers];
+        for (int i = 0; i < callers; i++) {
+            int index = i;
+            threads[i] = new Thread(() ->
+                    responses[index] = NetworkUtils.downloadNewsData(url));
+            threads[i].start();
+        }
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        awaitWaiting(callers - 1, threads);
+        respond.countDown();
+
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+        for (String response : responses) {
+            assertEquals("{\"response\":{}}", response);
+        }
+        assertEquals(1, server.getRequestCount());
+        assertEquals(coalesced + callers - 1, NetworkStats.getCoalesced());
+        assertEquals(0, SingleFlight.size());
+    }
+
+    @Test
+    public void concurrentCallers_getTheirOwnNewsItems() throws Exception {
+        URL url = server.url("/world").url();
+
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch respond = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                received.countDown();
+                respond.await(5, TimeUnit.SECONDS);
+                return new MockResponse().setBody("{\"response\":{\"results\":["
+                        + "{\"webTitle\":\"Headline\",\"webUrl\":\"https://a\"}]}}");
+            }
+        });
+
+        List<ArrayList<News>> results = Collections.synchronizedList(new ArrayList<>());
+        Thread[] threads = new Thread[2];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> results.add(NetworkUtils.downloadNewsData(url,
+                    EndpointPolicy.SECTION, false, JsonUtils.NEWS_LIST_PARSER,
+                    new ArrayList<>())));
+            threads[i].start();
+        }
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        awaitWaiting(1, threads);
+        respond.countDown();
+
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+        assertEquals(1, server.getRequestCount());
+        assertEquals(2, results.size());
+
+        // Same news item, but changing its view type leaves the other caller's item alone.
+        News first = results.get(0).get(0);
+        News second = results.get(1).get(0);
+        assertNotSame(first, second);
+        assertEquals(first.getHeadline(), second.getHeadline());
+        first.setViewType(second.getViewType() + 1);
+        assertNotEquals(first.getViewType(), second.getViewType());
+    }
+
+    @Test
+    public void cancelRequests_waitingCallerStartsAgain() throws Exception {
+        URL url = server.url("/search?q=climate").url();
+
+        // First request never gets a response, the second one does.
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        server.enqueue(new MockResponse().setBody("{}"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> cancelled = executor.submit(() -> NetworkUtils.downloadNewsData(url));
+            server.takeRequest();
+
+            // Joins the request in flight.
+            Thread[] waiter = new Thread[1];
+            Future<String> waiting = executor.submit(() -> {
+                waiter[0] = Thread.currentThread();
+                return NetworkUtils.downloadNewsData(url);
+            });
+            while (waiter[0] == null) {
+                Thread.sleep(10);
+            }
+            awaitWaiting(1, waiter);
+
+            NetworkUtils.cancelRequests(url);
+
+            assertEquals("", cancelled.get(5, TimeUnit.SECONDS));
+            assertEquals("{}", waiting.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void canonicalize_ignoresOrderOfQueryParameters() throws Exception {
+        assertEquals(
+                NetworkUtils.canonicalize(new URL("https://host/world?page-size=10&api-key=k")),
+                NetworkUtils.canonicalize(new URL("https://host/world?api-key=k&page-size=10")));
+        assertNotEquals(
+                NetworkUtils.canonicalize(new URL("https://host/world?page=2")),
+                NetworkUtils.canonicalize(new URL("https://host/world?page=3")));
+    }
+
+    @Test
+    public void fetchNewsData_retriesServerErrorsUntilSuccess() throws Exception {
+        URL url = server.url("/world").url();
+        long retries = NetworkStats.getRetries();
+
+        // "Retry-After: 0" skips the backoff. (OkHttp itself retries a 503 asking for it.)
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "0"));
+        server.enqueue(new MockResponse().setBody("{}"));
+
+        FetchResult<String> result = NetworkUtils.fetchNewsData(url, EndpointPolicy.SECTION,
+                false, in -> "parsed");
+
+        assertTrue(result.isSuccessful());
+        assertEquals("parsed", result.getData());
+        assertEquals(3, result.getAttempts());
+        assertEquals(3, server.getRequestCount());
+        assertEquals(retries + 2, NetworkStats.getRetries());
+    }
+
+    @Test
+    public void fetchNewsData_retriesDroppedConnection() throws Exception {
+        URL url = server.url("/world").url();
+
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setBody("{}"));
+
+        long start = System.nanoTime();
+        FetchResult<String> result = NetworkUtils.fetchNewsData(url, EndpointPolicy.SECTION,
+                false, in -> "parsed");
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(2, result.getAttempts());
+
+        // Waited for the backoff of the first attempt.
+        assertTrue("Retried after " + elapsed + " ms", elapsed >= BACKOFF_INITIAL / 2);
+    }
+
+    @Test
+    public void fetchNewsData_retriesTruncatedBody() throws Exception {
+        URL url = server.url("/world").url();
+
+        server.enqueue(new MockResponse()
+                .setBody(newsResponse(3))
+                .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+        server.enqueue(new MockResponse().setBody(newsResponse(3)));
+
+        FetchResult<ArrayList<News>> result = NetworkUtils.fetchNewsData(url,
+                EndpointPolicy.SECTION, false, JsonUtils.NEWS_LIST_PARSER);
+
+        // Items read before the connection dropped are not taken for the whole list.
+        assertTrue(result.isSuccessful());
+        assertEquals(2, result.getAttempts());
+        assertEquals(3, result.getData().size());
+    }
+
+    @Test
+    public void fetchNewsData_doesNotRetryClientErrors() throws Exception {
+        URL url = server.url("/world").url();
+        server.enqueue(new MockResponse().setResponseCode(404));
+
+        FetchResult<String> result = NetworkUtils.fetchNewsData(url, EndpointPolicy.SECTION,
+                false, in -> "parsed");
+
+        assertEquals(RESULT_HTTP_ERROR, result.getStatus());
+        assertEquals(404, result.getResponseCode());
+        assertNull(result.getData());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void fetchNewsData_givesUpIfRetryAfterMissesDeadline() throws Exception {
+        URL url = server.url("/world").url();
+        server.enqueue(new MockResponse().setResponseCode(503).addHeader("Retry-After", "3600"));
+
+        FetchResult<String> result = NetworkUtils.fetchNewsData(url, EndpointPolicy.SECTION,
+                false, in -> "parsed");
+
+        assertEquals(RESULT_HTTP_ERROR, result.getStatus());
+        assertEquals(TimeUnit.HOURS.toMillis(1), result.getRetryAfter());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void fetchNewsData_stopsAtDeadline() throws Exception {
+        URL url = server.url("/world").url();
+        EndpointPolicy policy = new EndpointPolicy(0, 3, 500, TIMEOUT_CONNECT,
+                TIMEOUT_READ_SECTION, false);
+
+        // Server never responds.
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+
+        long start = System.nanoTime();
+        FetchResult<String> result = NetworkUtils.fetchNewsData(url, policy, false,
+                in -> "parsed");
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(RESULT_TIMED_OUT, result.getStatus());
+        assertTrue("Gave up after " + elapsed + " ms", elapsed < 2000);
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void fetchNewsData_stopsRetryingOnceBudgetIsSpent() throws Exception {
+        URL url = server.url("/world").url();
+        while (RetryBudget.tryAcquire()) {
+            // Spends the whole budget, as if the server kept failing.
+        }
+        server.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "0"));
+
+        FetchResult<String> result = NetworkUtils.fetchNewsData(url, EndpointPolicy.SECTION,
+                false, in -> "parsed");
+
+        assertEquals(429, result.getResponseCode());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void parseRetryAfter_readsSecondsAndDates() {
+        long now = 1_700_000_000_000L;
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                Instant.ofEpochMilli(now + 120_000).atZone(ZoneOffset.UTC));
+
+        assertEquals(30_000, NetworkUtils.parseRetryAfter("30", now));
+        assertEquals(120_000, NetworkUtils.parseRetryAfter(date, now));
+        assertEquals(-1, NetworkUtils.parseRetryAfter("soon", now));
+        assertEquals(-1, NetworkUtils.parseRetryAfter(null, now));
+    }
+
+    @Test
+    public void getBackoff_doublesWithJitterUpToMax() {
+        assertEquals(BACKOFF_INITIAL / 2, NetworkUtils.getBackoff(1, 0));
+        assertEquals(BACKOFF_INITIAL, NetworkUtils.getBackoff(2, 0));
+        assertTrue(NetworkUtils.getBackoff(2, 0.99) < BACKOFF_INITIAL * 2);
+        assertEquals(BACKOFF_MAX / 2, NetworkUtils.getBackoff(40, 0));
+    }
+
+    @Test
+    public void fetchNewsData_asksForCompressionAndDecodesGzip() throws Exception {
+        URL url = server.url("/world").url();
+        String json = newsResponse(100);
+        long wire = NetworkStats.getWireBytes();
+        long decoded = NetworkStats.getDecodedBytes();
+
+        Buffer gzip = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(gzip))) {
+            sink.writeUtf8(json);
+        }
+        server.enqueue(new MockResponse()
+                .setBody(gzip)
+                .addHeader(HEADER_CONTENT_ENCODING, ENCODING_GZIP));
+
+        ArrayList<News> news = NetworkUtils.downloadNewsData(url, EndpointPolicy.SECTION, false,
+                JsonUtils.NEWS_LIST_PARSER, new ArrayList<>());
+
+        assertEquals(100, news.size());
+        assertEquals(VALUE_ACCEPT_ENCODING,
+                server.takeRequest().getHeader(HEADER_ACCEPT_ENCODING));
+
+        // Repetitive JSON shrinks to a fraction of its size on the wire.
+        long wireBytes = NetworkStats.getWireBytes() - wire;
+        long decodedBytes = NetworkStats.getDecodedBytes() - decoded;
+        assertTrue("wire=" + wireBytes + ", decoded=" + decodedBytes,
+                wireBytes * 5 < decodedBytes);
+    }
+
+    @Test
+    public void decode_readsZlibAndRawDeflate() throws Exception {
+        String json = newsResponse(10);
+
+        for (boolean raw : new boolean[]{false, true}) {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+                out.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+            deflater.end();
+
+            InputStream in = NetworkUtils.decode(
+                    new ByteArrayInputStream(compressed.toByteArray()), ENCODING_DEFLATE);
+            assertEquals(json, Okio.buffer(Okio.source(in)).readUtf8());
+        }
+    }
+
+    @Test
+    public void decode_passesUncompressedBodyThrough() throws Exception {
+        InputStream in = new ByteArrayInputStream(new byte[0]);
+        assertSame(in, NetworkUtils.decode(in, null));
+    }
+
+    /**
+     * @return Response of "The Guardian" API listing "size" news items.
+     */
+    private static String newsResponse(int size) {
+        StringBuilder json = new StringBuilder("{\"response\":{\"results\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"webTitle\":\"Headline ").append(i)
+                    .append("\",\"sectionName\":\"World news\",\"webUrl\":")
+                    .append("\"https://www.theguardian.com/world/2022/jan/01/article-")
+                    .append(i).append("\"}");
+        }
+        return json.append("]}}").toString();
+    }
+
+    /**
+     * Waits until "count" of "threads" are waiting for the request of another thread.
+     */
+    private static void awaitWaiting(int count, Thread... threads) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            int waiting = 0;
+            for (Thread thread : threads) {
+                if (thread.getState() == Thread.State.WAITING) {
+                    waiting++;
+                }
+            }
+            if (waiting >= count) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("Callers never joined the request in flight");
+    }
+}
\ No newline at end of file
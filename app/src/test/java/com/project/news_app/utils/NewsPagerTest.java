@@ -0,0 +1,249 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.NetworkUtilsConstants;
+import com.project.news_app.data.News;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks prefetching and eviction of pages by {@link NewsPager}. Pages are downloaded from a
+ * made up feed, the test decides when a queued download runs.
+ */
+public class NewsPagerTest implements NetworkUtilsConstants {
+    /**
+     * Number of items in the made up feed.
+     */
+    private static final int SIZE_FEED = 1000;
+
+    // Downloads waiting to run.
+    private final ArrayDeque<Runnable> downloads = new ArrayDeque<>();
+
+    // Pages downloaded so far, in order.
+    private final List<Integer> downloadedPages = new ArrayList<>();
+
+    // Last list delivered to the listener.
+    private ArrayList<News> shown;
+
+    private NewsPager pager;
+
+    @Before
+    public void setUp() {
+        pager = new NewsPager(this::loadPage, news -> shown = news, downloads::add,
+                Runnable::run);
+        pager.setFirstPage(loadPage(1));
+        downloadedPages.clear();
+    }
+
+    @Test
+    public void onScrolled_nearEnd_downloadsNextPage() {
+        pager.onScrolled(0, SIZE_PAGE - PREFETCH_DISTANCE - 1);
+        assertTrue(downloads.isEmpty());
+
+        pager.onScrolled(0, SIZE_PAGE - PREFETCH_DISTANCE);
+        runDownloads();
+
+        assertEquals(Collections.singletonList(2), downloadedPages);
+        assertEquals(2 * SIZE_PAGE, shown.size());
+        assertEquals("url-" + SIZE_PAGE, shown.get(SIZE_PAGE).getArticleURL());
+    }
+
+    @Test
+    public void onScrolled_whileDownloading_downloadsOnce() {
+        pager.onScrolled(0, SIZE_PAGE - 1);
+        pager.onScrolled(0, SIZE_PAGE - 1);
+        runDownloads();
+
+        assertEquals(Collections.singletonList(2), downloadedPages);
+    }
+
+    @Test
+    public void onScrolled_farDown_keepsMemoryFlat() {
+        for (int i = 0; i < 50; i++) {
+            pager.onScrolled(0, Integer.MAX_VALUE);
+            runDownloads();
+
+            assertTrue(pager.getPageCount() <= MAX_PAGES_IN_MEMORY);
+            assertTrue(shown.size() <= MAX_PAGES_IN_MEMORY * SIZE_PAGE);
+        }
+
+        assertEquals(51 - MAX_PAGES_IN_MEMORY + 1, pager.getFirstPage());
+        assertEquals("url-" + (51 * SIZE_PAGE - 1),
+                shown.get(shown.size() - 1).getArticleURL());
+    }
+
+    @Test
+    public void onScrolled_backToStart_downloadsDroppedPage() {
+        for (int i = 0; i < MAX_PAGES_IN_MEMORY; i++) {
+            pager.onScrolled(0, Integer.MAX_VALUE);
+            runDownloads();
+        }
+        assertEquals(2, pager.getFirstPage());
+        downloadedPages.clear();
+
+        pager.onScrolled(0, PREFETCH_DISTANCE);
+        runDownloads();
+
+        assertEquals(Collections.singletonList(1), downloadedPages);
+        assertEquals(1, pager.getFirstPage());
+        assertEquals("url-0", shown.get(0).getArticleURL());
+        assertEquals(MAX_PAGES_IN_MEMORY, pager.getPageCount());
+    }
+
+    @Test
+    public void onScrolled_pastEnd_stopsDownloading() {
+        // Feed of 15 items, second page is short.
+        pager = new NewsPager(page -> loadPage(page, 15), news -> shown = news,
+                downloads::add, Runnable::run);
+        pager.setFirstPage(loadPage(1, 15));
+        downloadedPages.clear();
+
+        pager.onScrolled(0, Integer.MAX_VALUE);
+        runDownloads();
+        pager.onScrolled(0, Integer.MAX_VALUE);
+
+        assertTrue(downloads.isEmpty());
+        assertEquals(15, shown.size());
+    }
+
+    @Test
+    public void setFirstPage_dropsDownloadInFlight() {
+        pager.onScrolled(0, Integer.MAX_VALUE);
+        pager.setFirstPage(loadPage(1));
+        runDownloads();
+
+        assertNull(shown);
+        assertEquals(SIZE_PAGE, pager.getNews().size());
+    }
+
+    @Test
+    public void getNews_dropsArticlesRepeatedAcrossPages() {
+        // Feed shifted by a freshly published article, second page repeats the last item.
+        pager = new NewsPager(page -> loadPage(page, SIZE_FEED, -1), news -> shown = news,
+                downloads::add, Runnable::run);
+        pager.setFirstPage(loadPage(1));
+
+        pager.onScrolled(0, Integer.MAX_VALUE);
+        runDownloads();
+
+        assertEquals(2 * SIZE_PAGE - 1, shown.size());
+    }
+
+    @Test
+    public void onScrolled_afterFailedPage_downloadsItAgain() {
+        // Second page fails once, e.g. while the device is offline.
+        boolean[] failed = new boolean[1];
+        pager = new NewsPager(page -> {
+            if (page == 2 && !failed[0]) {
+                failed[0] = true;
+                downloadedPages.add(page);
+                return null;
+            }
+            return loadPage(page);
+        }, news -> shown = news, downloads::add, Runnable::run);
+        pager.setFirstPage(loadPage(1));
+        downloadedPages.clear();
+
+        pager.onScrolled(0, Integer.MAX_VALUE);
+        runDownloads();
+        assertNull(shown);
+
+        pager.onScrolled(0, Integer.MAX_VALUE);
+        runDownloads();
+
+        assertEquals(Arrays.asList(2, 2), downloadedPages);
+        assertEquals(2 * SIZE_PAGE, shown.size());
+    }
+
+    @Test
+    public void getNews_showsLastItemsOnlyAfterLastPage() {
+        // Feed of 15 items, followed by items found on the device.
+        pager = new NewsPager(page -> loadPage(page, 15), news -> shown = news,
+                downloads::add, Runnable::run);
+        ArrayList<News> lastItems = newNews("url-12", "local-0");
+        pager.setFirstPage(loadPage(1, 15), lastItems);
+
+        // Items shown after the last page never come between two pages.
+        assertEquals(SIZE_PAGE, pager.getNews().size());
+
+        pager.onScrolled(0, Integer.MAX_VALUE);
+        runDownloads();
+
+        // Article listed by a page keeps its position there.
+        assertEquals(16, shown.size());
+        assertEquals("url-12", shown.get(12).getArticleURL());
+        assertEquals("local-0", shown.get(15).getArticleURL());
+    }
+
+    @Test
+    public void getNews_emptyPageAfterLastPage_showsLastItems() {
+        // Feed of exactly one page, the empty second page marks the end.
+        pager = new NewsPager(page -> loadPage(page, SIZE_PAGE), news -> shown = news,
+                downloads::add, Runnable::run);
+        pager.setFirstPage(loadPage(1, SIZE_PAGE), newNews("local-0"));
+
+        pager.onScrolled(0, Integer.MAX_VALUE);
+        runDownloads();
+
+        assertEquals(SIZE_PAGE + 1, shown.size());
+        assertEquals("local-0", shown.get(SIZE_PAGE).getArticleURL());
+    }
+
+    @Test
+    public void getNews_firstPageEmpty_showsLastItems() {
+        // Search request failed, only items found on the device are left.
+        pager.setFirstPage(new ArrayList<>(), newNews("local-0", "local-1"));
+
+        assertEquals(2, pager.getNews().size());
+        assertEquals("local-0", pager.getNews().get(0).getArticleURL());
+    }
+
+    private void runDownloads() {
+        while (!downloads.isEmpty()) {
+            downloads.poll().run();
+        }
+    }
+
+    private static ArrayList<News> newNews(String... urls) {
+        ArrayList<News> news = new ArrayList<>();
+        for (String url : urls) {
+            News item = new News();
+            item.setArticleURL(url);
+            news.add(item);
+        }
+        return news;
+    }
+
+    private ArrayList<News> loadPage(int page) {
+        return loadPage(page, SIZE_FEED);
+    }
+
+    private ArrayList<News> loadPage(int page, int feedSize) {
+        return loadPage(page, feedSize, 0);
+    }
+
+    /**
+     * @param shift Number of items the feed moved down since the first page.
+     * @return Items "url-N" of "page" of a feed of "feedSize" items.
+     */
+    private ArrayList<News> loadPage(int page, int feedSize, int shift) {
+        downloadedPages.add(page);
+
+        ArrayList<News> news = new ArrayList<>();
+        int start = Math.max(0, (page - 1) * SIZE_PAGE + shift);
+        for (int i = start; i < Math.min(start + SIZE_PAGE, feedSize); i++) {
+            News item = new News();
+            item.setArticleURL("url-" + i);
+            news.add(item);
+        }
+        return news;
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.news_app.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the prefetches started and cancelled by {@link PrefetchBudget}.
+ */
+public class PrefetchBudgetTest {
+    // 2 prefetches in flight, 100 bytes.
+    private final PrefetchBudget<String> budget = new PrefetchBudget<>(2, 100);
+
+    // Items started and cancelled by the last update.
+    private final List<String> started = new ArrayList<>();
+    private final List<String> cancelled = new ArrayList<>();
+
+    @Test
+    public void update_startsMostWantedWithinConcurrency() {
+        update("a", 10, "b", 10, "c", 10);
+
+        assertEquals(Arrays.asList("a", "b"), started);
+        assertEquals(2, budget.getInFlight());
+    }
+
+    @Test
+    public void onFinished_freesPrefetchForNextItem() {
+        update("a", 10, "b", 10, "c", 10);
+        budget.onFinished("a");
+
+        update("a", 10, "b", 10, "c", 10);
+
+        // "a" is done and isn't prefetched again.
+        assertEquals(Collections.singletonList("c"), started);
+        assertEquals(30, budget.getBytes());
+    }
+
+    @Test
+    public void update_itemsOverBytes_notStarted() {
+        update("a", 60, "b", 60);
+
+        assertEquals(Collections.singletonList("a"), started);
+        budget.onFinished("a");
+
+        update("a", 60, "b", 60);
+        assertEquals(Collections.emptyList(), started);
+    }
+
+    @Test
+    public void update_finishedItemsCountTowardsBytes() {
+        update("a", 50, "b", 40);
+        budget.onFinished("a");
+        budget.onFinished("b");
+
+        // "c" fits the budget only once "a" is no longer wanted.
+        update("a", 50, "b", 40, "c", 30);
+        assertEquals(Collections.emptyList(), started);
+
+        update("b", 40, "c", 30);
+        assertEquals(Collections.singletonList("c"), started);
+        assertEquals(70, budget.getBytes());
+    }
+
+    @Test
+    public void update_itemNoLongerWanted_cancelledIfInFlight() {
+        update("a", 10, "b", 10);
+        budget.onFinished("a");
+
+        update("c", 10);
+
+        // "a" was done already.
+        assertEquals(Collections.singletonList("b"), cancelled);
+        assertEquals(Collections.singletonList("c"), started);
+    }
+
+    @Test
+    public void update_moreWantedItemOverBytes_dropsLessWanted() {
+        update("a", 40, "b", 40);
+
+        update("c", 90, "a", 40, "b", 40);
+
+        assertEquals(Arrays.asList("a", "b"), cancelled);
+        assertEquals(Collections.singletonList("c"), started);
+    }
+
+    @Test
+    public void clear_returnsItemsInFlight() {
+        update("a", 10, "b", 10);
+        budget.onFinished("a");
+
+        assertEquals(Collections.singletonList("b"), budget.clear());
+        assertEquals(0, budget.getBytes());
+
+        update("a", 10);
+        assertEquals(Collections.singletonList("a"), started);
+    }
+
+    /**
+     * Updates "budget" with the wanted items, given as key, bytes pairs.
+     */
+    private void update(Object... items) {
+        LinkedHashMap<String, Long> wanted = new LinkedHashMap<>();
+        for (int i = 0; i < items.length; i += 2) {
+            wanted.put((String) items[i], ((Integer) items[i + 1]).longValue());
+        }
+
+        started.clear();
+        cancelled.clear();
+        budget.update(wanted, cancelled::add, started::add);
+    }
+}
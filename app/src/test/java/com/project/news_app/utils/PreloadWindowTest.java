@@ -0,0 +1,100 @@
+package com.project.news_app.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the positions {@link PreloadWindow} hands out while a list of 100 items scrolls.
+ */
+public class PreloadWindowTest {
+    // 2 items when slow, one more per 10 pixels per frame, at most 6.
+    private final PreloadWindow window = new PreloadWindow(2, 6, 10);
+
+    @Test
+    public void onScrolled_slowForward_preloadsItemsAfterLastVisible() {
+        assertFalse(window.onScrolled(5, 0, 4, 100));
+
+        assertEquals(Arrays.asList(5, 6), drain());
+    }
+
+    @Test
+    public void onScrolled_fling_preloadsMoreItems() {
+        window.onScrolled(200, 0, 4, 100);
+
+        assertEquals(Arrays.asList(5, 6, 7, 8, 9, 10), drain());
+    }
+
+    @Test
+    public void onScrolled_keepsScrolling_handsOutEveryPositionOnce() {
+        window.onScrolled(5, 0, 4, 100);
+        assertEquals(Arrays.asList(5, 6), drain());
+
+        window.onScrolled(5, 1, 5, 100);
+        assertEquals(Collections.singletonList(7), drain());
+
+        // Items shown since the last frame aren't preloaded.
+        window.onScrolled(5, 6, 10, 100);
+        assertEquals(Arrays.asList(11, 12), drain());
+    }
+
+    @Test
+    public void onScrolled_reversed_startsOverBackward() {
+        window.onScrolled(5, 20, 24, 100);
+        drain();
+
+        assertTrue(window.onScrolled(-5, 19, 23, 100));
+        assertEquals(Arrays.asList(18, 17), drain());
+
+        assertTrue(window.onScrolled(5, 20, 24, 100));
+        assertEquals(Arrays.asList(25, 26), drain());
+    }
+
+    @Test
+    public void onScrolled_nearEnds_staysWithinList() {
+        window.onScrolled(200, 94, 98, 100);
+        assertEquals(Collections.singletonList(99), drain());
+
+        window.onScrolled(-200, 1, 5, 100);
+        assertEquals(Collections.singletonList(0), drain());
+
+        window.onScrolled(-200, 0, 4, 100);
+        assertEquals(Collections.emptyList(), drain());
+    }
+
+    @Test
+    public void next_partiallyDrained_resumesNextFrame() {
+        window.onScrolled(200, 0, 4, 100);
+        assertEquals(5, window.next());
+        assertEquals(6, window.next());
+
+        window.onScrolled(200, 0, 4, 100);
+        assertEquals(7, window.next());
+    }
+
+    @Test
+    public void next_beforeScrolling_noPosition() {
+        assertEquals(PreloadWindow.NO_POSITION, window.next());
+
+        // Empty list.
+        window.onScrolled(5, -1, -1, 0);
+        assertEquals(PreloadWindow.NO_POSITION, window.next());
+    }
+
+    /**
+     * @return Every position the window hands out.
+     */
+    private List<Integer> drain() {
+        List<Integer> positions = new ArrayList<>();
+        for (int position = window.next(); position != PreloadWindow.NO_POSITION;
+             position = window.next()) {
+            positions.add(position);
+        }
+        return positions;
+    }
+}
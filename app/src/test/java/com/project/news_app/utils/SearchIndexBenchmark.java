@@ -0,0 +1,206 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.NewsStoreConstants;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of searching the full-text index of NewsStore, using the same schema and query
+ * on the host's SQLite (through sqlite-jdbc) with synthetic Guardian-like headlines.
+ * <ul>
+ *     <li>commonWord - word found in about 1 of 7 articles, the index has to skip most of
+ *     its matches.</li>
+ *     <li>rareWord - word found in a handful of articles.</li>
+ *     <li>twoWords - two common words, both must match.</li>
+ *     <li>prefix - first letters of a common word, as while the user is typing.</li>
+ * </ul>
+ * Each size builds its index once before measuring, the 1M article index takes about a minute.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchIndexBenchmark implements NewsStoreConstants {
+    /**
+     * Words common to many headlines.
+     */
+    private static final String[] COMMON_WORDS = {"world", "election", "climate", "government",
+            "police", "minister", "war", "court", "health", "economy", "crisis", "report",
+            "women", "children", "border", "energy", "prices", "vote", "storm", "trial"};
+
+    /**
+     * Sections articles are listed under.
+     */
+    private static final String[] SECTIONS = {"World news", "US news", "UK news",
+            "Australia news", "Opinion", "Business", "Environment", "Sport", "Politics",
+            "Technology"};
+
+    /**
+     * Number of distinct rare words. Each one appears in a handful of headlines.
+     */
+    private static final int SIZE_VOCABULARY = 100_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int articles;
+
+    // Temporary database file.
+    private File file;
+
+    private Connection connection;
+
+    private PreparedStatement search;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        file = File.createTempFile("search-index", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + file.getPath());
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SQL_CREATE_INDEXED_ARTICLES);
+            statement.execute(SQL_CREATE_SEARCH_INDEX);
+        }
+
+        connection.setAutoCommit(false);
+        Random random = new Random(42);
+
+        try (PreparedStatement article = connection.prepareStatement("INSERT INTO "
+                + TABLE_INDEXED_ARTICLES + " (" + COLUMN_ID + ", " + COLUMN_URL + ", "
+                + COLUMN_HEADLINE + ", " + COLUMN_SECTION + ", " + COLUMN_BY_LINE + ", "
+                + COLUMN_PUBLICATION + ", " + COLUMN_PUBLICATION_TIME + ", " + COLUMN_THUMBNAIL
+                + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement text = connection.prepareStatement("INSERT INTO "
+                     + TABLE_SEARCH_INDEX + " (" + COLUMN_DOC_ID + ", " + COLUMN_HEADLINE + ", "
+                     + COLUMN_BY_LINE + ", " + COLUMN_SECTION + ") VALUES (?, ?, ?, ?)")) {
+            for (int id = 1; id <= articles; id++) {
+                String headline = newHeadline(random);
+                String section = SECTIONS[random.nextInt(SECTIONS.length)];
+                String byLine = "Reporter " + rareWord(random.nextInt(500));
+
+                article.setInt(1, id);
+                article.setString(2, "https://www.theguardian.com/article/" + id);
+                article.setString(3, headline);
+                article.setString(4, section);
+                article.setString(5, byLine);
+                article.setString(6, "The Guardian");
+                article.setLong(7, 1_600_000_000_000L + id * 60_000L);
+                article.setString(8, "https://media.guim.co.uk/" + id + "/500.jpg");
+                article.executeUpdate();
+
+                text.setInt(1, id);
+                text.setString(2, headline);
+                text.setString(3, byLine);
+                text.setString(4, section);
+                text.executeUpdate();
+            }
+        }
+        connection.commit();
+
+        // Merges index segments, as SQLite does over time on the device.
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO " + TABLE_SEARCH_INDEX + "(" + TABLE_SEARCH_INDEX
+                    + ") VALUES ('optimize')");
+        }
+        connection.commit();
+
+        search = connection.prepareStatement(SQL_SEARCH);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+        file.delete();
+    }
+
+    /**
+     * @return Headline made of 3 common and 5 rare words.
+     */
+    private static String newHeadline(Random random) {
+        StringBuilder headline = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            headline.append(COMMON_WORDS[random.nextInt(COMMON_WORDS.length)]).append(' ');
+        }
+        for (int i = 0; i < 5; i++) {
+            headline.append(rareWord(random.nextInt(SIZE_VOCABULARY))).append(' ');
+        }
+        return headline.toString().trim();
+    }
+
+    /**
+     * @return Distinct made up word for every "index", e.g. "kabo".
+     */
+    private static String rareWord(int index) {
+        String syllables = "bakodumirelasotunefipagi";
+        StringBuilder word = new StringBuilder();
+        do {
+            int syllable = index % (syllables.length() / 2);
+            word.append(syllables, syllable * 2, syllable * 2 + 2);
+            index /= syllables.length() / 2;
+        } while (index > 0);
+        return word.toString();
+    }
+
+    /**
+     * Runs "query" and reads every result, as NewsStore.searchNews does.
+     *
+     * @return Number of results.
+     */
+    private int search(String query) throws SQLException {
+        search.setString(1, SearchUtils.toMatchQuery(query));
+        search.setInt(2, SIZE_LOCAL_RESULTS);
+
+        int results = 0;
+        try (ResultSet resultSet = search.executeQuery()) {
+            while (resultSet.next()) {
+                for (int column = 1; column <= 7; column++) {
+                    resultSet.getObject(column);
+                }
+                results++;
+            }
+        }
+        return results;
+    }
+
+    @Benchmark
+    public int commonWord() throws SQLException {
+        return search("Climate");
+    }
+
+    @Benchmark
+    public int rareWord() throws SQLException {
+        return search(rareWord(SIZE_VOCABULARY / 3));
+    }
+
+    @Benchmark
+    public int twoWords() throws SQLException {
+        return search("climate crisis");
+    }
+
+    @Benchmark
+    public int prefix() throws SQLException {
+        return search("elec");
+    }
+}
\ No newline at end of file
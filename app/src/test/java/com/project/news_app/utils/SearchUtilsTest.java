@@ -0,0 +1,26 @@
+package com.project.news_app.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks full-text queries built by {@link SearchUtils}.
+ */
+public class SearchUtilsTest {
+
+    @Test
+    public void toMatchQuery_matchesEveryWordAsPrefix() {
+        assertEquals("climate* change*", SearchUtils.toMatchQuery("Climate change"));
+        assertEquals("climate* change*", SearchUtils.toMatchQuery("  climate   change "));
+    }
+
+    @Test
+    public void toMatchQuery_dropsQuerySyntax() {
+        assertEquals("uk* or* us*", SearchUtils.toMatchQuery("UK OR US"));
+        assertEquals("brexit* deal*", SearchUtils.toMatchQuery("\"brexit\" -deal*"));
+        assertEquals("caf\u00e9*", SearchUtils.toMatchQuery("Caf\u00c9"));
+        assertEquals("", SearchUtils.toMatchQuery(" *\"- "));
+        assertEquals("", SearchUtils.toMatchQuery(null));
+    }
+}
@@ -0,0 +1,163 @@
+package com.project.news_app.utils;
+
+import com.project.news_app.constants.TaskSchedulerConstants;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks priorities and cancellation of tasks run by {@link TaskScheduler}. Every thread of the
+ * disk lane is kept busy, so the tasks under test wait in its queue.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class TaskSchedulerTest implements TaskSchedulerConstants {
+    // Released to let the tasks keeping the disk lane busy finish.
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // Tasks keeping the disk lane busy.
+    private final List<TaskScheduler.Task<Void>> blockers = new ArrayList<>();
+
+    // Names of the tasks under test, in the order they ran.
+    private final List<String> ran = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void setUp() throws Exception {
+        CountDownLatch started = new CountDownLatch(POOL_SIZE_DISK);
+        for (int i = 0; i < POOL_SIZE_DISK; i++) {
+            blockers.add(TaskScheduler.execute(LANE_DISK, PRIORITY_VISIBLE, () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+            }));
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    public void submit_runsHigherPriorityFirst() throws Exception {
+        TaskScheduler.Task<Void> last = record(PRIORITY_BACKGROUND, "background");
+        record(PRIORITY_PREFETCH, "prefetch");
+        record(PRIORITY_VISIBLE, "visible");
+
+        release.countDown();
+        last.get(5, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList("visible", "prefetch", "background"), ran);
+    }
+
+    @Test
+    public void submit_samePriority_runsInSubmissionOrder() throws Exception {
+        record(PRIORITY_PREFETCH, "first");
+        record(PRIORITY_PREFETCH, "second");
+        TaskScheduler.Task<Void> last = record(PRIORITY_PREFETCH, "third");
+
+        release.countDown();
+        last.get(5, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList("first", "second", "third"), ran);
+    }
+
+    @Test
+    public void cancel_queuedTask_neverRuns() throws Exception {
+        TaskScheduler.Task<Void> cancelled = record(PRIORITY_VISIBLE, "cancelled");
+        TaskScheduler.Task<Void> last = record(PRIORITY_BACKGROUND, "kept");
+        cancelled.cancel();
+
+        release.countDown();
+        last.get(5, TimeUnit.SECONDS);
+
+        assertEquals(Collections.singletonList("kept"), ran);
+    }
+
+    @Test
+    public void cancel_runningTask_abortsBlockingWork() throws Exception {
+        release.countDown();
+
+        // Stands in for the socket of a request in flight.
+        CountDownLatch socket = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        TaskScheduler.Task<Boolean> task = TaskScheduler.submit(LANE_NETWORK, PRIORITY_VISIBLE,
+                running -> {
+                    running.setOnCancelListener(socket::countDown);
+                    started.countDown();
+                    socket.await();
+                    return running.isCancelled();
+                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        task.cancel();
+
+        assertEquals(0, socket.getCount());
+        assertTrue(task.isCancelled());
+        try {
+            task.get();
+            fail();
+        } catch (CancellationException expected) {
+        }
+    }
+
+    @Test
+    public void setOnCancelListener_afterCancel_runsRightAway() {
+        TaskScheduler.Task<Void> task = record(PRIORITY_VISIBLE, "cancelled");
+        task.cancel();
+
+        AtomicBoolean called = new AtomicBoolean();
+        task.setOnCancelListener(() -> called.set(true));
+
+        assertTrue(called.get());
+    }
+
+    @Test
+    public void getOrDefault_waitsForResult() {
+        TaskScheduler.Task<String> task = TaskScheduler.submit(LANE_DISK, PRIORITY_VISIBLE,
+                running -> "stored");
+
+        release.countDown();
+
+        assertEquals("stored", task.getOrDefault("fallback"));
+    }
+
+    @Test
+    public void getOrDefault_failedOrCancelled_returnsFallback() {
+        TaskScheduler.Task<String> failed = TaskScheduler.submit(LANE_DISK, PRIORITY_VISIBLE,
+                running -> {
+                    throw new IllegalStateException("Cannot read");
+                });
+        TaskScheduler.Task<Void> cancelled = record(PRIORITY_VISIBLE, "cancelled");
+        cancelled.cancel();
+
+        release.countDown();
+
+        assertEquals("fallback", failed.getOrDefault("fallback"));
+        assertNull(cancelled.getOrDefault(null));
+    }
+
+    /**
+     * Queues a task on the disk lane that records "name" when it runs.
+     */
+    private TaskScheduler.Task<Void> record(int priority, String name) {
+        return TaskScheduler.execute(LANE_DISK, priority, () -> ran.add(name));
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.news_app.viewmodels;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+import com.project.news_app.adapters.NewsAdapter;
+import com.project.news_app.data.News;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that view types set by {@link CategoryViewModel} stay with their articles, so a refresh
+ * only rebinds the items that changed.
+ */
+public class CategoryViewModelTest {
+    /**
+     * Number of news items in the category, several patterns of view types.
+     */
+    private static final int SIZE = 30;
+
+    @Test
+    public void refreshWithOneNewItem_keepsViewTypesAndInsertsOnlyThatItem() {
+        ArrayList<News> shown = createNews(0, SIZE);
+        CategoryViewModel.setViewType(shown);
+
+        // Refreshed feed has a new item on top, view types are chosen again.
+        ArrayList<News> refreshed = createNews(SIZE, SIZE + 1);
+        refreshed.addAll(createNews(0, SIZE));
+        CategoryViewModel.setViewType(refreshed);
+        CategoryViewModel.keepViewTypes(refreshed, shown);
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(shown.get(i).getViewType(), refreshed.get(i + 1).getViewType());
+        }
+        assertEquals("inserted 1 at 0", dispatch(shown, refreshed));
+    }
+
+    @Test
+    public void keepViewTypes_newArticle_keepsViewTypeOfItsPosition() {
+        ArrayList<News> shown = createNews(0, 1);
+        shown.get(0).setViewType(1);
+
+        ArrayList<News> refreshed = createNews(0, 2);
+        refreshed.get(0).setViewType(2);
+        refreshed.get(1).setViewType(3);
+        CategoryViewModel.keepViewTypes(refreshed, shown);
+
+        assertEquals(1, refreshed.get(0).getViewType());
+        assertEquals(3, refreshed.get(1).getViewType());
+    }
+
+    /**
+     * Diffs "oldList" against "newList" the way AsyncListDiffer of {@link NewsAdapter} does.
+     *
+     * @return Dispatched updates, e.g. "inserted 1 at 0, changed 2 at 5".
+     */
+    private static String dispatch(List<News> oldList, List<News> newList) {
+        DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldList.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newList.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldPosition, int newPosition) {
+                return NewsAdapter.DIFF_CALLBACK.areItemsTheSame(oldList.get(oldPosition),
+                        newList.get(newPosition));
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldPosition, int newPosition) {
+                return NewsAdapter.DIFF_CALLBACK.areContentsTheSame(oldList.get(oldPosition),
+                        newList.get(newPosition));
+            }
+        });
+
+        List<String> updates = new ArrayList<>();
+        result.dispatchUpdatesTo(new ListUpdateCallback() {
+            @Override
+            public void onInserted(int position, int count) {
+                updates.add("inserted " + count + " at " + position);
+            }
+
+            @Override
+            public void onRemoved(int position, int count) {
+                updates.add("removed " + count + " at " + position);
+            }
+
+            @Override
+            public void onMoved(int fromPosition, int toPosition) {
+                updates.add("moved " + fromPosition + " to " + toPosition);
+            }
+
+            @Override
+            public void onChanged(int position, int count, @Nullable Object payload) {
+                updates.add("changed " + count + " at " + position);
+            }
+        });
+        return String.join(", ", updates);
+    }
+
+    /**
+     * @return New {@link News} items numbered from "from" (inclusive) to "to" (exclusive).
+     */
+    private static ArrayList<News> createNews(int from, int to) {
+        ArrayList<News> news = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            News item = new News();
+            item.setArticleURL("https://www.theguardian.com/world/story-" + i);
+            item.setHeadline("Headline " + i);
+            item.setSectionName("World news");
+            item.setByLine("Reporter " + i);
+            news.add(item);
+        }
+        return news;
+    }
+}